@@ -0,0 +1,94 @@
+package com.fiap.techChallenge.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+
+/**
+ * Codificação e decodificação de 500 produtos em JSON, CBOR e Smile com o mesmo ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final int SIZE = 500;
+    private static final TypeReference<List<ProductResponseDTO>> PRODUCTS = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private List<ProductResponseDTO> products;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        mapper = switch (format) {
+            case "CBOR" -> json.copyWith(new CBORFactory());
+            case "SMILE" -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+
+        Category[] categories = Category.values();
+        products = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            products.add(new ProductResponseDTO(UUID.randomUUID(), "Produto " + i,
+                    "Descrição do produto " + i + " com ingredientes e observações",
+                    BigDecimal.valueOf(1000 + i % 5000, 2), categories[i % categories.length].name(),
+                    "DISPONIVEL", "3f1a6c0e9b2d4e8f7a5c1b0d2e4f6a8b9c0d1e2f3a4b5c6d7e8f9a0b1c2d3e4f", 0L));
+        }
+
+        encoded = mapper.writeValueAsBytes(products);
+        System.out.printf("%n# %s: %d bytes (%d com gzip)%n", format, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> decode() throws IOException {
+        return mapper.readValue(encoded, PRODUCTS);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,171 @@
+package com.fiap.techChallenge.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techChallenge.RegistrationServiceApplication;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.ProductDataSourceImpl;
+import com.fiap.techChallenge._webApi.grpc.GrpcServer;
+import com.fiap.techChallenge._webApi.grpc.proto.CatalogGrpc;
+import com.fiap.techChallenge._webApi.grpc.proto.FindProductByIdRequest;
+import com.fiap.techChallenge._webApi.grpc.proto.GetProductsRequest;
+import com.fiap.techChallenge._webApi.grpc.proto.GetProductsResponse;
+import com.fiap.techChallenge._webApi.grpc.proto.Product;
+import com.fiap.techChallenge.core.application.dto.product.ProductBatchDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+
+/**
+ * Busca por ID e em lote de 50 produtos pelo REST (JSON) e pelo gRPC (protobuf), com a aplicação
+ * no loopback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcVsRestBenchmark {
+
+    private static final int SIZE = 1000;
+    private static final int BATCH = 50;
+    private static final TypeReference<ProductBatchDTO<ProductResponseDTO>> BATCH_RESPONSE = new TypeReference<>() {
+    };
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private HttpClient http;
+    private ManagedChannel channel;
+    private CatalogGrpc.CatalogBlockingStub stub;
+    private String baseUrl;
+    private List<UUID> ids;
+    private String batchJson;
+    private GetProductsRequest batchRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(RegistrationServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark-grpc;DB_CLOSE_DELAY=-1",
+                        "server.port=0", "grpc.server.port=0", "logging.level.root=WARN")
+                .run();
+
+        ids = seed(context.getBean(JdbcTemplate.class));
+        context.getBean(ProductDataSourceImpl.class).reloadCatalog();
+
+        objectMapper = context.getBean(ObjectMapper.class);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        channel = NettyChannelBuilder.forAddress("localhost", context.getBean(GrpcServer.class).getPort())
+                .usePlaintext()
+                .build();
+        stub = CatalogGrpc.newBlockingStub(channel);
+
+        List<UUID> batch = ids.subList(0, BATCH);
+        batchJson = objectMapper.writeValueAsString(Map.of("ids", batch));
+        batchRequest = GetProductsRequest.newBuilder()
+                .addAllIds(batch.stream().map(UUID::toString).toList())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponseDTO findById_rest() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/product/find-by-id/" + randomId()))
+                .GET()
+                .build();
+        return objectMapper.readValue(send(request), ProductResponseDTO.class);
+    }
+
+    @Benchmark
+    public Product findById_grpc() {
+        return stub.findProductById(FindProductByIdRequest.newBuilder().setId(randomId().toString()).build());
+    }
+
+    @Benchmark
+    public ProductBatchDTO<ProductResponseDTO> getProducts_rest() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/product/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(batchJson))
+                .build();
+        return objectMapper.readValue(send(request), BATCH_RESPONSE);
+    }
+
+    @Benchmark
+    public GetProductsResponse getProducts_grpc() {
+        return stub.getProducts(batchRequest);
+    }
+
+    private byte[] send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private UUID randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static List<UUID> seed(JdbcTemplate jdbcTemplate) {
+        Category[] categories = Category.values();
+        List<Object[]> rows = new ArrayList<>(SIZE);
+        List<UUID> ids = new ArrayList<>(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            UUID id = UUID.randomUUID();
+            String name = "Produto " + i;
+            ids.add(id);
+            rows.add(new Object[]{id, name, ProductNameKey.of(name), "Descrição do produto " + i,
+                    BigDecimal.valueOf(1000 + i % 5000, 2), categories[i % categories.length].name(),
+                    "DISPONIVEL", "produto-" + i + ".png"});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (id, name, name_key, description, price, category, status, image) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+
+        return ids;
+    }
+}
@@ -0,0 +1,176 @@
+package com.fiap.techChallenge.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fiap.techChallenge.RegistrationServiceApplication;
+import com.fiap.techChallenge._webApi.data.catalog.ProductCatalogSnapshot;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.JpaProductRepository;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.ProductDataSourceImpl;
+import com.fiap.techChallenge._webApi.mappers.ProductMapper;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+/**
+ * Compara as listagens servidas pelo índice em memória com as consultas JPA
+ * equivalentes, sobre um H2 em memória populado com o tamanho informado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductCatalogBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private ProductDataSourceImpl dataSource;
+    private JpaProductRepository repository;
+    private TransactionTemplate readOnly;
+    private ProductCatalogSnapshot snapshot;
+    private ProductDTO changed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RegistrationServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark-" + size + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+
+        dataSource = context.getBean(ProductDataSourceImpl.class);
+        repository = context.getBean(JpaProductRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<ProductDTO> products = seed(context.getBean(JdbcTemplate.class));
+        snapshot = ProductCatalogSnapshot.of(1, products);
+
+        ProductDTO first = products.get(0);
+        changed = new ProductDTO(first.id(), first.name() + " (novo)", first.description(), first.price(),
+                first.category(), ProductStatus.INDISPONIVEL, first.image());
+
+        // O cardápio é carregado na inicialização, antes da carga via JDBC.
+        dataSource.reloadCatalog();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void listAll_index(Blackhole blackhole) {
+        consume(dataSource.list(), blackhole);
+    }
+
+    @Benchmark
+    public void listAll_jpa(Blackhole blackhole) {
+        consume(readOnly.execute(status -> toDTO(repository.findAllByOrderByCategoryAscNameAsc())), blackhole);
+    }
+
+    @Benchmark
+    public void listAvailables_index(Blackhole blackhole) {
+        consume(dataSource.listByStatus(ProductStatus.DISPONIVEL), blackhole);
+    }
+
+    @Benchmark
+    public void listAvailables_jpa(Blackhole blackhole) {
+        consume(readOnly.execute(status ->
+                toDTO(repository.findByStatusOrderByCategoryAscNameAsc(ProductStatus.DISPONIVEL))), blackhole);
+    }
+
+    @Benchmark
+    public void listAvailablesByCategory_index(Blackhole blackhole) {
+        consume(dataSource.listByStatusAndCategory(ProductStatus.DISPONIVEL, Category.BEBIDA), blackhole);
+    }
+
+    @Benchmark
+    public void listAvailablesByCategory_jpa(Blackhole blackhole) {
+        consume(readOnly.execute(status -> toDTO(repository
+                .findByStatusAndCategoryOrderByCategoryAscNameAsc(ProductStatus.DISPONIVEL, Category.BEBIDA))), blackhole);
+    }
+
+    @Benchmark
+    public List<Category> listAvailableCategories_index() {
+        return dataSource.listAvailableCategorys();
+    }
+
+    @Benchmark
+    public List<Category> listAvailableCategories_jpa() {
+        return readOnly.execute(status -> repository.listCategorysByProductStatus(ProductStatus.DISPONIVEL));
+    }
+
+    @Benchmark
+    public ProductCatalogSnapshot applyUpdate_index() {
+        return snapshot.withProduct(changed);
+    }
+
+    private List<ProductDTO> seed(JdbcTemplate jdbcTemplate) {
+        Category[] categories = Category.values();
+        ProductStatus[] statuses = ProductStatus.values();
+        List<ProductDTO> products = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            products.add(new ProductDTO(UUID.randomUUID(), "Produto " + i, "Descrição do produto " + i,
+                    BigDecimal.valueOf(1000 + i % 5000, 2), categories[i % categories.length],
+                    statuses[i % 3 == 0 ? 1 : 0], "produto-" + i + ".png"));
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (id, name, name_key, description, price, category, status, image) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                products, 1000, (statement, product) -> {
+                    statement.setObject(1, product.id());
+                    statement.setString(2, product.name());
+                    statement.setString(3, ProductNameKey.of(product.name()));
+                    statement.setString(4, product.description());
+                    statement.setBigDecimal(5, product.price());
+                    statement.setString(6, product.category().name());
+                    statement.setString(7, product.status().name());
+                    statement.setString(8, product.image());
+                });
+
+        return products;
+    }
+
+    private static List<ProductDTO> toDTO(List<ProductEntity> entities) {
+        return entities.stream().map(ProductMapper::toDTO).toList();
+    }
+
+    private static void consume(List<ProductDTO> products, Blackhole blackhole) {
+        for (ProductDTO product : products) {
+            blackhole.consume(product);
+        }
+    }
+}
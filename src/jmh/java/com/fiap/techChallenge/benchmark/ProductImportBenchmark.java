@@ -0,0 +1,125 @@
+package com.fiap.techChallenge.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fiap.techChallenge.RegistrationServiceApplication;
+import com.fiap.techChallenge._webApi.controller.product.ProductImportReader;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.ProductDataSourceImpl;
+import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportReportDTO;
+import com.fiap.techChallenge.core.controller.product.ProductController;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+
+/**
+ * Carga de {@code size} produtos: importação em lotes de um CSV contra uma criação por produto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProductImportBenchmark {
+
+    @Param({"5000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private ProductDataSourceImpl dataSource;
+    private ProductController controller;
+    private ProductImportReader reader;
+    private TransactionTemplate transaction;
+    private byte[] csv;
+    private List<CreateProductInputDTO> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RegistrationServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:import-" + size + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        dataSource = context.getBean(ProductDataSourceImpl.class);
+        controller = ProductController.build(context.getBean(CompositeDataSource.class));
+        reader = context.getBean(ProductImportReader.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Category[] categories = Category.values();
+        StringBuilder body = new StringBuilder("name,description,price,category,status,image\n");
+        products = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            CreateProductInputDTO product = CreateProductInputDTO.builder()
+                    .name("Produto " + i)
+                    .description("Descrição " + i)
+                    .price(BigDecimal.valueOf(1000 + i % 5000, 2))
+                    .category(categories[i % categories.length])
+                    .status(ProductStatus.DISPONIVEL)
+                    .image("produto-" + i + ".png")
+                    .build();
+            products.add(product);
+            body.append(product.name()).append(',').append(product.description()).append(',')
+                    .append(product.price()).append(',').append(product.category()).append(',')
+                    .append(product.status()).append(',').append(product.image()).append('\n');
+        }
+
+        csv = body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Cada medição parte do cardápio vazio: só inserções, sem atualizações.
+    @Setup(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM product");
+        dataSource.reloadCatalog();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductImportReportDTO import_batch() {
+        return controller.importProducts(reader.read(new ByteArrayInputStream(csv), ProductImportReader.TEXT_CSV));
+    }
+
+    @Benchmark
+    public int create_perRow() {
+        for (CreateProductInputDTO product : products) {
+            transaction.executeWithoutResult(status -> controller.create(product));
+        }
+
+        return products.size();
+    }
+}
@@ -0,0 +1,126 @@
+package com.fiap.techChallenge.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fiap.techChallenge.RegistrationServiceApplication;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.ProductDataSourceImpl;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compara a busca por nome no índice em memória com um {@code LIKE '%termo%'}
+ * no banco. Medido por amostragem para que o JMH informe os percentis (p99).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSearchBenchmark {
+
+    private static final String[] NAMES = {"Pão de Queijo", "Açaí na Tigela", "Suco de Maracujá", "X-Burger",
+            "Batata Frita", "Café Expresso", "Pastel de Carne", "Coxinha", "Pudim", "Limonada Suíça"};
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private ProductDataSourceImpl dataSource;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RegistrationServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:search-" + size + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+
+        dataSource = context.getBean(ProductDataSourceImpl.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        seed(context.getBean(JdbcTemplate.class));
+        dataSource.reloadCatalog();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductDTO> searchPrefix_index() {
+        return dataSource.search("pao de", 10);
+    }
+
+    @Benchmark
+    public List<ProductDTO> searchWord_index() {
+        return dataSource.search("maracuja", 10);
+    }
+
+    @Benchmark
+    public List<ProductDTO> searchTypo_index() {
+        return dataSource.search("maracjua", 10);
+    }
+
+    @Benchmark
+    public List<ProductEntity> searchWord_like() {
+        // Sem remover acentos no banco, o termo precisa vir com a grafia exata.
+        return readOnly.execute(status -> entityManager
+                .createQuery("SELECT p FROM ProductEntity p WHERE lower(p.name) LIKE :term ORDER BY p.name",
+                        ProductEntity.class)
+                .setParameter("term", "%maracujá%")
+                .setMaxResults(10)
+                .getResultList());
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Category[] categories = Category.values();
+        List<Object[]> products = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            String name = NAMES[i % NAMES.length] + " " + i;
+            products.add(new Object[]{UUID.randomUUID(), name, ProductNameKey.of(name), "Descrição " + i,
+                    BigDecimal.valueOf(1000 + i % 5000, 2), categories[i % categories.length].name(),
+                    ProductStatus.DISPONIVEL.name(), "produto-" + i + ".png"});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (id, name, name_key, description, price, category, status, image) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                products);
+    }
+}
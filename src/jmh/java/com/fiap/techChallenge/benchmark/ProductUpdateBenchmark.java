@@ -0,0 +1,185 @@
+package com.fiap.techChallenge.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fiap.techChallenge.RegistrationServiceApplication;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.JpaProductRepository;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.ProductChangeLog;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.ProductDataSourceImpl;
+import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.UpdateProductInputDTO;
+import com.fiap.techChallenge.core.controller.product.ProductController;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import com.fiap.techChallenge.core.domain.exceptions.product.ProductVersionConflictException;
+import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Edição concorrente de 1000 produtos: o UPDATE versionado contra o fluxo anterior (SELECT +
+ * UPDATE).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ProductUpdateBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+    private ProductController controller;
+    private JpaProductRepository repository;
+    private ProductChangeLog changeLog;
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private List<UUID> ids;
+
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RegistrationServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark-update;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.root=WARN")
+                .run();
+
+        controller = ProductController.build(context.getBean(CompositeDataSource.class));
+        repository = context.getBean(JpaProductRepository.class);
+        changeLog = context.getBean(ProductChangeLog.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        ids = seed(context.getBean(JdbcTemplate.class));
+        context.getBean(ProductDataSourceImpl.class).reloadCatalog();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        statistics.clear();
+        updates.reset();
+        conflicts.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounters() {
+        System.out.printf("%n# %.2f comandos por edição, %d conflitos em %d edições%n",
+                (double) statistics.getPrepareStatementCount() / updates.sum(), conflicts.sum(), updates.sum());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponseDTO update_versioned() {
+        ProductResponseDTO product = controller.findById(randomId());
+
+        try {
+            return transaction.execute(status -> controller.update(UpdateProductInputDTO.builder()
+                    .id(product.id())
+                    .name(product.name())
+                    .description(product.description())
+                    .price(randomPrice())
+                    .category(Category.valueOf(product.category()))
+                    .status(ProductStatus.valueOf(product.status()))
+                    .image(product.image())
+                    .build()));
+        } catch (ProductVersionConflictException e) {
+            conflicts.increment();
+            return null;
+        } finally {
+            updates.increment();
+        }
+    }
+
+    // Fluxo anterior: o incremento da sequência, a leitura da entidade e o UPDATE no flush.
+    @Benchmark
+    public ProductEntity update_merge() {
+        UUID id = randomId();
+
+        try {
+            return transaction.execute(status -> {
+                long changeSeq = changeLog.next();
+                ProductEntity entity = repository.findById(id).orElseThrow();
+                entity.setPrice(randomPrice());
+                entity.setChangeSeq(changeSeq);
+                return repository.saveAndFlush(entity);
+            });
+        } catch (OptimisticLockingFailureException e) {
+            conflicts.increment();
+            return null;
+        } finally {
+            updates.increment();
+        }
+    }
+
+    private UUID randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static BigDecimal randomPrice() {
+        return BigDecimal.valueOf(1000 + ThreadLocalRandom.current().nextInt(5000), 2);
+    }
+
+    private static List<UUID> seed(JdbcTemplate jdbcTemplate) {
+        Category[] categories = Category.values();
+        List<Object[]> rows = new ArrayList<>(SIZE);
+        List<UUID> ids = new ArrayList<>(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            UUID id = UUID.randomUUID();
+            String name = "Produto " + i;
+            ids.add(id);
+            rows.add(new Object[]{id, name, ProductNameKey.of(name), "Descrição do produto " + i,
+                    BigDecimal.valueOf(1000 + i % 5000, 2), categories[i % categories.length].name(),
+                    "DISPONIVEL", "produto-" + i + ".png"});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (id, name, name_key, description, price, category, status, image) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows);
+
+        return ids;
+    }
+}
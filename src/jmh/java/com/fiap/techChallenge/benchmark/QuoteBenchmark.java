@@ -0,0 +1,131 @@
+package com.fiap.techChallenge.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fiap.techChallenge.RegistrationServiceApplication;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.ProductDataSourceImpl;
+import com.fiap.techChallenge.core.application.dto.product.CartItemDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteLineDTO;
+import com.fiap.techChallenge.core.application.services.product.ProductAvailabilityService;
+import com.fiap.techChallenge.core.controller.product.ProductController;
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+import com.fiap.techChallenge.core.gateways.product.ProductGatewayImpl;
+import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+
+/**
+ * Orçamento de 10 itens: consulta em lote com centavos em {@code long} contra busca item a item
+ * somando {@link BigDecimal}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class QuoteBenchmark {
+
+    private static final int SIZE = 1000;
+    private static final int CART_SIZE = 10;
+
+    private ConfigurableApplicationContext context;
+    private ProductController controller;
+    private ProductAvailabilityService service;
+    private List<CartItemDTO> cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RegistrationServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:quote;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+
+        List<UUID> ids = seed(context.getBean(JdbcTemplate.class));
+        context.getBean(ProductDataSourceImpl.class).reloadCatalog();
+
+        CompositeDataSource compositeDataSource = context.getBean(CompositeDataSource.class);
+        ProductGateway gateway = new ProductGatewayImpl(compositeDataSource);
+        controller = ProductController.build(compositeDataSource);
+        service = new ProductAvailabilityService(gateway);
+
+        cart = new ArrayList<>(CART_SIZE);
+        for (int i = 0; i < CART_SIZE; i++) {
+            cart.add(new CartItemDTO(ids.get(i * (SIZE / CART_SIZE)), 1 + i % 3));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public QuoteDTO quote_batch() {
+        return controller.quote(cart);
+    }
+
+    @Benchmark
+    public QuoteDTO quote_perItem() {
+        List<QuoteLineDTO> lines = new ArrayList<>(cart.size());
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (CartItemDTO item : cart) {
+            Product product = service.findAvailableProduct(item.productId());
+            BigDecimal lineTotal = product.getPrice().multiply(BigDecimal.valueOf(item.quantity()));
+            total = total.add(lineTotal);
+            lines.add(new QuoteLineDTO(product.getId(), product.getName(), item.quantity(), product.getPrice(), lineTotal));
+        }
+
+        return new QuoteDTO(true, lines, total, List.of(), List.of());
+    }
+
+    private List<UUID> seed(JdbcTemplate jdbcTemplate) {
+        Category[] categories = Category.values();
+        List<UUID> ids = new ArrayList<>(SIZE);
+        List<Object[]> products = new ArrayList<>(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            UUID id = UUID.randomUUID();
+            String name = "Produto " + i;
+            ids.add(id);
+            products.add(new Object[]{id, name, ProductNameKey.of(name), "Descrição " + i,
+                    BigDecimal.valueOf(1000 + i % 5000, 2), categories[i % categories.length].name(),
+                    ProductStatus.DISPONIVEL.name(), "produto-" + i + ".png"});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (id, name, name_key, description, price, category, status, image) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                products);
+
+        return ids;
+    }
+}
@@ -0,0 +1,129 @@
+package com.fiap.techChallenge.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fiap.techChallenge.RegistrationServiceApplication;
+import com.fiap.techChallenge._webApi.data.persistence.entity.user.CustomerEntity;
+import com.fiap.techChallenge._webApi.data.persistence.repository.user.JpaCustomerRepository;
+import com.fiap.techChallenge._webApi.mappers.CustomerMapper;
+import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Leitura de clientes como entidades gerenciadas contra a projeção direto no DTO. Rode com
+ * {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadProjectionBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private JpaCustomerRepository repository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private UUID lookupId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RegistrationServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:projection-" + size + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+
+        repository = context.getBean(JpaCustomerRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<UUID> ids = seed(context.getBean(JdbcTemplate.class));
+        lookupId = ids.get(ids.size() / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void listNotAnonym_entity(Blackhole blackhole) {
+        consume(readOnly.execute(status -> entityManager
+                .createQuery("SELECT c FROM CustomerEntity c WHERE c.anonymous = false", CustomerEntity.class)
+                .getResultList().stream()
+                .map(CustomerMapper::customerEntityToDto)
+                .toList()), blackhole);
+    }
+
+    @Benchmark
+    public void listNotAnonym_projection(Blackhole blackhole) {
+        consume(readOnly.execute(status -> repository.findDtoByAnonymousFalse()), blackhole);
+    }
+
+    @Benchmark
+    public CustomerFullDTO findById_entity() {
+        return readOnly.execute(status -> CustomerMapper.customerEntityToDto(
+                entityManager.find(CustomerEntity.class, lookupId)));
+    }
+
+    @Benchmark
+    public CustomerFullDTO findById_projection() {
+        return readOnly.execute(status -> repository.findDtoById(lookupId).orElse(null));
+    }
+
+    private List<UUID> seed(JdbcTemplate jdbcTemplate) {
+        List<UUID> ids = new ArrayList<>(size);
+        List<Object[]> users = new ArrayList<>(size);
+        List<Object[]> customers = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            users.add(new Object[]{id, "Cliente " + i, "cliente" + i + "@email.com", String.format("%011d", i)});
+            customers.add(new Object[]{id, false});
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO \"user\" (id, name, email, cpf) VALUES (?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO user_customer (\"id\", anonymous) VALUES (?, ?)", customers);
+
+        return ids;
+    }
+
+    private static void consume(List<CustomerFullDTO> customers, Blackhole blackhole) {
+        for (CustomerFullDTO customer : customers) {
+            blackhole.consume(customer);
+        }
+    }
+}
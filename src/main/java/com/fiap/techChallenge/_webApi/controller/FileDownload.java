@@ -0,0 +1,111 @@
+package com.fiap.techChallenge._webApi.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Envia um arquivo com ETag e Range sem passar o conteúdo pela heap.
+ */
+@Component
+public class FileDownload {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Mesmo limite do DefaultServlet do Tomcat: abaixo disso escrever direto sai mais barato.
+    static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    public void write(Path file, MediaType contentType, String etag, CacheControl cacheControl,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = Files.size(file);
+        String quotedEtag = "\"" + etag + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, quotedEtag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), quotedEtag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = length;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (range != null && (ifRange == null || ifRange.equals(quotedEtag))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+
+                // Vários intervalos pediriam multipart; a especificação permite responder o arquivo inteiro.
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    if (start >= length) {
+                        throw new IllegalArgumentException("Intervalo fora do arquivo: " + range);
+                    }
+                    end = ranges.get(0).getRangeEnd(length) + 1;
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+        }
+
+        response.setContentType(contentType.toString());
+        response.setContentLengthLong(end - start);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || end == start) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && end - start >= SENDFILE_MIN_SIZE) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            for (long position = start; position < end; ) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String quotedEtag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*") || tag.equals(quotedEtag) || tag.equals("W/" + quotedEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+package com.fiap.techChallenge._webApi.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exportações escritas item a item na resposta, como array JSON ou NDJSON
+ * (uma linha por item), sem montar a lista em memória.
+ */
+@Component
+public class JsonExport {
+
+    private static final int FLUSH_EVERY = 256;
+
+    private final ObjectMapper objectMapper;
+
+    public JsonExport(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * NDJSON só quando pedido explicitamente no Accept; caso contrário array JSON.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String accept, String filename, Consumer<Consumer<T>> source) {
+        boolean ndjson = accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + filename + (ndjson ? ".ndjson" : ".json") + "\"")
+                .body(out -> write(out, ndjson, source));
+    }
+
+    <T> void write(OutputStream out, boolean ndjson, Consumer<Consumer<T>> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+            // Envia cabeçalhos e o início do corpo antes da primeira linha do banco.
+            generator.flush();
+
+            int[] written = {0};
+            try {
+                source.accept(item -> {
+                    try {
+                        generator.writeObject(item);
+                        if (ndjson) {
+                            generator.writeRaw('\n');
+                        }
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.fiap.techChallenge._webApi.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+
+/**
+ * Limites de página das listagens e o cabeçalho Link com o cursor da próxima
+ * página, mantendo o corpo como um array JSON.
+ */
+@Component
+public class Pagination {
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public Pagination(@Value("${pagination.default-size:50}") int defaultSize,
+                      @Value("${pagination.max-size:200}") int maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    // Tamanhos acima do máximo são reduzidos; zero ou negativo é rejeitado no caso de uso.
+    public PageRequestDTO request(String cursor, Integer size) {
+        return PageRequestDTO.builder()
+                .cursor(cursor == null || cursor.isBlank() ? null : cursor)
+                .size(size == null ? defaultSize : Math.min(size, maxSize))
+                .build();
+    }
+
+    public <T> ResponseEntity<List<T>> response(PageRequestDTO request, PageDTO<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .replaceQueryParam("size", request.size())
+                    .toUriString();
+            builder.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return builder.body(page.items());
+    }
+}
@@ -0,0 +1,132 @@
+package com.fiap.techChallenge._webApi.controller;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Seleção de campos das respostas ({@code ?fields=id,name,price}); os demais não são lidos nem
+ * serializados.
+ */
+public final class SparseFields {
+
+    public static final String PARAM = "fields";
+
+    private static final SparseFields ALL = new SparseFields(null);
+
+    private static final ClassValue<List<Component>> COMPONENTS = new ClassValue<>() {
+        @Override
+        protected List<Component> computeValue(Class<?> type) {
+            return Arrays.stream(type.getRecordComponents()).map(Component::of).toList();
+        }
+    };
+
+    private final Set<String> names;
+
+    private SparseFields(Set<String> names) {
+        this.names = names;
+    }
+
+    public static SparseFields all() {
+        return ALL;
+    }
+
+    /**
+     * Valida os nomes contra os campos do DTO e os normaliza na ordem dele,
+     * de modo que {@code name,id} e {@code id,name} sejam a mesma seleção.
+     */
+    public static SparseFields of(String fields, Class<? extends Record> type) {
+        if (fields == null || fields.isBlank()) {
+            return all();
+        }
+
+        List<Component> components = COMPONENTS.get(type);
+        Set<String> requested = new LinkedHashSet<>();
+
+        for (String field : fields.split(",")) {
+            String name = field.strip();
+            if (!name.isEmpty()) {
+                requested.add(name);
+            }
+        }
+
+        for (String name : requested) {
+            if (components.stream().noneMatch(component -> component.name().equals(name))) {
+                throw new IllegalArgumentException("Campo inválido em fields: '" + name + "'. Campos aceitos: "
+                        + components.stream().map(Component::name).toList());
+            }
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        components.stream().map(Component::name).filter(requested::contains).forEach(names::add);
+
+        return names.isEmpty() ? ALL : new SparseFields(names);
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /**
+     * Forma canônica da seleção, para compor chaves de cache.
+     */
+    public String key() {
+        return isAll() ? "" : String.join(",", names);
+    }
+
+    /**
+     * Aplica a seleção a um DTO ou a cada item de uma lista.
+     */
+    public Object apply(Object body) {
+        if (isAll()) {
+            return body;
+        }
+
+        if (body instanceof List<?> items) {
+            return items.stream().map(this::select).toList();
+        }
+
+        return select(body);
+    }
+
+    // Campos que o DTO não tem, como cpf em um cliente anônimo, ficam de fora.
+    private Object select(Object item) {
+        if (!(item instanceof Record)) {
+            return item;
+        }
+
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (Component component : COMPONENTS.get(item.getClass())) {
+            if (names.contains(component.name())) {
+                selected.put(component.name(), component.get(item));
+            }
+        }
+
+        return selected;
+    }
+
+    private record Component(String name, MethodHandle accessor) {
+
+        static Component of(RecordComponent component) {
+            try {
+                return new Component(component.getName(), MethodHandles.publicLookup().unreflect(component.getAccessor()));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Object get(Object item) {
+            try {
+                return accessor.invoke(item);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
 import com.fiap.techChallenge.core.domain.exceptions.product.NameAlreadyRegisteredException;
 import com.fiap.techChallenge.core.domain.exceptions.product.ProductNotAvaiableException;
+import com.fiap.techChallenge.core.domain.exceptions.product.ProductVersionConflictException;
 import com.fiap.techChallenge.core.domain.exceptions.user.UserAlreadyExistsException;
 import org.hibernate.PropertyValueException;
 import org.springframework.http.HttpStatus;
@@ -41,6 +42,16 @@ public class GlobalHandlerException {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(ProductVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(ProductVersionConflictException ex) {
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT,
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(SQLIntegrityConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleSQLIntegrityConstraintViolationException(SQLIntegrityConstraintViolationException ex) {
 
@@ -0,0 +1,244 @@
+package com.fiap.techChallenge._webApi.controller.product;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+
+/**
+ * Corpos das listagens já serializados e comprimidos, gerados uma vez por versão do catálogo.
+ */
+@Component
+public class CatalogResponseCache {
+
+    public enum Encoding {
+        GZIP("gzip"),
+        DEFLATE("deflate"),
+        IDENTITY("identity");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        public String token() {
+            return token;
+        }
+
+        // Preferência fixa gzip > deflate > identity, respeitando q=0.
+        public static Encoding negotiate(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isBlank()) {
+                return IDENTITY;
+            }
+
+            boolean gzip = false;
+            boolean deflate = false;
+
+            for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+                String[] params = part.split(";");
+                String coding = params[0].trim();
+
+                if (isRejected(params)) {
+                    continue;
+                }
+
+                gzip |= coding.equals("gzip") || coding.equals("*");
+                deflate |= coding.equals("deflate") || coding.equals("*");
+            }
+
+            return gzip ? GZIP : deflate ? DEFLATE : IDENTITY;
+        }
+
+        private static boolean isRejected(String[] params) {
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Formatos do corpo. Os binários atendem as chamadas entre serviços e
+     * não são comprimidos: já saem bem menores que o JSON.
+     */
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        // Maior q vence e, no empate, o que vem antes; curingas e Accept inválido ficam com JSON.
+        public static Format negotiate(String accept) {
+            if (accept == null || accept.isBlank()) {
+                return JSON;
+            }
+
+            List<MediaType> types;
+            try {
+                types = MediaType.parseMediaTypes(accept);
+            } catch (InvalidMediaTypeException e) {
+                return JSON;
+            }
+
+            Format best = JSON;
+            double bestQuality = -1;
+
+            for (MediaType type : types) {
+                Format format = type.equalsTypeAndSubtype(CBOR.mediaType) ? CBOR
+                        : type.equalsTypeAndSubtype(SMILE.mediaType) ? SMILE
+                        : type.includes(MediaType.APPLICATION_JSON) ? JSON
+                        : null;
+
+                if (format != null && type.getQualityValue() > 0 && type.getQualityValue() > bestQuality) {
+                    best = format;
+                    bestQuality = type.getQualityValue();
+                }
+            }
+
+            return best;
+        }
+    }
+
+    public static final class Body {
+
+        private final long epoch;
+        private final long version;
+        private final Map<Encoding, byte[]> encoded;
+        private final Object value;
+        private final Map<Format, ObjectMapper> binaryMappers;
+        private final Map<Format, byte[]> binary = new ConcurrentHashMap<>();
+
+        private Body(CatalogVersionDTO version, Map<Encoding, byte[]> encoded, Object value,
+                     Map<Format, ObjectMapper> binaryMappers) {
+            this.epoch = version.epoch();
+            this.version = version.version();
+            this.encoded = encoded;
+            this.value = value;
+            this.binaryMappers = binaryMappers;
+        }
+
+        public byte[] bytes(Encoding encoding) {
+            return encoded.get(encoding);
+        }
+
+        /**
+         * Corpo no formato pedido. Os binários são gerados na primeira
+         * requisição que os pede e ficam nesta mesma entrada até a próxima versão.
+         */
+        public byte[] bytes(Format format) {
+            if (format == Format.JSON) {
+                return encoded.get(Encoding.IDENTITY);
+            }
+
+            return binary.computeIfAbsent(format, f -> {
+                try {
+                    return binaryMappers.get(f).writeValueAsBytes(value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        // Um corpo mais novo que a versão pedida também serve: nunca é mais antigo que a ETag.
+        private boolean covers(CatalogVersionDTO other) {
+            return epoch == other.epoch() && version >= other.version();
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Map<Format, ObjectMapper> binaryMappers = new EnumMap<>(Format.class);
+    private final Map<String, Body> bodies = new ConcurrentHashMap<>();
+
+    // Cópias do ObjectMapper da aplicação: os mesmos módulos e configurações, só muda o formato.
+    public CatalogResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.binaryMappers.put(Format.CBOR, objectMapper.copyWith(new CBORFactory()));
+        this.binaryMappers.put(Format.SMILE, objectMapper.copyWith(new SmileFactory()));
+    }
+
+    /**
+     * Corpo da chave na versão informada, montado uma única vez quando a versão em cache ficou
+     * para trás.
+     */
+    public Body get(String key, CatalogVersionDTO version, Supplier<?> value) {
+        Body body = bodies.get(key);
+
+        if (body != null && body.covers(version)) {
+            return body;
+        }
+
+        return bodies.compute(key, (k, current) ->
+                current != null && current.covers(version) ? current : encode(version, value.get()));
+    }
+
+    // Compressão máxima: o custo é pago uma vez por versão.
+    private Body encode(CatalogVersionDTO version, Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+
+            Map<Encoding, byte[]> encoded = new EnumMap<>(Encoding.class);
+            encoded.put(Encoding.IDENTITY, json);
+            encoded.put(Encoding.GZIP, compress(json, out -> new GZIPOutputStream(out) {{
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }}));
+            encoded.put(Encoding.DEFLATE, compress(json, out -> new DeflaterOutputStream(out) {{
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }}));
+
+            return new Body(version, encoded, value, binaryMappers);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface Compressor {
+        OutputStream wrap(OutputStream out) throws IOException;
+    }
+
+    private static byte[] compress(byte[] json, Compressor compressor) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+
+        try (OutputStream out = compressor.wrap(buffer)) {
+            out.write(json);
+        }
+
+        return buffer.toByteArray();
+    }
+}
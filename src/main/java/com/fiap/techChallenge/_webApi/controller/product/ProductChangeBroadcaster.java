@@ -0,0 +1,306 @@
+package com.fiap.techChallenge._webApi.controller.product;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangeDTO;
+import com.fiap.techChallenge.core.interfaces.ProductChangePublisher;
+
+/**
+ * Envia as alterações do cardápio aos quiosques via SSE e aos demais canais por
+ * {@link #listen(Consumer)}. Quiosque lento é desconectado e retoma pelo Last-Event-ID.
+ */
+@Component
+public class ProductChangeBroadcaster implements ProductChangePublisher {
+
+    public static final String RESYNC_EVENT = "RESYNC";
+
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeBroadcaster.class);
+
+    record Event(long sequence, String id, Set<DataWithMediaType> data) {
+    }
+
+    private final long epoch = System.currentTimeMillis();
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final long streamTimeout;
+
+    private final History history;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Consumer<ProductChangeDTO>> listeners = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            runnable -> daemon(runnable, "product-changes-heartbeat"));
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+
+    private final Object dispatchLock = new Object();
+
+    private long sequence;
+
+    public ProductChangeBroadcaster(ObjectMapper objectMapper,
+                                    @Value("${product.changes.history-size:1024}") int historySize,
+                                    @Value("${product.changes.subscriber-queue:64}") int queueCapacity,
+                                    @Value("${product.changes.senders:4}") int senders,
+                                    @Value("${product.changes.heartbeat:15s}") Duration heartbeat,
+                                    @Value("${product.changes.stream-timeout:30m}") Duration streamTimeout) {
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.streamTimeout = streamTimeout.toMillis();
+        this.history = new History(historySize);
+        this.senders = Executors.newFixedThreadPool(senders, runnable -> daemon(runnable, "product-changes-sender"));
+
+        long interval = heartbeat.toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(ProductChangeDTO change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(change);
+            }
+        });
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout);
+        Subscriber subscriber = new Subscriber(emitter);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            List<Event> missed = lastEventId == null ? List.of() : eventsAfter(lastEventId);
+
+            // Sem histórico suficiente (ou mais do que cabe na fila): o quiosque recarrega o cardápio.
+            if (missed == null || missed.size() >= queueCapacity) {
+                subscriber.offer(resync());
+            } else {
+                missed.forEach(event -> subscriber.offer(event.data()));
+            }
+
+            subscribers.add(subscriber);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * Registra quem recebe cada alteração confirmada; roda na thread que publica e não pode
+     * bloquear. O retorno cancela o registro.
+     */
+    public Runnable listen(Consumer<ProductChangeDTO> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Eventos posteriores ao ID informado, ou {@code null} quando o ID não pode
+     * ser retomado (outra instância, formato inválido ou já fora do histórico).
+     */
+    synchronized List<Event> eventsAfter(String lastEventId) {
+        long after = parseSequence(lastEventId);
+
+        if (after < 0 || after > sequence || after < sequence - history.size()) {
+            return null;
+        }
+
+        List<Event> missed = new ArrayList<>();
+        for (Event event : history) {
+            if (event.sequence() > after) {
+                missed.add(event);
+            }
+        }
+
+        return missed;
+    }
+
+    synchronized String lastEventId() {
+        return epoch + "-" + sequence;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Antes do desligamento gracioso do servidor, que esperaria as conexões abertas.
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    // O dispatchLock mantém a ordem de entrega aos listeners sem segurar o monitor que o SSE usa para retomar.
+    void broadcast(ProductChangeDTO change) {
+        String json = toJson(change);
+
+        synchronized (dispatchLock) {
+            synchronized (this) {
+                sequence++;
+
+                String id = epoch + "-" + sequence;
+                Event event = new Event(sequence, id, SseEmitter.event()
+                        .id(id)
+                        .name(change.type().name())
+                        .data(json, MediaType.APPLICATION_JSON)
+                        .build());
+
+                history.add(event);
+                subscribers.forEach(subscriber -> subscriber.offer(event.data()));
+            }
+
+            for (Consumer<ProductChangeDTO> listener : List.copyOf(listeners)) {
+                try {
+                    listener.accept(change);
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao repassar alteração do cardápio a um listener", e);
+                }
+            }
+        }
+    }
+
+    private Set<DataWithMediaType> resync() {
+        return SseEmitter.event()
+                .id(lastEventId())
+                .name(RESYNC_EVENT)
+                .data("{}", MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private void sendHeartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(heartbeat));
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.indexOf('-');
+
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(String.valueOf(epoch))) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String toJson(ProductChangeDTO change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Histórico circular dos últimos eventos, usado para retomar conexões.
+     */
+    private static final class History extends ArrayDeque<Event> {
+
+        private final int capacity;
+
+        private History(int capacity) {
+            super(capacity);
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean add(Event event) {
+            if (size() == capacity) {
+                removeFirst();
+            }
+            return super.add(event);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> data) {
+            if (!queue.offer(data)) {
+                drop();
+                return;
+            }
+
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> data;
+                while ((data = queue.poll()) != null) {
+                    emitter.send(data);
+                }
+            } catch (IOException | IllegalStateException e) {
+                drop();
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        // Consumidor lento ou desconectado: libera a fila e encerra a conexão.
+        private void drop() {
+            if (subscribers.remove(this)) {
+                queue.clear();
+                emitter.complete();
+            }
+        }
+    }
+}
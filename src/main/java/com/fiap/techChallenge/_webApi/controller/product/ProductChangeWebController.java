@@ -0,0 +1,50 @@
+package com.fiap.techChallenge._webApi.controller.product;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesResponseDTO;
+import com.fiap.techChallenge.core.controller.product.ProductController;
+import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/product/changes")
+@Tag(name = "Product Changes", description = "Alterações do cardápio para os quiosques")
+public class ProductChangeWebController {
+
+    private final ProductController productController;
+    private final ProductChangeBroadcaster broadcaster;
+
+    public ProductChangeWebController(CompositeDataSource compositeDataSource, ProductChangeBroadcaster broadcaster) {
+        this.productController = ProductController.build(compositeDataSource);
+        this.broadcaster = broadcaster;
+    }
+
+    @Transactional(readOnly = true)
+    @GetMapping
+    @Operation(summary = "Changes",
+            description = "Lista os produtos incluídos ou alterados e os removidos depois da versão informada. "
+                    + "Com resync=true a resposta traz o cardápio completo, que substitui a cópia local")
+    public ResponseEntity<ProductChangesResponseDTO> changes(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(productController.listChangesSince(since));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream",
+            description = "Envia via SSE as inclusões, alterações, mudanças de disponibilidade e remoções de produtos. "
+                    + "Retoma a partir do cabeçalho Last-Event-ID; o evento RESYNC indica que o cardápio deve ser recarregado")
+    public SseEmitter stream(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return broadcaster.subscribe(lastEventId);
+    }
+
+}
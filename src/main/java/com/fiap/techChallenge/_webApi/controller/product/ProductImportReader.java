@@ -0,0 +1,206 @@
+package com.fiap.techChallenge._webApi.controller.product;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fiap.techChallenge._webApi.data.image.ImageBlobStore;
+import com.fiap.techChallenge._webApi.data.image.ImageSweeper;
+import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportRowDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+/**
+ * Lê o arquivo de importação (array JSON ou CSV) item a item. Imagens em base64 vão para o
+ * {@link ImageBlobStore}; as órfãs ficam para o {@link ImageSweeper}.
+ */
+@Component
+public class ProductImportReader {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
+
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+    private final ImageBlobStore images;
+
+    public ProductImportReader(ObjectMapper objectMapper, ImageBlobStore images) {
+        // Preço como BigDecimal desde o parser, sem passar por double e sem perder a escala.
+        this.jsonReader = objectMapper.reader()
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES);
+        this.csvReader = new CsvMapper()
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+                .readerFor(Map.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        this.images = images;
+    }
+
+    public Iterator<ProductImportRowDTO> read(InputStream body, MediaType contentType) {
+        try {
+            return TEXT_CSV.isCompatibleWith(contentType) ? csv(body) : json(body);
+        } catch (JsonProcessingException e) {
+            throw invalid(0, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Iterator<ProductImportRowDTO> json(InputStream body) throws IOException {
+        JsonParser parser = jsonReader.createParser(body);
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("O arquivo JSON deve conter um array de produtos");
+        }
+
+        return new Rows() {
+            @Override
+            ProductImportRowDTO next(long row) throws IOException {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    return null;
+                }
+
+                JsonNode node = jsonReader.readTree(parser);
+
+                if (!node.isObject()) {
+                    return ProductImportRowDTO.builder().row(row).error("Cada item deve ser um objeto").build();
+                }
+
+                return toRow(row, field -> node.hasNonNull(field) ? node.get(field).asText() : null);
+            }
+        };
+    }
+
+    private Iterator<ProductImportRowDTO> csv(InputStream body) throws IOException {
+        MappingIterator<Map<String, String>> records = csvReader.readValues(body);
+
+        return new Rows() {
+            @Override
+            ProductImportRowDTO next(long row) throws IOException {
+                if (!records.hasNextValue()) {
+                    return null;
+                }
+
+                Map<String, String> record = records.nextValue();
+                return toRow(row, record::get);
+            }
+        };
+    }
+
+    private ProductImportRowDTO toRow(long row, Function<String, String> field) {
+        String name = field.apply("name");
+
+        try {
+            CreateProductInputDTO product = CreateProductInputDTO.builder()
+                    .name(name)
+                    .description(field.apply("description"))
+                    .price(price(field.apply("price")))
+                    .category(value(Category.class, field.apply("category"), "Categoria inválida"))
+                    .status(value(ProductStatus.class, field.apply("status"), "Status inválido"))
+                    .image(images.store(field.apply("image")))
+                    .build();
+
+            return ProductImportRowDTO.builder().row(row).name(name).product(product).build();
+        } catch (IllegalArgumentException e) {
+            return ProductImportRowDTO.builder().row(row).name(name).error(e.getMessage()).build();
+        }
+    }
+
+    private static BigDecimal price(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        try {
+            return new BigDecimal(text.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Preço inválido: '" + text + "'");
+        }
+    }
+
+    private static <E extends Enum<E>> E value(Class<E> type, String text, String message) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Enum.valueOf(type, text.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(message + ": '" + text + "'");
+        }
+    }
+
+    private static IllegalArgumentException invalid(long row, JsonProcessingException e) {
+        String where = row == 0 ? "no início" : "no item " + row;
+        return new IllegalArgumentException("Arquivo de importação malformado " + where + ": "
+                + e.getOriginalMessage());
+    }
+
+    /**
+     * Iterador com uma linha de antecipação; numera os itens a partir de 1.
+     */
+    private abstract static class Rows implements Iterator<ProductImportRowDTO> {
+
+        private long row;
+        private ProductImportRowDTO next;
+        private boolean done;
+
+        abstract ProductImportRowDTO next(long row) throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = next(row + 1);
+                } catch (JsonProcessingException e) {
+                    throw invalid(row + 1, e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                if (next == null) {
+                    done = true;
+                } else {
+                    row++;
+                }
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public ProductImportRowDTO next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ProductImportRowDTO current = next;
+            next = null;
+            return current;
+        }
+    }
+}
@@ -1,30 +1,77 @@
 package com.fiap.techChallenge._webApi.controller.product;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fiap.techChallenge._webApi.controller.FileDownload;
+import com.fiap.techChallenge._webApi.controller.JsonExport;
+import com.fiap.techChallenge._webApi.controller.Pagination;
+import com.fiap.techChallenge._webApi.controller.SparseFields;
+import com.fiap.techChallenge._webApi.controller.product.CatalogResponseCache.Encoding;
+import com.fiap.techChallenge._webApi.controller.product.CatalogResponseCache.Format;
+import com.fiap.techChallenge._webApi.data.image.ImageBlobStore;
+import com.fiap.techChallenge._webApi.data.image.ImageRendition;
+import com.fiap.techChallenge._webApi.data.image.ImageRenditions;
 import com.fiap.techChallenge._webApi.dto.product.CreateProductDTO;
+import com.fiap.techChallenge._webApi.dto.product.FindProductsBatchDTO;
+import com.fiap.techChallenge._webApi.dto.product.QuoteRequestDTO;
+import com.fiap.techChallenge._webApi.dto.product.UpdateAvailabilityDTO;
 import com.fiap.techChallenge._webApi.dto.product.UpdateProductDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CartItemDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
 import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductBatchDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportReportDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductsAvailabilityDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteDTO;
 import com.fiap.techChallenge.core.application.dto.product.UpdateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.UpdateProductsAvailabilityInputDTO;
+import com.fiap.techChallenge.core.application.services.product.ProductAvailabilityService;
+import com.fiap.techChallenge.core.application.useCases.product.ImportProductsUseCase;
+import com.fiap.techChallenge.core.application.useCases.product.UpdateProductsAvailabilityUseCase;
 import com.fiap.techChallenge.core.controller.product.ProductController;
 import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
 import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+import com.fiap.techChallenge.core.interfaces.ProductChangePublisher;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -33,14 +80,32 @@ import jakarta.validation.Valid;
 public class ProductWebController {
 
     private final ProductController productController;
+    private final CatalogResponseCache responseCache;
+    private final Pagination pagination;
+    private final JsonExport jsonExport;
+    private final ProductImportReader importReader;
+    private final ImageBlobStore images;
+    private final ImageRenditions renditions;
+    private final FileDownload fileDownload;
 
-    public ProductWebController(CompositeDataSource compositeDataSource) {
-        this.productController = ProductController.build(compositeDataSource);
+    public ProductWebController(CompositeDataSource compositeDataSource, CatalogResponseCache responseCache,
+                                ProductChangePublisher changePublisher, Pagination pagination, JsonExport jsonExport,
+                                ProductImportReader importReader, ImageBlobStore images, ImageRenditions renditions,
+                                FileDownload fileDownload) {
+        this.productController = ProductController.build(compositeDataSource, changePublisher);
+        this.responseCache = responseCache;
+        this.pagination = pagination;
+        this.jsonExport = jsonExport;
+        this.importReader = importReader;
+        this.images = images;
+        this.renditions = renditions;
+        this.fileDownload = fileDownload;
     }
 
     @Transactional
     @PostMapping("/create")
-    @Operation(summary = "Create", description = "Cria um novo produto")
+    @Operation(summary = "Create", description = "Cria um novo produto. A imagem pode ser enviada como data URI "
+            + "em base64; o produto guarda só o hash e a imagem fica em /api/product/{id}/image")
     public ResponseEntity<ProductResponseDTO> create(@RequestBody @Valid CreateProductDTO dto) {
         return ResponseEntity.status(HttpStatus.CREATED).body(productController.create(
                 CreateProductInputDTO.builder()
@@ -49,14 +114,27 @@ public class ProductWebController {
                         .price(dto.price())
                         .category(dto.category())
                         .status(dto.status())
-                        .image(dto.image())
+                        .image(storeImage(dto.image()))
                         .build()
         ));
     }
 
+    // Sem @Transactional: cada lote é gravado e publicado na sua própria transação.
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, ProductImportReader.TEXT_CSV_VALUE})
+    @Operation(summary = "Import",
+            description = "Importa produtos de um array JSON ou de um CSV com cabeçalho "
+                    + "(name,description,price,category,status,image), lidos em streaming e gravados em lotes de "
+                    + ImportProductsUseCase.CHUNK_SIZE + ". Produtos com nome equivalente a um existente são "
+                    + "atualizados. Responde com as linhas recusadas e o motivo, numeradas a partir de 1")
+    public ResponseEntity<ProductImportReportDTO> importProducts(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                                 InputStream body) {
+        return ResponseEntity.ok(productController.importProducts(importReader.read(body, contentType)));
+    }
+
     @Transactional
     @PostMapping("/update")
-    @Operation(summary = "Update", description = "Atualiza um novo produto")
+    @Operation(summary = "Update", description = "Atualiza um produto. Com version (o campo devolvido nas consultas), "
+            + "a edição é recusada com 409 se o produto foi alterado depois dessa leitura")
     public ResponseEntity<ProductResponseDTO> update(@RequestBody @Valid UpdateProductDTO dto) {
         return ResponseEntity.status(HttpStatus.CREATED).body(productController.update(
                 UpdateProductInputDTO.builder()
@@ -66,7 +144,8 @@ public class ProductWebController {
                         .price(dto.price())
                         .category(dto.category())
                         .status(dto.status())
-                        .image(dto.image())
+                        .image(storeImage(dto.image()))
+                        .version(dto.version())
                         .build()
         ));
     }
@@ -74,47 +153,160 @@ public class ProductWebController {
     @GetMapping("/find-by-id/{id}")
     @Operation(summary = "Find By ID",
             description = "Encontra um produto pelo ID Informado")
-    public ResponseEntity<ProductResponseDTO> findById(@PathVariable UUID id) {
-        return ResponseEntity.ok(productController.findById(id));
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = ProductResponseDTO.class)))
+    public ResponseEntity<Object> findById(@PathVariable UUID id,
+                                           @RequestParam(name = SparseFields.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(fields(fields).apply(productController.findById(id)));
+    }
+
+    @GetMapping("/{id}/image")
+    @Operation(summary = "Image",
+            description = "Envia a imagem do produto, com suporte a Range. Com ?v=<hash do campo image> a URL "
+                    + "muda junto com a imagem e a resposta pode ficar em cache indefinidamente. Com size=THUMBNAIL "
+                    + "(160px) ou KIOSK (480px) envia a versão reduzida; enquanto ela é gerada, envia a original")
+    public void image(@PathVariable UUID id, @RequestParam(name = "v", required = false) String version,
+                      @RequestParam(required = false) ImageRendition size,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String hash = productController.findById(id).image();
+        Path file = images.find(hash);
+
+        if (file == null) {
+            throw new EntityNotFoundException("Imagem do produto");
+        }
+
+        Path rendition = size == null ? null : images.find(hash, size);
+        if (size != null && rendition == null) {
+            renditions.request(hash);
+        }
+
+        // Sem a versão, ou com a original no lugar da reduzida, a mesma URL ainda vai mudar: o cliente revalida pelo ETag.
+        boolean immutable = hash.equals(version) && (size == null || rendition != null);
+        CacheControl cacheControl = immutable
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache().cachePublic();
+
+        if (rendition != null) {
+            file = rendition;
+            hash = hash + "-" + size.name().toLowerCase(Locale.ROOT);
+        }
+
+        fileDownload.write(file, images.contentType(file), hash, cacheControl, request, response);
     }
 
     @GetMapping("/find-by-name/{name}")
     @Operation(summary = "Find By Name", description = "Encontra um produto pelo Nome Informado")
-    public ResponseEntity<ProductResponseDTO> findByName(@PathVariable String name) {
-        return ResponseEntity.ok(productController.findByName(name));
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = ProductResponseDTO.class)))
+    public ResponseEntity<Object> findByName(@PathVariable String name,
+                                             @RequestParam(name = SparseFields.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(fields(fields).apply(productController.findByName(name)));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Find Batch",
+            description = "Consulta até " + ProductAvailabilityService.MAX_BATCH_SIZE + " produtos por ID de uma vez. "
+                    + "Responde os disponíveis em found e os IDs indisponíveis e inexistentes em unavailable e missing")
+    public ResponseEntity<ProductBatchDTO<ProductResponseDTO>> findBatch(@RequestBody @Valid FindProductsBatchDTO dto) {
+        return ResponseEntity.ok(productController.findBatch(dto.ids()));
+    }
+
+    @PostMapping("/quote")
+    @Operation(summary = "Quote",
+            description = "Orça um carrinho de até " + ProductAvailabilityService.MAX_BATCH_SIZE + " itens: confere a "
+                    + "disponibilidade de cada produto e calcula o total de cada linha e do pedido")
+    public ResponseEntity<QuoteDTO> quote(@RequestBody @Valid QuoteRequestDTO dto) {
+        return ResponseEntity.ok(productController.quote(dto.items().stream()
+                .map(item -> CartItemDTO.builder()
+                        .productId(item.productId())
+                        .quantity(item.quantity())
+                        .build())
+                .toList()));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search",
+            description = "Busca produtos pelo início do nome ou de uma de suas palavras, sem diferenciar acentos "
+                    + "e maiúsculas. Sem resultado exato, tolera um erro de digitação em termos com 4 letras ou mais")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ProductResponseDTO.class))))
+    public ResponseEntity<Object> search(@RequestParam("q") String query,
+                                         @RequestParam(defaultValue = "10") int limit,
+                                         @RequestParam(name = SparseFields.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(fields(fields).apply(productController.search(query, limit)));
     }
 
     @GetMapping("/list")
     @Operation(summary = "List",
             description = "Lista todos os produtos")
-    public ResponseEntity<List<ProductResponseDTO>> list() {
-        return ResponseEntity.ok(productController.list());
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ProductResponseDTO.class))))
+    public void list(@RequestParam(name = SparseFields.PARAM, required = false) String fields,
+                     ServletWebRequest request, HttpServletResponse response) throws IOException {
+        writeCached("list", fields(fields), request, response, productController::list);
+    }
+
+    @GetMapping(path = "/list", params = "size")
+    @Operation(summary = "List Page",
+            description = "Lista os produtos por página, ordenados por categoria, nome e id. "
+                    + "O cabeçalho Link (rel=next) traz a URL da próxima página com o cursor")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ProductResponseDTO.class))))
+    public ResponseEntity<List<Object>> listPage(@RequestParam int size,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(name = SparseFields.PARAM, required = false) String fields) {
+        SparseFields selection = fields(fields);
+        PageRequestDTO page = pagination.request(cursor, size);
+        return pagination.response(page, productController.listPage(page).map(selection::apply));
+    }
+
+    @GetMapping(path = "/export", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Export",
+            description = "Exporta todos os produtos em streaming, como array JSON ou NDJSON (Accept: application/x-ndjson)")
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return jsonExport.export(accept, "products", productController::export);
     }
 
     @GetMapping("/list-availables")
     @Operation(summary = "List Availables",
             description = "Lista todos os produtos disponiveis")
-    public ResponseEntity<List<ProductResponseDTO>> listAvailables() {
-        return ResponseEntity.ok(productController.listAvailables());
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ProductResponseDTO.class))))
+    public void listAvailables(@RequestParam(name = SparseFields.PARAM, required = false) String fields,
+                               ServletWebRequest request, HttpServletResponse response) throws IOException {
+        writeCached("list-availables", fields(fields), request, response, productController::listAvailables);
     }
 
     @GetMapping("/list-by-category/{category}")
     @Operation(summary = "List By Category", description = "Lista todos os produtos da categoria informada")
-    public ResponseEntity<List<ProductResponseDTO>> listByCategory(@PathVariable Category category) {
-        return ResponseEntity.ok(productController.listByCategory(category));
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ProductResponseDTO.class))))
+    public void listByCategory(@PathVariable Category category,
+                               @RequestParam(name = SparseFields.PARAM, required = false) String fields,
+                               ServletWebRequest request, HttpServletResponse response) throws IOException {
+        writeCached("list-by-category/" + category, fields(fields), request, response,
+                () -> productController.listByCategory(category));
     }
 
     @GetMapping("/list-available-categories")
     @Operation(summary = "List Avaiable Categories", description = "Lista categorias que contém produtos cadastrados")
-    public ResponseEntity<List<Category>> listAvaiableCategories() {
-        return ResponseEntity.ok(productController.listAvaiableCategories());
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = Category.class))))
+    public void listAvaiableCategories(ServletWebRequest request, HttpServletResponse response) throws IOException {
+        writeCached("list-available-categories", SparseFields.all(), request, response,
+                productController::listAvaiableCategories);
     }
 
     @GetMapping("/list-availables-by-category/{category}")
     @Operation(summary = "List Availables",
             description = "Lista todos os produtos disponiveis da categoria informada")
-    public ResponseEntity<List<ProductResponseDTO>> listAvailablesByCategory(@PathVariable Category category) {
-        return ResponseEntity.ok(productController.listAvailablesByCategory(category));
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ProductResponseDTO.class))))
+    public void listAvailablesByCategory(@PathVariable Category category,
+                                         @RequestParam(name = SparseFields.PARAM, required = false) String fields,
+                                         ServletWebRequest request, HttpServletResponse response) throws IOException {
+        writeCached("list-availables-by-category/" + category, fields(fields), request, response,
+                () -> productController.listAvailablesByCategory(category));
     }
 
     @GetMapping("/list-categorys")
@@ -124,20 +316,91 @@ public class ProductWebController {
         return ResponseEntity.ok(productController.listCategorys());
     }
 
+    @Transactional
     @DeleteMapping("/delete/{id}")
     @Operation(summary = "Delete",
-            description = "Deleta um produto")
+            description = "Deleta um produto. Responde 404 se o ID não existe")
     public ResponseEntity<String> delete(@PathVariable UUID id) {
-        productController.delete(id);
+        if (productController.delete(id) == 0) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Produto não encontrado");
+        }
         return ResponseEntity.ok("Produto deletado com sucesso");
     }
 
+    @Transactional
     @DeleteMapping("/delete-by-category/{category}")
     @Operation(summary = "Delete By Category",
-            description = "Deleta os produtos da categoria informada")
+            description = "Deleta os produtos da categoria informada e informa quantos foram removidos")
     public ResponseEntity<String> deleteByCategory(@PathVariable Category category) {
-        productController.deleteByCategory(category);
-        return ResponseEntity.ok("Produtos deletados com sucesso");
+        int deleted = productController.deleteByCategory(category);
+        return ResponseEntity.ok("Produtos deletados com sucesso: " + deleted);
+    }
+
+    @Transactional
+    @PatchMapping("/availability")
+    @Operation(summary = "Update Availability",
+            description = "Muda o status dos produtos informados por IDs (até "
+                    + UpdateProductsAvailabilityUseCase.MAX_IDS + ") ou por categoria, em uma única escrita. "
+                    + "Produtos que já estão no status não contam em updated")
+    public ResponseEntity<ProductsAvailabilityDTO> updateAvailability(@RequestBody @Valid UpdateAvailabilityDTO dto) {
+        return ResponseEntity.ok(productController.updateAvailability(
+                UpdateProductsAvailabilityInputDTO.builder()
+                        .ids(dto.ids())
+                        .category(dto.category())
+                        .status(dto.status())
+                        .build()
+        ));
     }
 
+    /**
+     * Responde 304 pela versão do cardápio ou grava o corpo já serializado daquela versão.
+     */
+    private void writeCached(String key, SparseFields fields, ServletWebRequest request, HttpServletResponse response,
+                             Supplier<?> body) throws IOException {
+        CatalogVersionDTO version = productController.catalogVersion();
+        Format format = Format.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        Encoding encoding = format == Format.JSON
+                ? Encoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                : Encoding.IDENTITY;
+
+        // Cada formato e codificação é uma representação distinta e recebe sua própria ETag forte.
+        String eTag = "\"" + version.epoch() + "-" + version.version()
+                + (format == Format.JSON ? "" : "-" + format.name().toLowerCase(Locale.ROOT))
+                + (encoding == Encoding.IDENTITY ? "" : "-" + encoding.token()) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+
+        if (request.checkNotModified(eTag, version.updatedAt().toEpochMilli())) {
+            return;
+        }
+
+        String cacheKey = fields.isAll() ? key : key + "?" + SparseFields.PARAM + "=" + fields.key();
+        CatalogResponseCache.Body cached = responseCache.get(cacheKey, version, () -> fields.apply(body.get()));
+        byte[] bytes = format == Format.JSON ? cached.bytes(encoding) : cached.bytes(format);
+
+        response.setContentType(format.mediaType().toString());
+        if (encoding != Encoding.IDENTITY) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private static SparseFields fields(String fields) {
+        return SparseFields.of(fields, ProductResponseDTO.class);
+    }
+
+    // Versões reduzidas só depois do commit: escrita recusada não gera trabalho, e o ImageSweeper limpa o arquivo.
+    private String storeImage(String image) {
+        String stored = images.store(image);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                renditions.request(stored);
+            }
+        });
+        return stored;
+    }
 }
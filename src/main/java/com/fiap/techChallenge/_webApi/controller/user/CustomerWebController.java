@@ -1,17 +1,28 @@
 package com.fiap.techChallenge._webApi.controller.user;
 
+import com.fiap.techChallenge._webApi.controller.JsonExport;
+import com.fiap.techChallenge._webApi.controller.Pagination;
+import com.fiap.techChallenge._webApi.controller.SparseFields;
 import com.fiap.techChallenge._webApi.dto.CustomerRequestDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerInputDTO;
 import com.fiap.techChallenge.core.controller.user.CustomerController;
 import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,9 +33,13 @@ import java.util.UUID;
 public class CustomerWebController {
 
     private final CustomerController customerController;
+    private final Pagination pagination;
+    private final JsonExport jsonExport;
 
-    public CustomerWebController(CompositeDataSource compositeDataSource) {
+    public CustomerWebController(CompositeDataSource compositeDataSource, Pagination pagination, JsonExport jsonExport) {
         this.customerController = CustomerController.build(compositeDataSource);
+        this.pagination = pagination;
+        this.jsonExport = jsonExport;
     }
 
     @PostMapping()
@@ -61,24 +76,55 @@ public class CustomerWebController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerDTO> findById(@PathVariable("id") UUID id) {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = CustomerFullDTO.class)))
+    public ResponseEntity<Object> findById(@PathVariable("id") UUID id,
+                                           @RequestParam(name = SparseFields.PARAM, required = false) String fields) {
+        var selection = fields(fields);
         var result = customerController.findById(id);
 
-        return ResponseEntity.status(HttpStatus.OK).body(result);
+        return ResponseEntity.status(HttpStatus.OK).body(selection.apply(result));
     }
 
     @GetMapping("/cpf/{cpf}")
-    public ResponseEntity<CustomerDTO> findByCpf(@PathVariable("cpf") String cpf) {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = CustomerFullDTO.class)))
+    public ResponseEntity<Object> findByCpf(@PathVariable("cpf") String cpf,
+                                            @RequestParam(name = SparseFields.PARAM, required = false) String fields) {
+        var selection = fields(fields);
         var result = customerController.findByCpf(cpf);
 
-        return ResponseEntity.status(HttpStatus.OK).body(result);
+        return ResponseEntity.status(HttpStatus.OK).body(selection.apply(result));
     }
 
     // TODO: REVISAR SE VAI CHAMAR SÓ OS QUE NÃO SÃO ANÔNIMOS
     @GetMapping("/list")
-    public ResponseEntity<List<CustomerFullDTO>> list() {
-        var result = customerController.listNotAnonym();
+    @Operation(summary = "List",
+            description = "Lista os clientes não anônimos por página, ordenados por nome e id. "
+                    + "O cabeçalho Link (rel=next) traz a URL da próxima página com o cursor")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = CustomerFullDTO.class))))
+    public ResponseEntity<List<Object>> list(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(name = SparseFields.PARAM, required = false) String fields
+    ) {
+        var selection = fields(fields);
+        var page = pagination.request(cursor, size);
+        var result = customerController.listNotAnonymPage(page);
+
+        return pagination.response(page, result.map(selection::apply));
+    }
+
+    @GetMapping(path = "/export", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Export",
+            description = "Exporta todos os clientes não anônimos em streaming, como array JSON ou NDJSON (Accept: application/x-ndjson)")
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        return jsonExport.export(accept, "customers", customerController::exportNotAnonym);
+    }
 
-        return ResponseEntity.status(HttpStatus.OK).body(result);
+    // Clientes anônimos têm só parte desses campos; os que faltam ficam de fora da resposta.
+    private static SparseFields fields(String fields) {
+        return SparseFields.of(fields, CustomerFullDTO.class);
     }
 }
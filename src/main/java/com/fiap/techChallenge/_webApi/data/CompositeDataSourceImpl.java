@@ -1,7 +1,12 @@
 package com.fiap.techChallenge._webApi.data;
 
 import com.fiap.techChallenge._webApi.data.persistence.repository.user.CustomerDataSourceImpl;
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
 import com.fiap.techChallenge.core.application.dto.user.AttendantDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 import com.fiap.techChallenge.core.domain.enums.Category;
@@ -12,8 +17,10 @@ import com.fiap.techChallenge.core.interfaces.ProductDataSource;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Component
 @AllArgsConstructor
@@ -28,6 +35,11 @@ public class CompositeDataSourceImpl implements CompositeDataSource {
         return attendantDataSource.save(attendantDTO);
     }
 
+    @Override
+    public AttendantDTO updateAttendant(AttendantDTO current, AttendantDTO changed) {
+        return attendantDataSource.update(current, changed);
+    }
+
     @Override
     public AttendantDTO findFirstAttendantByCpf(String cpf) {
         return attendantDataSource.findFirstByCpf(cpf);
@@ -53,6 +65,11 @@ public class CompositeDataSourceImpl implements CompositeDataSource {
         return customerDataSource.save(attendantDTO);
     }
 
+    @Override
+    public CustomerFullDTO updateCustomer(CustomerFullDTO current, CustomerFullDTO changed) {
+        return customerDataSource.update(current, changed);
+    }
+
     @Override
     public CustomerFullDTO findFirstCustomerByCpf(String cpf) {
         return customerDataSource.findFirstByCpf(cpf);
@@ -69,8 +86,18 @@ public class CompositeDataSourceImpl implements CompositeDataSource {
     }
 
     @Override
-    public void deleteCustomer(UUID id) {
-        customerDataSource.delete(id);
+    public void forEachCustomerNotAnonym(Consumer<CustomerFullDTO> sink) {
+        customerDataSource.forEachNotAnonym(sink);
+    }
+
+    @Override
+    public PageDTO<CustomerFullDTO> findCustomersNotAnonymPage(PageRequestDTO page) {
+        return customerDataSource.findNotAnonymPage(page);
+    }
+
+    @Override
+    public int deleteCustomer(UUID id) {
+        return customerDataSource.delete(id);
     }
 
     @Override
@@ -78,6 +105,16 @@ public class CompositeDataSourceImpl implements CompositeDataSource {
         return productDataSource.save(product);
     }
 
+    @Override
+    public ProductDTO updateProduct(ProductDTO product) {
+        return productDataSource.update(product);
+    }
+
+    @Override
+    public List<ProductDTO> upsertProductsByName(List<ProductDTO> products) {
+        return productDataSource.upsertAllByName(products);
+    }
+
     @Override
     public ProductDTO findProductById(UUID id) {
         return productDataSource.findById(id);
@@ -88,6 +125,16 @@ public class CompositeDataSourceImpl implements CompositeDataSource {
         return productDataSource.findByName(name);
     }
 
+    @Override
+    public List<ProductDTO> findProductsByIds(Collection<UUID> ids) {
+        return productDataSource.findAllById(ids);
+    }
+
+    @Override
+    public List<ProductPriceDTO> findProductPricesByIds(Collection<UUID> ids) {
+        return productDataSource.findPricesById(ids);
+    }
+
     @Override
     public List<Category> listAvailableProductCategories() {
         return productDataSource.listAvailableCategorys();
@@ -98,6 +145,21 @@ public class CompositeDataSourceImpl implements CompositeDataSource {
         return productDataSource.list();
     }
 
+    @Override
+    public void forEachProduct(Consumer<ProductDTO> sink) {
+        productDataSource.forEach(sink);
+    }
+
+    @Override
+    public PageDTO<ProductDTO> listProductsPage(PageRequestDTO page) {
+        return productDataSource.listPage(page);
+    }
+
+    @Override
+    public List<ProductDTO> searchProducts(String query, int limit) {
+        return productDataSource.search(query, limit);
+    }
+
     @Override
     public List<ProductDTO> listProductsByCategory(Category category) {
         return productDataSource.listByCategory(category);
@@ -114,12 +176,32 @@ public class CompositeDataSourceImpl implements CompositeDataSource {
     }
 
     @Override
-    public void deleteProduct(UUID id) {
-        productDataSource.delete(id);
+    public int deleteProduct(UUID id) {
+        return productDataSource.delete(id);
+    }
+
+    @Override
+    public int deleteProductByCategory(Category category) {
+        return productDataSource.deleteByCategory(category);
+    }
+
+    @Override
+    public int updateProductsStatus(Collection<UUID> ids, ProductStatus status) {
+        return productDataSource.updateStatus(ids, status);
+    }
+
+    @Override
+    public int updateProductsStatusByCategory(Category category, ProductStatus status) {
+        return productDataSource.updateStatusByCategory(category, status);
+    }
+
+    @Override
+    public CatalogVersionDTO productCatalogVersion() {
+        return productDataSource.catalogVersion();
     }
 
     @Override
-    public void deleteProductByCategory(Category category) {
-        productDataSource.deleteByCategory(category);
+    public ProductChangesDTO listProductChangesSince(long version) {
+        return productDataSource.listChangesSince(version);
     }
 }
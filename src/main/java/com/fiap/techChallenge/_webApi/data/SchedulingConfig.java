@@ -0,0 +1,48 @@
+package com.fiap.techChallenge._webApi.data;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Threads de segundo plano da aplicação: o contexto as inicia e as encerra no desligamento.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String IMAGE_RENDITION_EXECUTOR = "imageRenditionExecutor";
+
+    // Verificação de divergência do cardápio e limpeza de imagens; uma não espera pela outra.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("product-scheduled-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+
+    @Bean(IMAGE_RENDITION_EXECUTOR)
+    public ThreadPoolTaskExecutor imageRenditionExecutor(@Value("${product.images.renditions.threads:1}") int threads,
+                                                         @Value("${product.images.renditions.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("product-image-rendition-");
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    // Com um executor declarado aqui o Spring Boot não cria o seu; o MVC assíncrono (exportações) usa este.
+    @Bean("applicationTaskExecutor")
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
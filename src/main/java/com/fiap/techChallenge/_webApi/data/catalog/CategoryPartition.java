@@ -0,0 +1,115 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+/**
+ * Produtos de uma única categoria, já ordenados por nome e separados por status.
+ */
+final class CategoryPartition {
+
+    static final Comparator<ProductDTO> NAME_ORDER = Comparator
+            .comparing(ProductDTO::name)
+            .thenComparing(ProductDTO::id);
+
+    static final CategoryPartition EMPTY = new CategoryPartition(List.of(), null);
+
+    private final List<ProductDTO> products;
+    private final EnumMap<ProductStatus, List<ProductDTO>> byStatus = new EnumMap<>(ProductStatus.class);
+    private final Map<UUID, ProductDTO> byId;
+    private final Map<String, ProductDTO> byName;
+    private final Map<UUID, ProductPriceDTO> prices;
+
+    // Preços de produtos que não mudaram são reaproveitados da partição anterior.
+    private CategoryPartition(List<ProductDTO> sortedProducts, CategoryPartition previous) {
+        Map<UUID, ProductDTO> ids = new HashMap<>();
+        Map<String, ProductDTO> names = new HashMap<>();
+        Map<UUID, ProductPriceDTO> cents = new HashMap<>();
+        EnumMap<ProductStatus, List<ProductDTO>> statuses = new EnumMap<>(ProductStatus.class);
+
+        for (ProductStatus status : ProductStatus.values()) {
+            statuses.put(status, new ArrayList<>());
+        }
+
+        for (ProductDTO product : sortedProducts) {
+            ids.put(product.id(), product);
+            names.putIfAbsent(product.name(), product);
+            statuses.get(product.status()).add(product);
+            cents.put(product.id(), previous != null && previous.byId.get(product.id()) == product
+                    ? previous.prices.get(product.id())
+                    : ProductPriceDTO.of(product));
+        }
+
+        this.products = Collections.unmodifiableList(sortedProducts);
+        this.byId = ids;
+        this.byName = names;
+        this.prices = cents;
+        statuses.forEach((status, list) -> byStatus.put(status, Collections.unmodifiableList(list)));
+    }
+
+    static CategoryPartition of(Collection<ProductDTO> products) {
+        return of(products, null);
+    }
+
+    static CategoryPartition of(Collection<ProductDTO> products, CategoryPartition previous) {
+        List<ProductDTO> sorted = new ArrayList<>(products);
+        sorted.sort(NAME_ORDER);
+
+        return sorted.isEmpty() ? EMPTY : new CategoryPartition(sorted, previous);
+    }
+
+    CategoryPartition with(ProductDTO product) {
+        List<ProductDTO> next = new ArrayList<>(products.size() + 1);
+        next.addAll(products);
+
+        int index = Collections.binarySearch(next, product, NAME_ORDER);
+        next.add(index < 0 ? -index - 1 : index, product);
+
+        return new CategoryPartition(next, this);
+    }
+
+    CategoryPartition without(ProductDTO product) {
+        int index = Collections.binarySearch(products, product, NAME_ORDER);
+
+        if (index < 0) {
+            return this;
+        }
+
+        List<ProductDTO> next = new ArrayList<>(products);
+        next.remove(index);
+
+        return next.isEmpty() ? EMPTY : new CategoryPartition(next, this);
+    }
+
+    List<ProductDTO> products() {
+        return products;
+    }
+
+    List<ProductDTO> products(ProductStatus status) {
+        List<ProductDTO> list = byStatus.get(status);
+        return list == null ? List.of() : list;
+    }
+
+    ProductDTO findById(UUID id) {
+        return byId.get(id);
+    }
+
+    ProductPriceDTO findPriceById(UUID id) {
+        return prices.get(id);
+    }
+
+    ProductDTO findByName(String name) {
+        return byName.get(name);
+    }
+}
@@ -0,0 +1,73 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Visão somente leitura que encadeia listas já ordenadas sem copiá-las.
+ */
+final class ConcatenatedList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<List<T>> parts;
+    private final int[] offsets;
+    private final int size;
+
+    ConcatenatedList(List<List<T>> parts) {
+        this.parts = List.copyOf(parts);
+        this.offsets = new int[parts.size()];
+
+        int total = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            offsets[i] = total;
+            total += parts.get(i).size();
+        }
+
+        this.size = total;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int part = parts.size() - 1;
+        while (offsets[part] > index) {
+            part--;
+        }
+
+        return parts.get(part).get(index - offsets[part]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int part;
+            private Iterator<T> current = parts.isEmpty() ? null : parts.get(0).iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (current != null && !current.hasNext()) {
+                    current = ++part < parts.size() ? parts.get(part).iterator() : null;
+                }
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+}
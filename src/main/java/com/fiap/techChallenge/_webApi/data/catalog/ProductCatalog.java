@@ -0,0 +1,170 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductTombstoneDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+
+/**
+ * Snapshot corrente do cardápio: leituras sem lock, escritas publicadas depois do commit.
+ */
+public class ProductCatalog {
+
+    private final Supplier<List<ProductDTO>> loader;
+    private final LongSupplier sequence;
+    private final long epoch = System.currentTimeMillis();
+
+    private volatile ProductCatalogSnapshot current;
+    private volatile long syncedThrough;
+
+    public ProductCatalog(Supplier<List<ProductDTO>> loader) {
+        this(loader, () -> 0);
+    }
+
+    public ProductCatalog(Supplier<List<ProductDTO>> loader, LongSupplier sequence) {
+        this.loader = loader;
+        this.sequence = sequence;
+    }
+
+    public ProductCatalogSnapshot snapshot() {
+        ProductCatalogSnapshot snapshot = current;
+
+        if (snapshot == null) {
+            snapshot = load();
+        }
+
+        return snapshot;
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public long syncedThrough() {
+        return syncedThrough;
+    }
+
+    public synchronized void reload() {
+        current = read(current == null ? 1 : current.version() + 1);
+    }
+
+    /**
+     * Aplica as alterações posteriores a {@link #syncedThrough()} sem voltar versões; com
+     * remoções, recarrega. Retorna {@code true} se mudou algo.
+     */
+    public synchronized boolean catchUp(long through, List<ProductDTO> upserted, List<ProductTombstoneDTO> deleted) {
+        if (current == null || through <= syncedThrough) {
+            return false;
+        }
+
+        if (deleted.stream().anyMatch(tombstone -> current.findById(tombstone.id()) != null)) {
+            current = read(current.version() + 1);
+            return true;
+        }
+
+        List<ProductDTO> stale = upserted.stream()
+                .filter(product -> isNewer(product, current.findById(product.id())))
+                .toList();
+
+        syncedThrough = through;
+        if (stale.isEmpty()) {
+            return false;
+        }
+
+        current = current.withProducts(stale);
+        return true;
+    }
+
+    public void publishSaved(ProductDTO product) {
+        afterCommit(snapshot -> snapshot.withProduct(product));
+    }
+
+    public void publishSavedAll(Collection<ProductDTO> products) {
+        afterCommit(snapshot -> snapshot.withProducts(products));
+    }
+
+    public void publishDeleted(UUID id) {
+        afterCommit(snapshot -> snapshot.withoutProduct(id));
+    }
+
+    public void publishCategoryDeleted(Category category) {
+        afterCommit(snapshot -> snapshot.withoutCategory(category));
+    }
+
+    // Para escritas que a cópia em memória não consegue reproduzir: recarrega tudo depois do commit.
+    public void publishReload() {
+        afterCommit(snapshot -> read(snapshot.version() + 1));
+    }
+
+    /**
+     * Corrige uma cópia desatualizada com o estado já commitado ({@code null} se o produto não
+     * existe mais), sem voltar versões.
+     */
+    public synchronized void refresh(UUID id, ProductDTO product) {
+        if (current == null) {
+            return;
+        }
+
+        ProductDTO cached = current.findById(id);
+
+        if (product == null) {
+            if (cached != null) {
+                current = current.withoutProduct(id);
+            }
+        } else if (isNewer(product, cached)) {
+            current = current.withProduct(product);
+        }
+    }
+
+    private static boolean isNewer(ProductDTO product, ProductDTO cached) {
+        return cached == null || cached.version() == null || product.version() == null
+                || cached.version() < product.version();
+    }
+
+    private synchronized ProductCatalogSnapshot load() {
+        if (current == null) {
+            current = read(1);
+        }
+
+        return current;
+    }
+
+    // A sequência é lida antes dos produtos: o que for carregado está, no mínimo, em dia até ela.
+    private ProductCatalogSnapshot read(long version) {
+        long through = sequence.getAsLong();
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(version, loader.get());
+        syncedThrough = through;
+
+        return snapshot;
+    }
+
+    private void afterCommit(UnaryOperator<ProductCatalogSnapshot> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    // Ainda não carregado: a primeira leitura já vai buscar o estado commitado.
+    private synchronized void apply(UnaryOperator<ProductCatalogSnapshot> change) {
+        if (current != null) {
+            current = change.apply(current);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+/**
+ * Cópia imutável e versionada do cardápio; cada escrita gera uma nova versão que reaproveita as
+ * partições não afetadas.
+ */
+public final class ProductCatalogSnapshot {
+
+    // Mesma ordenação das consultas JPA: a categoria é gravada como texto.
+    private static final List<Category> CATEGORY_ORDER = Arrays.stream(Category.values())
+            .sorted(Comparator.comparing(Category::name))
+            .toList();
+
+    // Ordem da listagem completa: categoria, nome e id.
+    private static final Comparator<ProductDTO> LIST_ORDER = Comparator
+            .comparing((ProductDTO product) -> product.category().name())
+            .thenComparing(CategoryPartition.NAME_ORDER);
+
+    private static final Categories NO_CATEGORIES = new Categories(EnumSet.noneOf(Category.class));
+
+    /**
+     * Categorias com ao menos um produto em um status, na ordem de declaração.
+     */
+    private record Categories(EnumSet<Category> set, List<Category> list) {
+
+        private Categories(EnumSet<Category> set) {
+            this(set, List.copyOf(set));
+        }
+    }
+
+    private final long version;
+    private final Instant publishedAt;
+    private final EnumMap<Category, CategoryPartition> partitions;
+    private final List<ProductDTO> products;
+    private final EnumMap<ProductStatus, List<ProductDTO>> byStatus = new EnumMap<>(ProductStatus.class);
+    private final EnumMap<ProductStatus, Categories> categoriesByStatus = new EnumMap<>(ProductStatus.class);
+    private final ProductNameIndex names;
+
+    private ProductCatalogSnapshot(long version, EnumMap<Category, CategoryPartition> partitions, ProductNameIndex names,
+                                   ProductCatalogSnapshot previous, Collection<Category> touched) {
+        this.version = version;
+        this.publishedAt = Instant.now();
+        this.partitions = partitions;
+        this.names = names;
+        this.products = new ConcatenatedList<>(CATEGORY_ORDER.stream()
+                .map(category -> partition(category).products())
+                .toList());
+
+        for (ProductStatus status : ProductStatus.values()) {
+            byStatus.put(status, new ConcatenatedList<>(CATEGORY_ORDER.stream()
+                    .map(category -> partition(category).products(status))
+                    .toList()));
+            categoriesByStatus.put(status, categories(status,
+                    previous == null ? NO_CATEGORIES : previous.categoriesByStatus.get(status), touched));
+        }
+    }
+
+    // Só as categorias tocadas podem ter cruzado o zero; sem mudança o conjunto anterior é reaproveitado.
+    private Categories categories(ProductStatus status, Categories previous, Collection<Category> touched) {
+        EnumSet<Category> next = null;
+
+        for (Category category : touched) {
+            boolean present = !partition(category).products(status).isEmpty();
+
+            if (present != previous.set().contains(category)) {
+                if (next == null) {
+                    next = EnumSet.copyOf(previous.set());
+                }
+
+                if (present) {
+                    next.add(category);
+                } else {
+                    next.remove(category);
+                }
+            }
+        }
+
+        return next == null ? previous : new Categories(next);
+    }
+
+    public static ProductCatalogSnapshot of(long version, Collection<ProductDTO> products) {
+        EnumMap<Category, CategoryPartition> partitions = new EnumMap<>(Category.class);
+
+        products.stream()
+                .collect(Collectors.groupingBy(ProductDTO::category, () -> new EnumMap<>(Category.class), Collectors.toList()))
+                .forEach((category, list) -> partitions.put(category, CategoryPartition.of(list)));
+
+        return new ProductCatalogSnapshot(version, partitions, ProductNameIndex.of(products), null, CATEGORY_ORDER);
+    }
+
+    public ProductCatalogSnapshot withProduct(ProductDTO product) {
+        EnumMap<Category, CategoryPartition> next = new EnumMap<>(partitions);
+        ProductDTO previous = findById(product.id());
+
+        if (previous != null) {
+            next.put(previous.category(), partition(next, previous.category()).without(previous));
+        }
+
+        next.put(product.category(), partition(next, product.category()).with(product));
+        ProductNameIndex nextNames = (previous == null ? names : names.without(previous.id())).with(product);
+
+        return new ProductCatalogSnapshot(version + 1, next, nextNames, this,
+                previous == null ? List.of(product.category()) : List.of(previous.category(), product.category()));
+    }
+
+    /**
+     * Inclui ou substitui vários produtos em uma única versão. Cada partição
+     * tocada é reconstruída uma vez, em vez de uma cópia por produto.
+     */
+    public ProductCatalogSnapshot withProducts(Collection<ProductDTO> products) {
+        Map<UUID, ProductDTO> changed = new LinkedHashMap<>();
+        EnumSet<Category> touched = EnumSet.noneOf(Category.class);
+
+        for (ProductDTO product : products) {
+            ProductDTO previous = findById(product.id());
+
+            if (previous != null) {
+                touched.add(previous.category());
+            }
+
+            touched.add(product.category());
+            changed.put(product.id(), product);
+        }
+
+        if (changed.isEmpty()) {
+            return this;
+        }
+
+        EnumMap<Category, CategoryPartition> next = new EnumMap<>(partitions);
+
+        for (Category category : touched) {
+            List<ProductDTO> kept = new ArrayList<>();
+
+            for (ProductDTO product : partition(category).products()) {
+                if (!changed.containsKey(product.id())) {
+                    kept.add(product);
+                }
+            }
+
+            for (ProductDTO product : changed.values()) {
+                if (product.category() == category) {
+                    kept.add(product);
+                }
+            }
+
+            next.put(category, CategoryPartition.of(kept, partition(category)));
+        }
+
+        return new ProductCatalogSnapshot(version + 1, next, names.withAll(changed.values()), this, touched);
+    }
+
+    public ProductCatalogSnapshot withoutProduct(UUID id) {
+        EnumMap<Category, CategoryPartition> next = new EnumMap<>(partitions);
+        ProductDTO previous = findById(id);
+
+        if (previous != null) {
+            next.put(previous.category(), partition(next, previous.category()).without(previous));
+        }
+
+        return new ProductCatalogSnapshot(version + 1, next, previous == null ? names : names.without(id), this,
+                previous == null ? List.of() : List.of(previous.category()));
+    }
+
+    public ProductCatalogSnapshot withoutCategory(Category category) {
+        EnumMap<Category, CategoryPartition> next = new EnumMap<>(partitions);
+        next.remove(category);
+
+        return new ProductCatalogSnapshot(version + 1, next, names.withoutCategory(category), this, List.of(category));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant publishedAt() {
+        return publishedAt;
+    }
+
+    public ProductDTO findById(UUID id) {
+        if (id == null) {
+            return null;
+        }
+
+        for (CategoryPartition partition : partitions.values()) {
+            ProductDTO product = partition.findById(id);
+
+            if (product != null) {
+                return product;
+            }
+        }
+
+        return null;
+    }
+
+    public ProductPriceDTO findPriceById(UUID id) {
+        if (id == null) {
+            return null;
+        }
+
+        for (CategoryPartition partition : partitions.values()) {
+            ProductPriceDTO price = partition.findPriceById(id);
+
+            if (price != null) {
+                return price;
+            }
+        }
+
+        return null;
+    }
+
+    public ProductDTO findByName(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        for (Category category : CATEGORY_ORDER) {
+            ProductDTO product = partition(category).findByName(name);
+
+            if (product != null) {
+                return product;
+            }
+        }
+
+        return null;
+    }
+
+    public List<ProductDTO> list() {
+        return products;
+    }
+
+    /**
+     * Até {@code limit} produtos posteriores à chave (categoria, nome, id)
+     * informada, na ordem da listagem completa. Sem chave começa do início.
+     */
+    public List<ProductDTO> listAfter(Category category, String name, UUID id, int limit) {
+        int from = 0;
+
+        if (category != null) {
+            ProductDTO key = ProductDTO.builder().category(category).name(name).id(id).build();
+            int index = Collections.binarySearch(products, key, LIST_ORDER);
+            from = index < 0 ? -index - 1 : index + 1;
+        }
+
+        return List.copyOf(products.subList(from, Math.min(products.size(), from + limit)));
+    }
+
+    /**
+     * Busca por prefixo do nome ou de uma de suas palavras, ignorando acentos
+     * e maiúsculas. Nomes que começam com o termo vêm primeiro.
+     */
+    public List<ProductDTO> search(String query, int limit) {
+        return names.search(query, limit);
+    }
+
+    public List<ProductDTO> listByStatus(ProductStatus status) {
+        return byStatus.get(status);
+    }
+
+    public List<ProductDTO> listByCategory(Category category) {
+        return partition(category).products();
+    }
+
+    public List<ProductDTO> listByStatusAndCategory(ProductStatus status, Category category) {
+        return partition(category).products(status);
+    }
+
+    /**
+     * Categorias com produtos no status, na ordem de declaração de {@link Category}.
+     * A lista é mantida a cada escrita, então a leitura não percorre o cardápio.
+     */
+    public List<Category> listCategoriesByStatus(ProductStatus status) {
+        return categoriesByStatus.get(status).list();
+    }
+
+    private CategoryPartition partition(Category category) {
+        return partition(partitions, category);
+    }
+
+    private static CategoryPartition partition(EnumMap<Category, CategoryPartition> partitions, Category category) {
+        return partitions.getOrDefault(category, CategoryPartition.EMPTY);
+    }
+}
@@ -0,0 +1,298 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+
+/**
+ * Índice imutável de busca por prefixo do nome ou de suas palavras, sem acentos nem maiúsculas.
+ */
+final class ProductNameIndex {
+
+    static final ProductNameIndex EMPTY = new ProductNameIndex(new Entry[0], new Entry[0]);
+
+    // Buscas curtas demais para tolerar erro de digitação sem trazer ruído.
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    /**
+     * Chave de busca: o nome normalizado a partir de {@code offset}.
+     */
+    private record Entry(String name, int offset, ProductDTO product) {
+
+        private boolean startsWith(String prefix) {
+            return name.startsWith(prefix, offset);
+        }
+    }
+
+    private static final Comparator<Entry> ORDER = (a, b) -> {
+        int compare = compare(a.name(), a.offset(), b.name(), b.offset());
+        return compare != 0 ? compare : a.product().id().compareTo(b.product().id());
+    };
+
+    // Início do nome primeiro: quem começa com o termo aparece antes de quem só o contém.
+    private final Entry[] names;
+    private final Entry[] words;
+
+    private ProductNameIndex(Entry[] names, Entry[] words) {
+        this.names = names;
+        this.words = words;
+    }
+
+    static ProductNameIndex of(Collection<ProductDTO> products) {
+        List<Entry> names = new ArrayList<>(products.size());
+        List<Entry> words = new ArrayList<>(products.size() * 2);
+
+        for (ProductDTO product : products) {
+            entries(product, names, words);
+        }
+
+        Entry[] sortedNames = names.toArray(Entry[]::new);
+        Entry[] sortedWords = words.toArray(Entry[]::new);
+        Arrays.sort(sortedNames, ORDER);
+        Arrays.sort(sortedWords, ORDER);
+
+        return new ProductNameIndex(sortedNames, sortedWords);
+    }
+
+    ProductNameIndex with(ProductDTO product) {
+        List<Entry> names = new ArrayList<>(1);
+        List<Entry> words = new ArrayList<>();
+        entries(product, names, words);
+
+        return new ProductNameIndex(merge(this.names, names), merge(this.words, words));
+    }
+
+    // Troca vários produtos de uma vez: uma filtragem e uma intercalação, em vez de uma por produto.
+    ProductNameIndex withAll(Collection<ProductDTO> products) {
+        Set<UUID> ids = new HashSet<>(products.size() * 2);
+        List<Entry> names = new ArrayList<>(products.size());
+        List<Entry> words = new ArrayList<>(products.size() * 2);
+
+        for (ProductDTO product : products) {
+            ids.add(product.id());
+            entries(product, names, words);
+        }
+
+        ProductNameIndex kept = filter(entry -> !ids.contains(entry.product().id()));
+        return new ProductNameIndex(merge(kept.names, names), merge(kept.words, words));
+    }
+
+    ProductNameIndex without(UUID id) {
+        return filter(entry -> !entry.product().id().equals(id));
+    }
+
+    ProductNameIndex withoutCategory(Category category) {
+        return filter(entry -> entry.product().category() != category);
+    }
+
+    /**
+     * Até {@code limit} produtos cujo nome ou alguma palavra começa com o termo, tolerando um erro
+     * de digitação.
+     */
+    List<ProductDTO> search(String query, int limit) {
+        String prefix = normalize(query);
+
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Map<UUID, ProductDTO> found = new LinkedHashMap<>();
+        collect(names, prefix, limit, found);
+        collect(words, prefix, limit, found);
+
+        if (found.isEmpty() && prefix.length() >= MIN_FUZZY_LENGTH) {
+            collectFuzzy(names, prefix, limit, found);
+            collectFuzzy(words, prefix, limit, found);
+        }
+
+        return List.copyOf(found.values());
+    }
+
+    /**
+     * A chave de {@link ProductNameKey} com a pontuação como separador: "X-Burger" é encontrado
+     * por "burger".
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String key = ProductNameKey.of(text);
+        StringBuilder normalized = new StringBuilder(key.length());
+        boolean separator = false;
+
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (!Character.isLetterOrDigit(c)) {
+                separator = true;
+                continue;
+            }
+
+            if (separator && !normalized.isEmpty()) {
+                normalized.append(' ');
+            }
+
+            separator = false;
+            normalized.append(c);
+        }
+
+        return normalized.toString();
+    }
+
+    private static void entries(ProductDTO product, List<Entry> names, List<Entry> words) {
+        String name = normalize(product.name());
+        names.add(new Entry(name, 0, product));
+
+        for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+            words.add(new Entry(name, i + 1, product));
+        }
+    }
+
+    private static void collect(Entry[] entries, String prefix, int limit, Map<UUID, ProductDTO> found) {
+        for (int i = lowerBound(entries, prefix); i < entries.length && found.size() < limit; i++) {
+            Entry entry = entries[i];
+
+            if (!entry.startsWith(prefix)) {
+                return;
+            }
+
+            found.putIfAbsent(entry.product().id(), entry.product());
+        }
+    }
+
+    // Candidatos restritos às chaves com a mesma primeira letra do termo.
+    private static void collectFuzzy(Entry[] entries, String prefix, int limit, Map<UUID, ProductDTO> found) {
+        String first = prefix.substring(0, 1);
+
+        for (int i = lowerBound(entries, first); i < entries.length && found.size() < limit; i++) {
+            Entry entry = entries[i];
+
+            if (!entry.startsWith(first)) {
+                return;
+            }
+
+            if (withinOneEdit(prefix, entry.name(), entry.offset())) {
+                found.putIfAbsent(entry.product().id(), entry.product());
+            }
+        }
+    }
+
+    /**
+     * Se algum prefixo do nome, a partir de {@code offset}, está a no máximo
+     * uma edição do termo.
+     */
+    static boolean withinOneEdit(String prefix, String name, int offset) {
+        int length = prefix.length();
+        int available = name.length() - offset;
+        int i = 0;
+
+        while (i < length && i < available && prefix.charAt(i) == name.charAt(offset + i)) {
+            i++;
+        }
+
+        if (i == length) {
+            return true;
+        }
+
+        int rest = length - i;
+
+        // Letra trocada, letra faltando no termo ou letra sobrando no termo.
+        if (matches(prefix, i + 1, name, offset + i + 1, rest - 1)
+                || matches(prefix, i, name, offset + i + 1, rest)
+                || matches(prefix, i + 1, name, offset + i, rest - 1)) {
+            return true;
+        }
+
+        // Duas letras vizinhas invertidas.
+        return i + 1 < length && i + 1 < available
+                && prefix.charAt(i) == name.charAt(offset + i + 1)
+                && prefix.charAt(i + 1) == name.charAt(offset + i)
+                && matches(prefix, i + 2, name, offset + i + 2, rest - 2);
+    }
+
+    private static boolean matches(String prefix, int prefixFrom, String name, int nameFrom, int length) {
+        return nameFrom + length <= name.length() && prefix.regionMatches(prefixFrom, name, nameFrom, length);
+    }
+
+    // Primeira entrada cuja chave não é menor que o termo.
+    private static int lowerBound(Entry[] entries, String prefix) {
+        int low = 0;
+        int high = entries.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (compare(entries[middle].name(), entries[middle].offset(), prefix, 0) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static int compare(String a, int aOffset, String b, int bOffset) {
+        int aLength = a.length() - aOffset;
+        int bLength = b.length() - bOffset;
+        int length = Math.min(aLength, bLength);
+
+        for (int i = 0; i < length; i++) {
+            int compare = Character.compare(a.charAt(aOffset + i), b.charAt(bOffset + i));
+
+            if (compare != 0) {
+                return compare;
+            }
+        }
+
+        return Integer.compare(aLength, bLength);
+    }
+
+    private static Entry[] merge(Entry[] sorted, List<Entry> added) {
+        if (added.isEmpty()) {
+            return sorted;
+        }
+
+        added.sort(ORDER);
+        Entry[] merged = new Entry[sorted.length + added.size()];
+        int from = 0;
+        int to = 0;
+
+        for (Entry entry : added) {
+            int index = Arrays.binarySearch(sorted, from, sorted.length, entry, ORDER);
+            int insertAt = index < 0 ? -index - 1 : index;
+
+            System.arraycopy(sorted, from, merged, to, insertAt - from);
+            to += insertAt - from;
+            merged[to++] = entry;
+            from = insertAt;
+        }
+
+        System.arraycopy(sorted, from, merged, to, sorted.length - from);
+        return merged;
+    }
+
+    private ProductNameIndex filter(Predicate<Entry> keep) {
+        Entry[] keptNames = Arrays.stream(names).filter(keep).toArray(Entry[]::new);
+        Entry[] keptWords = Arrays.stream(words).filter(keep).toArray(Entry[]::new);
+
+        if (keptNames.length == names.length && keptWords.length == words.length) {
+            return this;
+        }
+
+        return new ProductNameIndex(keptNames, keptWords);
+    }
+}
@@ -0,0 +1,265 @@
+package com.fiap.techChallenge._webApi.data.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Imagens dos produtos em disco, endereçadas pelo SHA-256 do conteúdo.
+ */
+@Component
+public class ImageBlobStore {
+
+    // Acima disso o valor não cabe na coluna image e só pode ser a imagem em base64.
+    static final int MAX_REFERENCE_LENGTH = 255;
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+    private static final MediaType IMAGE_WEBP = MediaType.parseMediaType("image/webp");
+
+    private final Path root;
+    private final long maxSize;
+
+    public ImageBlobStore(@Value("${product.images.dir:data/images}") Path root,
+                          @Value("${product.images.max-size:2MB}") DataSize maxSize) {
+        this.root = root.toAbsolutePath();
+        this.maxSize = maxSize.toBytes();
+    }
+
+    /**
+     * Grava a imagem em data URI ou base64 e devolve o hash; outros valores voltam como vieram.
+     * Imagem já gravada tem a data renovada.
+     */
+    public String store(String image) {
+        if (image == null || !isPayload(image)) {
+            if (image != null && HASH.matcher(image).matches()) {
+                touch(path(image));
+            }
+            return image;
+        }
+
+        byte[] content = decode(image);
+
+        if (content.length > maxSize) {
+            throw new IllegalArgumentException("A imagem deve ter no máximo " + DataSize.ofBytes(maxSize).toKilobytes() + " KB");
+        }
+        if (contentType(content) == null) {
+            throw new IllegalArgumentException("A imagem deve estar em PNG, JPEG, GIF ou WebP");
+        }
+
+        String hash = HexFormat.of().formatHex(sha256(content));
+        Path file = path(hash);
+
+        if (!touch(file)) {
+            write(file, content);
+        }
+
+        return hash;
+    }
+
+    /**
+     * Remove as imagens sem referência que não foram gravadas desde {@code before}. Retorna
+     * quantas removeu.
+     */
+    public int deleteUnreferenced(Set<String> referenced, Instant before) {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+
+        // Lista antes de remover: as versões reduzidas saem do mesmo diretório que está sendo percorrido.
+        List<Path> originals;
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            originals = files.filter(file -> HASH.matcher(file.getFileName().toString()).matches()).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int deleted = 0;
+        try {
+            for (Path file : originals) {
+                String hash = file.getFileName().toString();
+
+                if (!referenced.contains(hash) && Files.getLastModifiedTime(file).toInstant().isBefore(before)) {
+                    for (ImageRendition rendition : ImageRendition.values()) {
+                        Files.deleteIfExists(path(hash, rendition));
+                    }
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Arquivo da imagem gravada com este hash, ou null quando o valor não é
+     * um hash ou a imagem não está no disco.
+     */
+    public Path find(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return null;
+        }
+
+        Path file = path(hash);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * Arquivo da versão reduzida da imagem com este hash, ou null enquanto
+     * ela não foi gerada.
+     */
+    public Path find(String hash, ImageRendition rendition) {
+        Path original = find(hash);
+        if (original == null) {
+            return null;
+        }
+
+        Path file = path(hash, rendition);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * Grava a versão reduzida ao lado da original. Ela deriva só do conteúdo
+     * da original, então também nunca muda depois de gravada.
+     */
+    public void store(String hash, ImageRendition rendition, byte[] content) {
+        write(path(hash, rendition), content);
+    }
+
+    /**
+     * Tipo pelos primeiros bytes do arquivo, o mesmo conferido na gravação.
+     */
+    public MediaType contentType(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MediaType type = contentType(in.readNBytes(12));
+            return type != null ? type : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isPayload(String image) {
+        return image.startsWith("data:") || image.length() > MAX_REFERENCE_LENGTH;
+    }
+
+    private static byte[] decode(String image) {
+        String data = image;
+
+        if (image.startsWith("data:")) {
+            int comma = image.indexOf(',');
+            if (comma < 0 || !image.substring(0, comma).endsWith(";base64")) {
+                throw new IllegalArgumentException("A imagem deve ser um data URI em base64");
+            }
+            data = image.substring(comma + 1);
+        }
+
+        // Decodificador estrito: o MIME ignoraria caracteres inválidos em silêncio.
+        try {
+            return Base64.getDecoder().decode(WHITESPACE.matcher(data).replaceAll(""));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("A imagem não está em base64 válido");
+        }
+    }
+
+    private static MediaType contentType(byte[] content) {
+        if (startsWith(content, 0, 0x89, 'P', 'N', 'G')) {
+            return MediaType.IMAGE_PNG;
+        }
+        if (startsWith(content, 0, 0xFF, 0xD8, 0xFF)) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (startsWith(content, 0, 'G', 'I', 'F', '8')) {
+            return MediaType.IMAGE_GIF;
+        }
+        if (startsWith(content, 0, 'R', 'I', 'F', 'F') && startsWith(content, 8, 'W', 'E', 'B', 'P')) {
+            return IMAGE_WEBP;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] content, int offset, int... magic) {
+        if (content.length < offset + magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((content[offset + i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Dois níveis para não acumular todas as imagens em um único diretório.
+    private Path path(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path path(String hash, ImageRendition rendition) {
+        return path(hash).resolveSibling(hash + "-" + rendition.name().toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Grava em um temporário e move: quem lê nunca vê o arquivo pela metade.
+    // Gravações concorrentes da mesma imagem escrevem o mesmo conteúdo, então a última vence sem prejuízo.
+    private static void write(Path file, byte[] content) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+            try {
+                Files.write(temp, content);
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
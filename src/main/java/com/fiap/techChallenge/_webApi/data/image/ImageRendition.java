@@ -0,0 +1,21 @@
+package com.fiap.techChallenge._webApi.data.image;
+
+/**
+ * Versões reduzidas geradas a partir da imagem original, limitadas a um
+ * quadrado de {@code size} pixels sem distorcer nem ampliar.
+ */
+public enum ImageRendition {
+
+    THUMBNAIL(160),
+    KIOSK(480);
+
+    private final int size;
+
+    ImageRendition(int size) {
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+}
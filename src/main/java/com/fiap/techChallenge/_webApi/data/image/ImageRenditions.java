@@ -0,0 +1,165 @@
+package com.fiap.techChallenge._webApi.data.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.imageio.ImageIO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.fiap.techChallenge._webApi.data.SchedulingConfig;
+
+/**
+ * Gera em segundo plano as versões reduzidas das imagens; com a fila cheia, o pedido é descartado.
+ */
+@Component
+public class ImageRenditions {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageRenditions.class);
+    private static final int UNSUPPORTED_CAPACITY = 1024;
+
+    private final ImageBlobStore store;
+    private final ThreadPoolTaskExecutor executor;
+    // Evita enfileirar a mesma imagem duas vezes e insistir nas que o ImageIO não decodifica (WebP).
+    // Só as mais recentes ficam marcadas: as antigas saem e, se voltarem, são lidas de novo.
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final Set<String> unsupported = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > UNSUPPORTED_CAPACITY;
+                }
+            }));
+    private final Timer duration;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public ImageRenditions(ImageBlobStore store, MeterRegistry registry,
+                           @Qualifier(SchedulingConfig.IMAGE_RENDITION_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        this.store = store;
+        this.executor = executor;
+
+        Gauge.builder("product.images.renditions.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Imagens aguardando as versões reduzidas")
+                .register(registry);
+        this.duration = Timer.builder("product.images.renditions.duration")
+                .description("Tempo para gerar as versões reduzidas de uma imagem")
+                .register(registry);
+        this.rejected = Counter.builder("product.images.renditions.rejected")
+                .description("Pedidos descartados com a fila cheia")
+                .register(registry);
+        this.failed = Counter.builder("product.images.renditions.failed")
+                .description("Imagens que não puderam ser reduzidas")
+                .register(registry);
+    }
+
+    /**
+     * Enfileira a geração das versões que ainda faltam para a imagem com
+     * este hash. Valores que não são imagens gravadas são ignorados.
+     */
+    public void request(String hash) {
+        if (store.find(hash) == null || unsupported.contains(hash) || isComplete(hash) || !pending.add(hash)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    duration.record(() -> render(hash));
+                } finally {
+                    pending.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(hash);
+            rejected.increment();
+            log.warn("Fila de versões reduzidas cheia; imagem {} fica para o próximo acesso", hash);
+        }
+    }
+
+    private boolean isComplete(String hash) {
+        for (ImageRendition rendition : ImageRendition.values()) {
+            if (store.find(hash, rendition) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void render(String hash) {
+        try {
+            Path original = store.find(hash);
+            BufferedImage image = original == null ? null : ImageIO.read(original.toFile());
+
+            if (image == null) {
+                unsupported.add(hash);
+                return;
+            }
+
+            for (ImageRendition rendition : ImageRendition.values()) {
+                if (store.find(hash, rendition) == null) {
+                    store.store(hash, rendition, encode(resize(image, rendition.size())));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Falha de disco é passageira: a imagem volta a ser tentada no próximo acesso.
+            failed.increment();
+            log.warn("Falha ao gerar as versões reduzidas da imagem {}", hash, e);
+        }
+    }
+
+    /**
+     * Reduz pela metade em passos bilineares: um único passo serrilha imagens grandes.
+     */
+    static BufferedImage resize(BufferedImage image, int size) {
+        double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = image;
+        do {
+            int stepWidth = Math.max(width, current.getWidth() / 2);
+            int stepHeight = Math.max(height, current.getHeight() / 2);
+
+            BufferedImage step = new BufferedImage(stepWidth, stepHeight, type);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, stepWidth, stepHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (current.getWidth() != width || current.getHeight() != height);
+
+        return current;
+    }
+
+    // JPEG é bem menor para fotos, mas não tem transparência: imagens com alfa continuam em PNG.
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, image.getColorModel().hasAlpha() ? "png" : "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,53 @@
+package com.fiap.techChallenge._webApi.data.image;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fiap.techChallenge._webApi.data.persistence.repository.product.JpaProductRepository;
+
+/**
+ * Remove do disco as imagens que nenhum produto referencia, respeitando a carência de escritas
+ * ainda não confirmadas.
+ */
+@Component
+public class ImageSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageSweeper.class);
+
+    private final ImageBlobStore store;
+    private final JpaProductRepository repository;
+    private final Duration grace;
+
+    public ImageSweeper(ImageBlobStore store, JpaProductRepository repository,
+                        @Value("${product.images.sweep-grace:1h}") Duration grace) {
+        this.store = store;
+        this.repository = repository;
+        this.grace = grace;
+    }
+
+    // O limite é fixado antes da consulta: imagem gravada depois dela está dentro da carência.
+    int sweep() {
+        Instant before = Instant.now().minus(grace);
+        return store.deleteUnreferenced(new HashSet<>(repository.findAllImages()), before);
+    }
+
+    @Scheduled(initialDelayString = "${product.images.sweep-interval:1h}",
+               fixedDelayString = "${product.images.sweep-interval:1h}")
+    public void run() {
+        try {
+            int deleted = sweep();
+            if (deleted > 0) {
+                log.info("{} imagens sem produto removidas", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao limpar as imagens sem produto", e);
+        }
+    }
+}
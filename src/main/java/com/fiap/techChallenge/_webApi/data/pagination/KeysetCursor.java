@@ -0,0 +1,83 @@
+package com.fiap.techChallenge._webApi.data.pagination;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+
+/**
+ * Cursor opaco de paginação por keyset: os valores da chave de ordenação do
+ * último item da página, codificados em Base64 URL-safe.
+ */
+public final class KeysetCursor {
+
+    private static final int VERSION = 1;
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(String... values) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            out.writeByte(values.length);
+            for (String value : values) {
+                out.writeUTF(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.toByteArray());
+    }
+
+    public static String[] decode(String cursor, int size) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION || in.readByte() != size) {
+                throw invalid();
+            }
+
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = in.readUTF();
+            }
+
+            if (in.available() > 0) {
+                throw invalid();
+            }
+
+            return values;
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * Monta a página a partir de até {@code size + 1} linhas: a linha extra só
+     * indica que existe uma próxima página.
+     */
+    public static <T, R> PageDTO<R> page(List<T> rows, int size, Function<T, R> mapper, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+
+        List<R> mapped = new ArrayList<>(items.size());
+        for (T item : items) {
+            mapped.add(mapper.apply(item));
+        }
+
+        return new PageDTO<>(mapped, hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null);
+    }
+
+    public static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Cursor de paginação inválido");
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.techChallenge._webApi.data.persistence.entity.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Contador único das alterações do cardápio, incrementado na transação de cada escrita.
+ */
+@Entity
+@Table(name = "product_change_sequence")
+public class ProductChangeSequenceEntity {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private int id;
+
+    @Column(name = "current_value", nullable = false)
+    private long currentValue;
+
+    // Versões até aqui já tiveram seus tombstones descartados.
+    @Column(name = "purged_through", nullable = false)
+    private long purgedThrough;
+
+    public ProductChangeSequenceEntity(int id, long currentValue, long purgedThrough) {
+        this.id = id;
+        this.currentValue = currentValue;
+        this.purgedThrough = purgedThrough;
+    }
+
+    public ProductChangeSequenceEntity() {
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public long getCurrentValue() {
+        return this.currentValue;
+    }
+
+    public long getPurgedThrough() {
+        return this.purgedThrough;
+    }
+}
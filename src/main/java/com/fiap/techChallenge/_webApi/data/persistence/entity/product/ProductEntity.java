@@ -13,6 +13,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
 @Table(name = "product")
@@ -26,6 +27,10 @@ public class ProductEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    // Derivada do nome; o índice único nesta coluna impede nomes equivalentes.
+    @Column(name = "name_key", nullable = false)
+    private String nameKey;
+
     @Column(name = "description", nullable = false)
     private String description;
 
@@ -43,9 +48,17 @@ public class ProductEntity {
     @Column(name = "image", nullable = false)
     private String image;
 
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    // Incrementada a cada atualização; a escrita só acontece se ainda for a versão lida.
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public ProductEntity(UUID id, String name, String description, BigDecimal price, Category category, ProductStatus status, String image) {
         this.id = id;
-        this.name = name;
+        setName(name);
         this.description = description;
         this.price = price;
         this.category = category;
@@ -70,6 +83,11 @@ public class ProductEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.nameKey = ProductNameKey.of(name);
+    }
+
+    public String getNameKey() {
+        return this.nameKey;
     }
 
     public String getDescription() {
@@ -112,4 +130,20 @@ public class ProductEntity {
     public void setImage(String image) {
         this.image = image;
     }
+
+    public Long getChangeSeq() {
+        return this.changeSeq;
+    }
+
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
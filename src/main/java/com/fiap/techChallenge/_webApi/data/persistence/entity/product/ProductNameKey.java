@@ -0,0 +1,45 @@
+package com.fiap.techChallenge._webApi.data.persistence.entity.product;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Chave de unicidade do nome: sem acentos, em minúsculas e com espaços normalizados.
+ */
+public final class ProductNameKey {
+
+    private ProductNameKey() {
+    }
+
+    public static String of(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        String decomposed = Normalizer.normalize(name.strip(), Normalizer.Form.NFD);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        boolean space = false;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+
+            if (space) {
+                key.append(' ');
+                space = false;
+            }
+
+            key.append(c);
+        }
+
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+}
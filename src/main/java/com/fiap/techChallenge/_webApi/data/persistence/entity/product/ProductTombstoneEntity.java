@@ -0,0 +1,61 @@
+package com.fiap.techChallenge._webApi.data.persistence.entity.product;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fiap.techChallenge.core.domain.enums.Category;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Registro de um produto removido, mantido para a sincronização incremental.
+ */
+@Entity
+@Table(name = "product_tombstone")
+public class ProductTombstoneEntity {
+
+    @Id
+    @Column(name = "product_id", updatable = false, nullable = false)
+    private UUID productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Category category;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public ProductTombstoneEntity(UUID productId, Category category, long changeSeq, Instant deletedAt) {
+        this.productId = productId;
+        this.category = category;
+        this.changeSeq = changeSeq;
+        this.deletedAt = deletedAt;
+    }
+
+    public ProductTombstoneEntity() {
+    }
+
+    public UUID getProductId() {
+        return this.productId;
+    }
+
+    public Category getCategory() {
+        return this.category;
+    }
+
+    public long getChangeSeq() {
+        return this.changeSeq;
+    }
+
+    public Instant getDeletedAt() {
+        return this.deletedAt;
+    }
+}
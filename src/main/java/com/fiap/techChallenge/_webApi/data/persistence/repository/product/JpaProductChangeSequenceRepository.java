@@ -0,0 +1,28 @@
+package com.fiap.techChallenge._webApi.data.persistence.repository.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductChangeSequenceEntity;
+
+@Repository
+public interface JpaProductChangeSequenceRepository extends JpaRepository<ProductChangeSequenceEntity, Integer> {
+
+    @Modifying
+    @Query("UPDATE ProductChangeSequenceEntity s SET s.currentValue = s.currentValue + 1 WHERE s.id = :id")
+    int increment(@Param("id") int id);
+
+    @Modifying
+    @Query("UPDATE ProductChangeSequenceEntity s SET s.purgedThrough = :purgedThrough "
+            + "WHERE s.id = :id AND s.purgedThrough < :purgedThrough")
+    int advancePurgedThrough(@Param("id") int id, @Param("purgedThrough") long purgedThrough);
+
+    @Query("SELECT s.currentValue FROM ProductChangeSequenceEntity s WHERE s.id = :id")
+    Long findCurrentValue(@Param("id") int id);
+
+    @Query("SELECT s.purgedThrough FROM ProductChangeSequenceEntity s WHERE s.id = :id")
+    Long findPurgedThrough(@Param("id") int id);
+}
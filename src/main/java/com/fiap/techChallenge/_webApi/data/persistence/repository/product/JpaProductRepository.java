@@ -1,5 +1,7 @@
 package com.fiap.techChallenge._webApi.data.persistence.repository.product;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,15 +10,19 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductEntity;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
 import com.fiap.techChallenge.core.domain.enums.Category;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
 
 @Repository
 public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID> {
 
+    // Projeção direto no DTO: leituras não hidratam entidades nem passam pelo dirty checking.
+    String SELECT_DTO = "SELECT new com.fiap.techChallenge.core.application.dto.product.ProductDTO("
+            + "p.id, p.name, p.description, p.price, p.category, p.status, p.image, p.version) FROM ProductEntity p ";
+
    ProductEntity findFirstById(UUID id);
 
    ProductEntity findFirstByName(String name);
@@ -29,11 +35,62 @@ public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID>
 
     List<ProductEntity> findByStatusAndCategoryOrderByCategoryAscNameAsc(ProductStatus status, Category category);
 
+    @Query(SELECT_DTO)
+    List<ProductDTO> findAllDto();
+
+    @Query("SELECT DISTINCT p.image FROM ProductEntity p")
+    List<String> findAllImages();
+
+    @Query(SELECT_DTO + "WHERE p.changeSeq > :changeSeq ORDER BY p.changeSeq")
+    List<ProductDTO> findDtoChangedSince(@Param("changeSeq") long changeSeq);
+
+    @Query(SELECT_DTO + "WHERE p.id = :id")
+    ProductDTO findDtoById(@Param("id") UUID id);
+
+    @Query(SELECT_DTO + "WHERE p.changeSeq = :changeSeq")
+    List<ProductDTO> findDtoByChangeSeq(@Param("changeSeq") long changeSeq);
+
+    /**
+     * Só grava se o produto ainda está na versão lida; retorna 0 quando outra escrita veio antes.
+     */
+    @Modifying
+    @Query("UPDATE ProductEntity p SET p.name = :name, p.nameKey = :nameKey, p.description = :description, "
+            + "p.price = :price, p.category = :category, p.status = :status, p.image = :image, "
+            + "p.version = p.version + 1, "
+            + "p.changeSeq = (SELECT s.currentValue FROM ProductChangeSequenceEntity s WHERE s.id = :sequenceId) "
+            + "WHERE p.id = :id AND p.version = :version")
+    int updateVersioned(@Param("id") UUID id, @Param("version") long version, @Param("name") String name,
+                        @Param("nameKey") String nameKey, @Param("description") String description,
+                        @Param("price") BigDecimal price, @Param("category") Category category,
+                        @Param("status") ProductStatus status, @Param("image") String image,
+                        @Param("sequenceId") int sequenceId);
+
+    // Mudança de status em massa: só as linhas que ainda não estão no status ganham versão e change_seq.
+    @Modifying
+    @Query("UPDATE ProductEntity p SET p.status = :status, p.version = p.version + 1, "
+            + "p.changeSeq = (SELECT s.currentValue FROM ProductChangeSequenceEntity s WHERE s.id = :sequenceId) "
+            + "WHERE p.id IN :ids AND p.status <> :status")
+    int updateStatusByIds(@Param("ids") Collection<UUID> ids, @Param("status") ProductStatus status,
+                          @Param("sequenceId") int sequenceId);
+
+    @Modifying
+    @Query("UPDATE ProductEntity p SET p.status = :status, p.version = p.version + 1, "
+            + "p.changeSeq = (SELECT s.currentValue FROM ProductChangeSequenceEntity s WHERE s.id = :sequenceId) "
+            + "WHERE p.category = :category AND p.status <> :status")
+    int updateStatusByCategory(@Param("category") Category category, @Param("status") ProductStatus status,
+                               @Param("sequenceId") int sequenceId);
+
     @Query("SELECT DISTINCT p.category FROM ProductEntity p WHERE p.status = :status")
     List<Category> listCategorysByProductStatus(@Param("status") ProductStatus status);
 
-    @Transactional
     @Modifying
-    void deleteByCategory(Category category);
+    @Query("DELETE FROM ProductEntity p WHERE p.id = :id")
+    int deleteInBulkById(@Param("id") UUID id);
+
+    // Remove até :limit produtos da categoria por comando, sem carregar as entidades.
+    @Modifying
+    @Query(value = "DELETE FROM product WHERE id IN "
+            + "(SELECT id FROM product WHERE category = :category LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByCategory(@Param("category") String category, @Param("limit") int limit);
 
 }
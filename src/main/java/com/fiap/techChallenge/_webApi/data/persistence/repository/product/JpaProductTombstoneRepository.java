@@ -0,0 +1,48 @@
+package com.fiap.techChallenge._webApi.data.persistence.repository.product;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductTombstoneEntity;
+import com.fiap.techChallenge.core.application.dto.product.ProductTombstoneDTO;
+
+@Repository
+public interface JpaProductTombstoneRepository extends JpaRepository<ProductTombstoneEntity, UUID> {
+
+    @Query("SELECT new com.fiap.techChallenge.core.application.dto.product.ProductTombstoneDTO("
+            + "t.productId, t.category, t.changeSeq) FROM ProductTombstoneEntity t "
+            + "WHERE t.changeSeq > :changeSeq ORDER BY t.changeSeq")
+    List<ProductTombstoneDTO> findDtoChangedSince(@Param("changeSeq") long changeSeq);
+
+    @Modifying
+    @Query(value = "INSERT INTO product_tombstone (product_id, category, change_seq, deleted_at) "
+            + "SELECT id, category, :changeSeq, :deletedAt FROM product WHERE category = :category", nativeQuery = true)
+    int tombstoneCategory(@Param("category") String category, @Param("changeSeq") long changeSeq,
+                          @Param("deletedAt") Instant deletedAt);
+
+    // Grava o tombstone a partir da própria linha do produto; a versão atual é provisória, ver updateChangeSeq.
+    @Modifying
+    @Query(value = "INSERT INTO product_tombstone (product_id, category, change_seq, deleted_at) "
+            + "SELECT id, category, (SELECT current_value FROM product_change_sequence WHERE id = :sequenceId), "
+            + ":deletedAt FROM product WHERE id = :id", nativeQuery = true)
+    int tombstoneProduct(@Param("id") UUID id, @Param("sequenceId") int sequenceId,
+                         @Param("deletedAt") Instant deletedAt);
+
+    @Modifying
+    @Query("UPDATE ProductTombstoneEntity t SET t.changeSeq = :changeSeq WHERE t.productId = :id")
+    int updateChangeSeq(@Param("id") UUID id, @Param("changeSeq") long changeSeq);
+
+    @Query("SELECT MAX(t.changeSeq) FROM ProductTombstoneEntity t WHERE t.deletedAt < :before")
+    Long findMaxChangeSeqDeletedBefore(@Param("before") Instant before);
+
+    @Modifying
+    @Query("DELETE FROM ProductTombstoneEntity t WHERE t.changeSeq <= :changeSeq")
+    int deleteByChangeSeqUpTo(@Param("changeSeq") long changeSeq);
+}
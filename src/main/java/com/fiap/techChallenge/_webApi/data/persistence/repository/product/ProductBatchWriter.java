@@ -0,0 +1,112 @@
+package com.fiap.techChallenge._webApi.data.persistence.repository.product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+
+/**
+ * Gravação de produtos em lote via JDBC: um batch de UPDATE para os nomes existentes e outro de
+ * INSERT.
+ */
+@Component
+public class ProductBatchWriter {
+
+    private static final String INSERT = "INSERT INTO product "
+            + "(id, name, name_key, description, price, category, status, image, change_seq) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE product SET name = ?, description = ?, price = ?, category = ?, "
+            + "status = ?, image = ?, change_seq = ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Deve rodar dentro de uma transação. Nomes equivalentes no mesmo lote
+     * viram um único produto, com os dados da última ocorrência.
+     */
+    public List<ProductDTO> upsertByName(List<ProductDTO> products, long changeSeq) {
+        Map<String, ProductDTO> byKey = new LinkedHashMap<>();
+        for (ProductDTO product : products) {
+            byKey.put(ProductNameKey.of(product.name()), product);
+        }
+
+        Map<String, Existing> existing = findByNameKey(byKey.keySet());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<ProductDTO> saved = new ArrayList<>(byKey.size());
+
+        byKey.forEach((key, product) -> {
+            Existing current = existing.get(key);
+            UUID id;
+            long version;
+
+            if (current == null) {
+                id = UUID.randomUUID();
+                version = 0;
+                inserts.add(new Object[]{id, product.name(), key, product.description(), product.price(),
+                        product.category().name(), product.status().name(), product.image(), changeSeq});
+            } else {
+                id = current.id();
+                version = current.version() + 1;
+                updates.add(new Object[]{product.name(), product.description(), product.price(),
+                        product.category().name(), product.status().name(), product.image(), changeSeq, id});
+            }
+
+            saved.add(ProductDTO.builder()
+                    .id(id)
+                    .name(product.name())
+                    .description(product.description())
+                    .price(product.price())
+                    .category(product.category())
+                    .status(product.status())
+                    .image(product.image())
+                    .version(version)
+                    .build());
+        });
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, inserts);
+        }
+
+        return saved;
+    }
+
+    private Map<String, Existing> findByNameKey(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Existing> existing = new HashMap<>(keys.size() * 2);
+        String placeholders = String.join(", ", Collections.nCopies(keys.size(), "?"));
+
+        RowCallbackHandler collect = rs -> existing.put(rs.getString("name_key"),
+                new Existing(rs.getObject("id", UUID.class), rs.getLong("version")));
+
+        jdbcTemplate.query("SELECT id, name_key, version FROM product WHERE name_key IN (" + placeholders + ")",
+                collect, keys.toArray());
+
+        return existing;
+    }
+
+    private record Existing(UUID id, long version) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.fiap.techChallenge._webApi.data.persistence.repository.product;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductChangeSequenceEntity;
+import com.fiap.techChallenge.core.domain.enums.Category;
+
+/**
+ * Sequência persistida das alterações e tombstones das remoções; use dentro da transação da
+ * escrita.
+ */
+@Component
+public class ProductChangeLog {
+
+    private static final int ID = ProductChangeSequenceEntity.ID;
+
+    private final JpaProductChangeSequenceRepository sequenceRepository;
+    private final JpaProductTombstoneRepository tombstoneRepository;
+    private final Duration tombstoneRetention;
+
+    public ProductChangeLog(JpaProductChangeSequenceRepository sequenceRepository,
+                            JpaProductTombstoneRepository tombstoneRepository,
+                            @Value("${product.changes.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.sequenceRepository = sequenceRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public long next() {
+        increment();
+        return sequenceRepository.findCurrentValue(ID);
+    }
+
+    /**
+     * Incrementa sem ler o novo valor, para escritas que o gravam direto no
+     * próprio UPDATE, como {@link JpaProductRepository#updateVersioned}.
+     */
+    public void increment() {
+        if (sequenceRepository.increment(ID) == 0) {
+            throw new IllegalStateException("Contador de alterações do cardápio não encontrado");
+        }
+    }
+
+    public long current() {
+        Long value = sequenceRepository.findCurrentValue(ID);
+        return value == null ? 0 : value;
+    }
+
+    public long purgedThrough() {
+        Long value = sequenceRepository.findPurgedThrough(ID);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Tombstone do produto com uma nova versão. Retorna 0, sem gravar nada nem
+     * consumir versão, se o produto não existe.
+     */
+    public int tombstone(UUID productId) {
+        int written = tombstoneRepository.tombstoneProduct(productId, ID, Instant.now());
+
+        if (written > 0) {
+            tombstoneRepository.updateChangeSeq(productId, next());
+            purge();
+        }
+        return written;
+    }
+
+    public void tombstoneCategory(Category category, long changeSeq) {
+        tombstoneRepository.tombstoneCategory(category.name(), changeSeq, Instant.now());
+        purge();
+    }
+
+    // Descarta tombstones antigos; quem pedir versões anteriores precisa ressincronizar.
+    private void purge() {
+        Long purgeThrough = tombstoneRepository.findMaxChangeSeqDeletedBefore(Instant.now().minus(tombstoneRetention));
+
+        if (purgeThrough != null) {
+            tombstoneRepository.deleteByChangeSeqUpTo(purgeThrough);
+            sequenceRepository.advancePurgedThrough(ID, purgeThrough);
+        }
+    }
+}
@@ -1,85 +1,384 @@
 package com.fiap.techChallenge._webApi.data.persistence.repository.product;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fiap.techChallenge._webApi.data.catalog.ProductCatalog;
+import com.fiap.techChallenge._webApi.data.catalog.ProductCatalogSnapshot;
+import com.fiap.techChallenge._webApi.data.pagination.KeysetCursor;
 import com.fiap.techChallenge._webApi.mappers.ProductMapper;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductChangeSequenceEntity;
 import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
 import com.fiap.techChallenge.core.domain.enums.Category;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
+import com.fiap.techChallenge.core.domain.exceptions.product.NameAlreadyRegisteredException;
+import com.fiap.techChallenge.core.domain.exceptions.product.ProductVersionConflictException;
 import com.fiap.techChallenge.core.interfaces.ProductDataSource;
 
 @Component
 public class ProductDataSourceImpl implements ProductDataSource {
 
+    private static final Logger log = LoggerFactory.getLogger(ProductDataSourceImpl.class);
+    private static final String NAME_KEY_INDEX = "uk_product_name_key";
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final JpaProductRepository repository;
+    private final JpaProductTombstoneRepository tombstoneRepository;
+    private final ProductChangeLog changeLog;
+    private final ProductBatchWriter batchWriter;
+    private final ProductCatalog catalog;
 
-    public ProductDataSourceImpl(JpaProductRepository repository) {
+    public ProductDataSourceImpl(JpaProductRepository repository, JpaProductTombstoneRepository tombstoneRepository,
+                                 ProductChangeLog changeLog, ProductBatchWriter batchWriter) {
         this.repository = repository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeLog = changeLog;
+        this.batchWriter = batchWriter;
+        this.catalog = new ProductCatalog(this::loadCatalog, changeLog::current);
+    }
+
+    // Carrega o cardápio antes da primeira requisição.
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        catalog.snapshot();
+    }
+
+    public void reloadCatalog() {
+        catalog.reload();
+    }
+
+    /**
+     * Alcança escritas de outras instâncias pela sequência de alterações do banco.
+     */
+    @Scheduled(initialDelayString = "${product.catalog.drift-check-interval:30s}",
+               fixedDelayString = "${product.catalog.drift-check-interval:30s}")
+    public void checkDrift() {
+        try {
+            if (syncCatalog(changeLog.current())) {
+                log.warn("Cardápio em memória estava atrás do banco; alterações aplicadas");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao verificar o cardápio em memória", e);
+        }
+    }
+
+    private boolean syncCatalog(long current) {
+        long synced = catalog.syncedThrough();
+
+        if (current == synced) {
+            return false;
+        }
+        if (current < synced || synced < changeLog.purgedThrough()) {
+            catalog.reload();
+            return true;
+        }
+
+        return catalog.catchUp(current, repository.findDtoChangedSince(synced),
+                tombstoneRepository.findDtoChangedSince(synced));
     }
 
     @Override
     public ProductDTO save(ProductDTO product) {
         ProductEntity entity = ProductMapper.toEntity(product);
-        entity = repository.save(entity);
+        entity.setChangeSeq(changeLog.next());
+
+        // Sem consulta prévia: o índice único de name_key decide, inclusive entre escritas concorrentes.
+        // O flush traz a violação para cá, antes de o cardápio em memória receber o produto.
+        try {
+            entity = repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (violatesNameKey(e)) {
+                throw new NameAlreadyRegisteredException(product.name());
+            }
+            throw e;
+        }
+
+        ProductDTO saved = ProductMapper.toDTO(entity);
+        catalog.publishSaved(saved);
+
+        return saved;
+    }
+
+    /**
+     * Sem ler a entidade: o UPDATE só grava se a versão em memória ainda for a do banco. Na
+     * divergência, a cópia em memória é corrigida.
+     */
+    @Override
+    public ProductDTO update(ProductDTO product) {
+        if (product.version() == null) {
+            throw new IllegalStateException("Versão do produto não informada");
+        }
+
+        changeLog.increment();
+
+        int updated;
+        try {
+            updated = repository.updateVersioned(product.id(), product.version(), product.name(),
+                    ProductNameKey.of(product.name()), product.description(), product.price(), product.category(),
+                    product.status(), product.image(), ProductChangeSequenceEntity.ID);
+        } catch (DataIntegrityViolationException e) {
+            if (violatesNameKey(e)) {
+                throw new NameAlreadyRegisteredException(product.name());
+            }
+            throw e;
+        }
 
-        return ProductMapper.toDTO(entity);
+        if (updated == 0) {
+            ProductDTO current = repository.findDtoById(product.id());
+            catalog.refresh(product.id(), current);
+
+            if (current == null) {
+                throw new EntityNotFoundException("Product");
+            }
+            throw new ProductVersionConflictException();
+        }
+
+        ProductDTO saved = new ProductDTO(product.id(), product.name(), product.description(), product.price(),
+                product.category(), product.status(), product.image(), product.version() + 1);
+        catalog.publishSaved(saved);
+
+        return saved;
+    }
+
+    /**
+     * Uma transação por lote: a importação grava lote a lote e o cardápio em
+     * memória recebe cada lote em uma única versão, depois do commit.
+     */
+    @Override
+    @Transactional
+    public List<ProductDTO> upsertAllByName(List<ProductDTO> products) {
+        List<ProductDTO> saved = batchWriter.upsertByName(products, changeLog.next());
+        catalog.publishSavedAll(saved);
+
+        return saved;
     }
 
     @Override
     public ProductDTO findById(UUID id) {
-        return ProductMapper.toDTO(repository.findFirstById(id));
+        return catalog.snapshot().findById(id);
+    }
+
+    // Um único snapshot para todos os IDs: o resultado não mistura versões do cardápio.
+    @Override
+    public List<ProductDTO> findAllById(Collection<UUID> ids) {
+        ProductCatalogSnapshot snapshot = catalog.snapshot();
+
+        return ids.stream()
+                .map(snapshot::findById)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<ProductPriceDTO> findPricesById(Collection<UUID> ids) {
+        ProductCatalogSnapshot snapshot = catalog.snapshot();
+
+        return ids.stream()
+                .map(snapshot::findPriceById)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
     public ProductDTO findByName(String name) {
-        return ProductMapper.toDTO(repository.findFirstByName(name));
+        return catalog.snapshot().findByName(name);
     }
 
     @Override
     public List<ProductDTO> list() {
-        return repository.findAllByOrderByCategoryAscNameAsc().stream()
-                .map(ProductMapper::toDTO)
-                .collect(Collectors.toList());
+        return catalog.snapshot().list();
+    }
+
+    @Override
+    public PageDTO<ProductDTO> listPage(PageRequestDTO page) {
+        Category category = null;
+        String name = null;
+        UUID id = null;
+
+        if (page.cursor() != null) {
+            String[] key = KeysetCursor.decode(page.cursor(), 3);
+            try {
+                category = Category.valueOf(key[0]);
+                name = key[1];
+                id = UUID.fromString(key[2]);
+            } catch (IllegalArgumentException e) {
+                throw KeysetCursor.invalid();
+            }
+        }
+
+        return KeysetCursor.page(catalog.snapshot().listAfter(category, name, id, page.size() + 1), page.size(),
+                product -> product,
+                last -> KeysetCursor.encode(last.category().name(), last.name(), last.id().toString()));
+    }
+
+    @Override
+    public List<ProductDTO> search(String query, int limit) {
+        return catalog.snapshot().search(query, limit);
+    }
+
+    // O snapshot é imutável: a exportação percorre a mesma instância sem copiar.
+    @Override
+    public void forEach(Consumer<ProductDTO> sink) {
+        catalog.snapshot().list().forEach(sink);
     }
 
     @Override
     public List<ProductDTO> listByStatus(ProductStatus status) {
-        return repository.findByStatusOrderByCategoryAscNameAsc(status).stream()
-                .map(ProductMapper::toDTO)
-                .collect(Collectors.toList());
+        return catalog.snapshot().listByStatus(status);
     }
 
     @Override
     public List<ProductDTO> listByCategory(Category category) {
-        return repository.findByCategoryOrderByNameAsc(category).stream()
-                .map(ProductMapper::toDTO)
-                .collect(Collectors.toList());
+        return catalog.snapshot().listByCategory(category);
     }
 
     @Override
     public List<ProductDTO> listByStatusAndCategory(ProductStatus status, Category category) {
-        return repository.findByStatusAndCategoryOrderByCategoryAscNameAsc(status, category).stream()
-                .map(ProductMapper::toDTO)
-                .collect(Collectors.toList());
+        return catalog.snapshot().listByStatusAndCategory(status, category);
     }
 
+    /**
+     * Sem carregar a entidade: o tombstone sai da própria linha e o DELETE informa se ela existia.
+     */
     @Override
-    public void delete(UUID id) {
-        repository.deleteById(id);
+    public int delete(UUID id) {
+        if (changeLog.tombstone(id) == 0) {
+            catalog.refresh(id, null);
+            return 0;
+        }
+
+        int deleted = repository.deleteInBulkById(id);
+        catalog.publishDeleted(id);
+
+        return deleted;
     }
 
+    /**
+     * Remove em comandos de até {@value #DELETE_CHUNK_SIZE} linhas, sem
+     * carregar os produtos: uma categoria de 5 mil itens custa seis DELETEs.
+     */
     @Override
-    public void deleteByCategory(Category category) {
-        repository.deleteByCategory(category);
+    public int deleteByCategory(Category category) {
+        changeLog.tombstoneCategory(category, changeLog.next());
+
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = repository.deleteChunkByCategory(category.name(), DELETE_CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk == DELETE_CHUNK_SIZE);
+
+        catalog.publishCategoryDeleted(category);
+
+        return deleted;
+    }
+
+    @Override
+    public int updateStatus(Collection<UUID> ids, ProductStatus status) {
+        long changeSeq = changeLog.next();
+
+        return publishStatus(repository.updateStatusByIds(ids, status, ProductChangeSequenceEntity.ID), changeSeq);
+    }
+
+    @Override
+    public int updateStatusByCategory(Category category, ProductStatus status) {
+        long changeSeq = changeLog.next();
+
+        return publishStatus(repository.updateStatusByCategory(category, status, ProductChangeSequenceEntity.ID),
+                changeSeq);
+    }
+
+    // A linha do contador fica travada até o commit: só este UPDATE gravou esse change_seq.
+    private int publishStatus(int updated, long changeSeq) {
+        if (updated > 0) {
+            catalog.publishSavedAll(repository.findDtoByChangeSeq(changeSeq));
+        }
+
+        return updated;
     }
 
     @Override
     public List<Category> listAvailableCategorys() {
-        return repository.listCategorysByProductStatus(ProductStatus.DISPONIVEL);
+        return catalog.snapshot().listCategoriesByStatus(ProductStatus.DISPONIVEL);
+    }
+
+    @Override
+    public CatalogVersionDTO catalogVersion() {
+        ProductCatalogSnapshot snapshot = catalog.snapshot();
+
+        return CatalogVersionDTO.builder()
+                .epoch(catalog.epoch())
+                .version(snapshot.version())
+                .updatedAt(snapshot.publishedAt())
+                .build();
+    }
+
+    /**
+     * O delta sai do banco; a sequência lida também alinha o cardápio em memória.
+     */
+    @Override
+    public ProductChangesDTO listChangesSince(long version) {
+        long current = changeLog.current();
+        syncCatalog(current);
+
+        // Versão 0, futura ou com tombstones já descartados: devolve o cardápio inteiro.
+        if (version == 0 || version > current || version < changeLog.purgedThrough()) {
+            return ProductChangesDTO.builder()
+                    .version(current)
+                    .resync(true)
+                    .upserted(repository.findAllDto())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        return ProductChangesDTO.builder()
+                .version(current)
+                .resync(false)
+                .upserted(repository.findDtoChangedSince(version))
+                .deleted(tombstoneRepository.findDtoChangedSince(version))
+                .build();
+    }
+
+    /**
+     * A transação não aceita consultas depois da violação, então a causa decide. O H2 não informa
+     * o nome da constraint.
+     */
+    private static boolean violatesNameKey(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraint = violation.getConstraintName();
+
+                return UNIQUE_VIOLATION.equals(violation.getSQLState())
+                        && (constraint == null || NAME_KEY_INDEX.equalsIgnoreCase(
+                                constraint.substring(constraint.lastIndexOf('.') + 1)));
+            }
+        }
+        return false;
+    }
+
+    private List<ProductDTO> loadCatalog() {
+        return repository.findAllDto();
     }
 }
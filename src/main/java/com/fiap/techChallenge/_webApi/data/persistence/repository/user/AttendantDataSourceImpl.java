@@ -1,10 +1,11 @@
 package com.fiap.techChallenge._webApi.data.persistence.repository.user;
 
 import com.fiap.techChallenge._webApi.mappers.AttendantMapper;
-import com.fiap.techChallenge._webApi.data.persistence.entity.user.CPFEmbeddable;
 import com.fiap.techChallenge.core.interfaces.AttendantDataSource;
 import com.fiap.techChallenge.core.application.dto.user.AttendantDTO;
+import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,9 +14,11 @@ import java.util.UUID;
 public class AttendantDataSourceImpl implements AttendantDataSource {
 
     private final JpaAttendantRepository repository;
+    private final UserRowWriter userRowWriter;
 
-    public AttendantDataSourceImpl(JpaAttendantRepository repository) {
+    public AttendantDataSourceImpl(JpaAttendantRepository repository, UserRowWriter userRowWriter) {
         this.repository = repository;
+        this.userRowWriter = userRowWriter;
     }
 
     @Override
@@ -25,26 +28,40 @@ public class AttendantDataSourceImpl implements AttendantDataSource {
         return AttendantMapper.entityToDto(saved);
     }
 
+    /**
+     * Atendente só tem colunas em "user": um UPDATE com as que mudaram, sem
+     * o SELECT do merge. user_attendant guarda apenas o id.
+     */
     @Override
+    public AttendantDTO update(AttendantDTO current, AttendantDTO changed) {
+        var user = UserRowWriter.changes()
+                .set("name", current.name(), changed.name())
+                .set("email", current.email(), changed.email())
+                .set("cpf", current.cpf(), changed.cpf());
+
+        if (!userRowWriter.update(UserRowWriter.Table.USER, current.id(), user.columns())) {
+            throw new EntityNotFoundException("Attendant");
+        }
+
+        return changed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public AttendantDTO findFirstByCpf(String cpf) {
-        return repository.findFirstByCpf_Number(cleanCpf(cpf))
-                .map(AttendantMapper::entityToDto)
-                .orElse(null);
+        return repository.findDtoByCpf(cleanCpf(cpf)).orElse(null);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AttendantDTO findFirstById(UUID id) {
-        return repository.findFirstById(id) != null
-                ? AttendantMapper.entityToDto(repository.findFirstById(id))
-                : null;
+        return repository.findDtoById(id).orElse(null);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AttendantDTO> findAll() {
-        return repository.findAll()
-                .stream()
-                .map(AttendantMapper::entityToDto)
-                .toList();
+        return repository.findAllDto();
     }
 
     @Override
@@ -1,21 +1,30 @@
 package com.fiap.techChallenge._webApi.data.persistence.repository.user;
 
 import com.fiap.techChallenge._webApi.mappers.CustomerMapper;
-import com.fiap.techChallenge._webApi.data.persistence.entity.user.CPFEmbeddable;
+import com.fiap.techChallenge._webApi.data.pagination.KeysetCursor;
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
+import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
 import com.fiap.techChallenge.core.interfaces.CustomerDataSource;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 public class CustomerDataSourceImpl implements CustomerDataSource {
 
     private final JpaCustomerRepository jpaCustomerRepository;
+    private final UserRowWriter userRowWriter;
 
-    public CustomerDataSourceImpl(JpaCustomerRepository jpaCustomerRepository) {
+    public CustomerDataSourceImpl(JpaCustomerRepository jpaCustomerRepository, UserRowWriter userRowWriter) {
         this.jpaCustomerRepository = jpaCustomerRepository;
+        this.userRowWriter = userRowWriter;
     }
 
     @Override
@@ -26,37 +35,84 @@ public class CustomerDataSourceImpl implements CustomerDataSource {
         return CustomerMapper.customerEntityToDto(newCustomer);
     }
 
+    /**
+     * Grava só o que mudou em relação a {@code current}, sem o SELECT do
+     * merge: no máximo um UPDATE em "user" e outro em user_customer.
+     */
     @Override
-    public CustomerFullDTO findFirstByCpf(String cpf) {
-        var customerEntity = jpaCustomerRepository.findFirstByCpf(new CPFEmbeddable(cpf));
-
-        if (customerEntity == null) {
-            return null;
+    @Transactional
+    public CustomerFullDTO update(CustomerFullDTO current, CustomerFullDTO changed) {
+        var user = UserRowWriter.changes()
+                .set("name", current.name(), changed.name())
+                .set("email", current.email(), changed.email())
+                .set("cpf", current.cpf(), changed.cpf());
+        var customer = UserRowWriter.changes()
+                .set("anonymous", current.anonymous(), changed.anonymous());
+
+        if (!userRowWriter.update(UserRowWriter.Table.USER, current.id(), user.columns())
+                || !userRowWriter.update(UserRowWriter.Table.CUSTOMER, current.id(), customer.columns())) {
+            throw new EntityNotFoundException("Customer");
         }
 
-        return CustomerMapper.customerEntityToDto(customerEntity);
+        return changed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerFullDTO findFirstByCpf(String cpf) {
+        return jpaCustomerRepository.findDtoByCpf(cpf).orElse(null);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CustomerFullDTO findFirstById(UUID id) {
-        var customerEntity = jpaCustomerRepository.findFirstById(id);
+        return jpaCustomerRepository.findDtoById(id).orElse(null);
+    }
 
-        if (customerEntity == null) {
-            return null;
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerFullDTO> findAllNotAnonym() {
+        return jpaCustomerRepository.findDtoByAnonymousFalse();
+    }
 
-        return CustomerMapper.customerEntityToDto(customerEntity);
+    /**
+     * Percorre os clientes por um cursor do banco, sem carregar a lista inteira:
+     * as linhas viram DTOs direto, sem entidades retidas no contexto de persistência.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachNotAnonym(Consumer<CustomerFullDTO> sink) {
+        try (Stream<CustomerFullDTO> customers = jpaCustomerRepository.streamDtoByAnonymousFalse()) {
+            customers.forEach(sink);
+        }
     }
 
     @Override
-    public List<CustomerFullDTO> findAllNotAnonym() {
-        var customerEntities = jpaCustomerRepository.findByAnonymousFalse();
+    @Transactional(readOnly = true)
+    public PageDTO<CustomerFullDTO> findNotAnonymPage(PageRequestDTO page) {
+        var limit = Limit.of(page.size() + 1);
+        List<CustomerFullDTO> customers;
+
+        if (page.cursor() == null) {
+            customers = jpaCustomerRepository.findDtoByAnonymousFalseOrderByNameAndId(limit);
+        } else {
+            var key = KeysetCursor.decode(page.cursor(), 2);
+            UUID id;
+            try {
+                id = UUID.fromString(key[1]);
+            } catch (IllegalArgumentException e) {
+                throw KeysetCursor.invalid();
+            }
+            customers = jpaCustomerRepository.findDtoNotAnonymousAfter(key[0], id, limit);
+        }
 
-        return customerEntities.stream().map(CustomerMapper::customerEntityToDto).toList();
+        return KeysetCursor.page(customers, page.size(), customer -> customer,
+                last -> KeysetCursor.encode(last.name(), last.id().toString()));
     }
 
     @Override
-    public void delete(UUID id) {
-        jpaCustomerRepository.deleteById(id);
+    @Transactional
+    public int delete(UUID id) {
+        return userRowWriter.delete(UserRowWriter.Table.CUSTOMER, id);
     }
 }
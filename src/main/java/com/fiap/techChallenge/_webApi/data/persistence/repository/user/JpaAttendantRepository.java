@@ -1,19 +1,30 @@
 package com.fiap.techChallenge._webApi.data.persistence.repository.user;
 
 import com.fiap.techChallenge._webApi.data.persistence.entity.user.AttendantEntity;
-import com.fiap.techChallenge._webApi.data.persistence.entity.user.CPFEmbeddable;
+import com.fiap.techChallenge.core.application.dto.user.AttendantDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JpaAttendantRepository extends JpaRepository<AttendantEntity, UUID> {
 
+    String SELECT_DTO = "SELECT new com.fiap.techChallenge.core.application.dto.user.AttendantDTO("
+            + "a.id, a.name, a.email, a.cpf.number) FROM AttendantEntity a ";
+
     Optional<AttendantEntity> findByCpf_Number(String number);
 
-    Optional<AttendantEntity> findFirstByCpf_Number(String number);
+    @Query(SELECT_DTO + "WHERE a.cpf.number = :cpf")
+    Optional<AttendantDTO> findDtoByCpf(@Param("cpf") String cpf);
+
+    @Query(SELECT_DTO + "WHERE a.id = :id")
+    Optional<AttendantDTO> findDtoById(@Param("id") UUID id);
 
-    AttendantEntity findFirstById(UUID id);
-}
\ No newline at end of file
+    @Query(SELECT_DTO)
+    List<AttendantDTO> findAllDto();
+}
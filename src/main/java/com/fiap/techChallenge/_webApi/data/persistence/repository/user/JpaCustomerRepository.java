@@ -4,18 +4,50 @@ import java.util.List;
 
 import com.fiap.techChallenge._webApi.data.persistence.entity.user.CPFEmbeddable;
 import com.fiap.techChallenge._webApi.data.persistence.entity.user.CustomerEntity;
+import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface JpaCustomerRepository extends JpaRepository<CustomerEntity, UUID> {
 
+    String SELECT_DTO = "SELECT new com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO("
+            + "c.id, c.name, c.cpf.number, c.email, c.anonymous) FROM CustomerEntity c ";
+
     Optional<CustomerEntity> findByCpf(CPFEmbeddable cpf);
-    List<CustomerEntity> findByAnonymousFalse();
-    CustomerEntity findFirstByCpf(CPFEmbeddable cpf);
-    CustomerEntity findFirstById(UUID id);
+
+    @Query(SELECT_DTO + "WHERE c.cpf.number = :cpf")
+    Optional<CustomerFullDTO> findDtoByCpf(@Param("cpf") String cpf);
+
+    @Query(SELECT_DTO + "WHERE c.id = :id")
+    Optional<CustomerFullDTO> findDtoById(@Param("id") UUID id);
+
+    @Query(SELECT_DTO + "WHERE c.anonymous = false")
+    List<CustomerFullDTO> findDtoByAnonymousFalse();
+
+    @Query(SELECT_DTO + "WHERE c.anonymous = false ORDER BY c.name, c.id")
+    List<CustomerFullDTO> findDtoByAnonymousFalseOrderByNameAndId(Limit limit);
+
+    @Query(SELECT_DTO + "WHERE c.anonymous = false "
+            + "AND (c.name > :name OR (c.name = :name AND c.id > :id)) ORDER BY c.name, c.id")
+    List<CustomerFullDTO> findDtoNotAnonymousAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    // Cursor somente leitura: o driver busca as linhas em lotes em vez de carregar o resultado todo.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_DTO + "WHERE c.anonymous = false ORDER BY c.name, c.id")
+    Stream<CustomerFullDTO> streamDtoByAnonymousFalse();
 }
@@ -0,0 +1,100 @@
+package com.fiap.techChallenge._webApi.data.persistence.repository.user;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escrita de usuários via JDBC: um UPDATE por tabela da herança, só com as colunas que mudaram.
+ */
+@Component
+public class UserRowWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserRowWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Grava as colunas em uma tabela e diz se a linha existe. Sem colunas,
+     * nada é enviado ao banco e a linha é dada como existente.
+     */
+    public boolean update(Table table, UUID id, Map<String, Object> columns) {
+        if (columns.isEmpty()) {
+            return true;
+        }
+
+        StringJoiner sql = new StringJoiner(", ", "UPDATE " + table.name + " SET ", " WHERE " + table.id + " = ?");
+        List<Object> args = new ArrayList<>(columns.size() + 1);
+        columns.forEach((column, value) -> {
+            sql.add(column + " = ?");
+            args.add(value);
+        });
+        args.add(id);
+
+        return jdbcTemplate.update(sql.toString(), args.toArray()) > 0;
+    }
+
+    /**
+     * Remove pela tabela da subclasse e, só se a linha existia, a de "user". Retorna quantos
+     * removeu.
+     */
+    public int delete(Table table, UUID id) {
+        int deleted = jdbcTemplate.update("DELETE FROM " + table.name + " WHERE " + table.id + " = ?", id);
+
+        if (deleted > 0) {
+            jdbcTemplate.update("DELETE FROM " + Table.USER.name + " WHERE " + Table.USER.id + " = ?", id);
+        }
+        return deleted;
+    }
+
+    /**
+     * Colunas a gravar, na ordem em que são comparadas.
+     */
+    public static Changes changes() {
+        return new Changes();
+    }
+
+    /**
+     * Tabelas da herança, com os identificadores como o V1 os declara.
+     */
+    public enum Table {
+        USER("\"user\"", "id"),
+        CUSTOMER("user_customer", "\"id\"");
+
+        private final String name;
+        private final String id;
+
+        Table(String name, String id) {
+            this.name = name;
+            this.id = id;
+        }
+    }
+
+    public static final class Changes {
+
+        private final Map<String, Object> columns = new LinkedHashMap<>();
+
+        private Changes() {
+        }
+
+        public Changes set(String column, Object current, Object changed) {
+            if (!Objects.equals(current, changed)) {
+                columns.put(column, changed);
+            }
+            return this;
+        }
+
+        public Map<String, Object> columns() {
+            return columns;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.fiap.techChallenge._webApi.dto.product;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record CartItemRequestDTO(
+        @NotNull
+        UUID productId,
+        @Min(value = 1, message = "A quantidade deve ser maior que zero")
+        int quantity
+        ) {
+
+}
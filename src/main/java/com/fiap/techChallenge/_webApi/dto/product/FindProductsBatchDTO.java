@@ -0,0 +1,14 @@
+package com.fiap.techChallenge._webApi.dto.product;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record FindProductsBatchDTO(
+        @NotEmpty(message = "Informe ao menos um ID")
+        List<@NotNull UUID> ids
+        ) {
+
+}
@@ -0,0 +1,14 @@
+package com.fiap.techChallenge._webApi.dto.product;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record QuoteRequestDTO(
+        @NotEmpty(message = "Informe ao menos um item")
+        List<@NotNull @Valid CartItemRequestDTO> items
+        ) {
+
+}
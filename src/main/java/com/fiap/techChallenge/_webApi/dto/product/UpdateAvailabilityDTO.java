@@ -0,0 +1,19 @@
+package com.fiap.techChallenge._webApi.dto.product;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+import jakarta.validation.constraints.NotNull;
+
+public record UpdateAvailabilityDTO(
+        // Informe os IDs ou a categoria, não os dois.
+        List<@NotNull UUID> ids,
+        Category category,
+        @NotNull
+        ProductStatus status
+        ) {
+
+}
@@ -24,7 +24,9 @@ public record UpdateProductDTO(
         @NotNull
         ProductStatus status,
         @NotBlank(message = "Imagem é obrigatória")
-        String image
+        String image,
+        // Opcional: a versão lida pelo cliente, para recusar a edição se o produto mudou depois.
+        Long version
         ) {
 
 }
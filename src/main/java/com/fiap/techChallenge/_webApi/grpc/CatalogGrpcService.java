@@ -0,0 +1,199 @@
+package com.fiap.techChallenge._webApi.grpc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.fiap.techChallenge._webApi.controller.product.ProductChangeBroadcaster;
+import com.fiap.techChallenge._webApi.grpc.proto.CatalogEvent;
+import com.fiap.techChallenge._webApi.grpc.proto.CatalogGrpc;
+import com.fiap.techChallenge._webApi.grpc.proto.Customer;
+import com.fiap.techChallenge._webApi.grpc.proto.FindCustomerByCpfRequest;
+import com.fiap.techChallenge._webApi.grpc.proto.FindProductByIdRequest;
+import com.fiap.techChallenge._webApi.grpc.proto.GetProductsRequest;
+import com.fiap.techChallenge._webApi.grpc.proto.GetProductsResponse;
+import com.fiap.techChallenge._webApi.grpc.proto.Product;
+import com.fiap.techChallenge._webApi.grpc.proto.WatchCatalogRequest;
+import com.fiap.techChallenge.core.application.dto.product.ProductBatchDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangeDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.application.dto.user.CustomerAnonymDTO;
+import com.fiap.techChallenge.core.application.dto.user.CustomerDTO;
+import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
+import com.fiap.techChallenge.core.controller.product.ProductController;
+import com.fiap.techChallenge.core.controller.user.CustomerController;
+import com.fiap.techChallenge.core.domain.exceptions.DomainException;
+import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
+import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Consultas de produtos e clientes em gRPC, sobre os mesmos controllers do REST.
+ */
+@Component
+public class CatalogGrpcService extends CatalogGrpc.CatalogImplBase {
+
+    private final ProductController productController;
+    private final CustomerController customerController;
+    private final ProductChangeBroadcaster broadcaster;
+
+    public CatalogGrpcService(CompositeDataSource compositeDataSource, ProductChangeBroadcaster broadcaster) {
+        this.productController = ProductController.build(compositeDataSource);
+        this.customerController = CustomerController.build(compositeDataSource);
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public void findProductById(FindProductByIdRequest request, StreamObserver<Product> responseObserver) {
+        reply(responseObserver, () -> toProduct(productController.findById(toUUID(request.getId()))));
+    }
+
+    @Override
+    public void getProducts(GetProductsRequest request, StreamObserver<GetProductsResponse> responseObserver) {
+        reply(responseObserver, () -> {
+            List<UUID> ids = request.getIdsList().stream().map(CatalogGrpcService::toUUID).toList();
+            ProductBatchDTO<ProductResponseDTO> batch = productController.findBatch(ids);
+
+            return GetProductsResponse.newBuilder()
+                    .addAllFound(batch.found().stream().map(CatalogGrpcService::toProduct).toList())
+                    .addAllUnavailable(batch.unavailable().stream().map(UUID::toString).toList())
+                    .addAllMissing(batch.missing().stream().map(UUID::toString).toList())
+                    .build();
+        });
+    }
+
+    @Override
+    public void findCustomerByCpf(FindCustomerByCpfRequest request, StreamObserver<Customer> responseObserver) {
+        reply(responseObserver, () -> toCustomer(customerController.findByCpf(request.getCpf())));
+    }
+
+    /**
+     * Repassa as alterações confirmadas a partir da conexão, sem retomada; cliente lento recebe
+     * RESOURCE_EXHAUSTED.
+     */
+    @Override
+    public void watchCatalog(WatchCatalogRequest request, StreamObserver<CatalogEvent> responseObserver) {
+        ServerCallStreamObserver<CatalogEvent> observer = (ServerCallStreamObserver<CatalogEvent>) responseObserver;
+        // O listener pode ser chamado antes de listen() retornar: fecha pela flag e remove quando o handle existir.
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicReference<Runnable> unsubscribe = new AtomicReference<>(() -> {
+        });
+
+        Runnable handle = broadcaster.listen(change -> {
+            if (closed.get()) {
+                return;
+            }
+
+            if (observer.isCancelled()) {
+                closed.set(true);
+                unsubscribe.get().run();
+            } else if (!observer.isReady()) {
+                closed.set(true);
+                unsubscribe.get().run();
+                observer.onError(Status.RESOURCE_EXHAUSTED
+                        .withDescription("Consumidor lento: reconecte e releia o cardápio")
+                        .asRuntimeException());
+            } else {
+                observer.onNext(toEvent(change));
+            }
+        });
+
+        unsubscribe.set(handle);
+        if (closed.get()) {
+            handle.run();
+        }
+
+        observer.setOnCancelHandler(() -> {
+            closed.set(true);
+            handle.run();
+        });
+    }
+
+    private static <T> void reply(StreamObserver<T> observer, Supplier<T> call) {
+        T response;
+
+        try {
+            response = call.get();
+        } catch (EntityNotFoundException e) {
+            observer.onError(Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        } catch (DomainException | IllegalArgumentException e) {
+            observer.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        }
+
+        observer.onNext(response);
+        observer.onCompleted();
+    }
+
+    private static UUID toUUID(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("ID inválido: '" + id + "'");
+        }
+    }
+
+    static Product toProduct(ProductResponseDTO product) {
+        Product.Builder builder = Product.newBuilder()
+                .setId(product.id().toString())
+                .setName(product.name())
+                .setDescription(orEmpty(product.description()))
+                .setPrice(product.price().toPlainString())
+                .setCategory(product.category())
+                .setStatus(product.status())
+                .setImage(orEmpty(product.image()));
+
+        if (product.version() != null) {
+            builder.setVersion(product.version());
+        }
+
+        return builder.build();
+    }
+
+    static Customer toCustomer(CustomerDTO customer) {
+        Customer.Builder builder = Customer.newBuilder();
+
+        if (customer instanceof CustomerFullDTO full) {
+            builder.setId(full.id().toString())
+                    .setName(orEmpty(full.name()))
+                    .setCpf(orEmpty(full.cpf()))
+                    .setEmail(orEmpty(full.email()))
+                    .setAnonymous(full.anonymous());
+        } else if (customer instanceof CustomerAnonymDTO anonym) {
+            builder.setId(anonym.id().toString())
+                    .setName(orEmpty(anonym.name()))
+                    .setAnonymous(anonym.anonymous());
+        }
+
+        return builder.build();
+    }
+
+    static CatalogEvent toEvent(ProductChangeDTO change) {
+        CatalogEvent.Builder builder = CatalogEvent.newBuilder().setType(change.type().name());
+
+        if (change.id() != null) {
+            builder.setId(change.id().toString());
+        }
+        if (change.category() != null) {
+            builder.setCategory(change.category().name());
+        }
+        if (change.product() != null) {
+            builder.setProduct(toProduct(change.product()));
+        }
+
+        return builder.build();
+    }
+
+    // Campos de mensagens protobuf não aceitam nulo.
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
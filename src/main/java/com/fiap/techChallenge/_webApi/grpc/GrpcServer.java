@@ -0,0 +1,81 @@
+package com.fiap.techChallenge._webApi.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+
+/**
+ * Servidor gRPC na porta {@code grpc.server.port} (0 escolhe uma livre; negativa desliga).
+ */
+@Component
+public class GrpcServer implements SmartLifecycle {
+
+    private final CatalogGrpcService catalogService;
+    private final int port;
+    private final Duration shutdownGrace;
+
+    private Server server;
+
+    public GrpcServer(CatalogGrpcService catalogService,
+                      @Value("${grpc.server.port:9090}") int port,
+                      @Value("${grpc.server.shutdown-grace:10s}") Duration shutdownGrace) {
+        this.catalogService = catalogService;
+        this.port = port;
+        this.shutdownGrace = shutdownGrace;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (port < 0) {
+            return;
+        }
+
+        try {
+            server = NettyServerBuilder.forPort(port)
+                    .addService(catalogService)
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir a porta gRPC " + port, e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            server = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Porta efetiva, útil quando configurada como 0.
+     */
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getPort();
+    }
+}
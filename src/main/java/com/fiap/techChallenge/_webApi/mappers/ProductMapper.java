@@ -18,6 +18,7 @@ public class ProductMapper {
                 .category(entity.getCategory())
                 .status(entity.getStatus())
                 .image(entity.getImage())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -34,6 +35,7 @@ public class ProductMapper {
         entity.setStatus(dto.status());
         entity.setCategory(dto.category());
         entity.setImage(dto.image());
+        entity.setVersion(dto.version());
 
         return entity;
     }
@@ -0,0 +1,17 @@
+package com.fiap.techChallenge.core.application.dto.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados; {@code nextCursor} é nulo na última página.
+ */
+public record PageDTO<T>(
+        List<T> items,
+        String nextCursor
+        ) {
+
+    public <R> PageDTO<R> map(Function<? super T, ? extends R> mapper) {
+        return new PageDTO<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fiap.techChallenge.core.application.dto.page;
+
+import lombok.Builder;
+
+/**
+ * Pedido de página por keyset: {@code cursor} nulo começa do início.
+ */
+@Builder
+public record PageRequestDTO(
+        String cursor,
+        int size
+        ) {
+
+}
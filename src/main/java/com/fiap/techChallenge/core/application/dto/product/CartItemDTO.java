@@ -0,0 +1,13 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.util.UUID;
+
+import lombok.Builder;
+
+@Builder
+public record CartItemDTO(
+        UUID productId,
+        int quantity
+        ) {
+
+}
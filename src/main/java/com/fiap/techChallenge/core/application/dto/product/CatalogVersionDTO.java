@@ -0,0 +1,18 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.time.Instant;
+
+import lombok.Builder;
+
+/**
+ * Versão do cardápio. A época identifica a instância que a emitiu, de modo que
+ * versões de reinícios diferentes nunca se confundam.
+ */
+@Builder
+public record CatalogVersionDTO(
+        long epoch,
+        long version,
+        Instant updatedAt
+        ) {
+
+}
@@ -0,0 +1,19 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Consulta de vários produtos por ID: disponíveis, IDs indisponíveis e IDs inexistentes.
+ */
+public record ProductBatchDTO<T>(
+        List<T> found,
+        List<UUID> unavailable,
+        List<UUID> missing
+        ) {
+
+    public <R> ProductBatchDTO<R> map(Function<? super T, ? extends R> mapper) {
+        return new ProductBatchDTO<>(found.stream().<R>map(mapper).toList(), unavailable, missing);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.util.UUID;
+
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductChangeType;
+
+import lombok.Builder;
+
+/**
+ * Alteração no cardápio. Em remoções {@code product} é nulo; em alterações em massa só o tipo vem
+ * preenchido.
+ */
+@Builder
+public record ProductChangeDTO(
+        ProductChangeType type,
+        UUID id,
+        Category category,
+        ProductResponseDTO product
+        ) {
+
+}
@@ -0,0 +1,19 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * Produtos incluídos/alterados e removidos depois de uma versão. Com
+ * {@code resync} a lista traz o cardápio completo e substitui a cópia local.
+ */
+@Builder
+public record ProductChangesDTO(
+        long version,
+        boolean resync,
+        List<ProductDTO> upserted,
+        List<ProductTombstoneDTO> deleted
+        ) {
+
+}
@@ -0,0 +1,12 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.util.List;
+
+public record ProductChangesResponseDTO(
+        long version,
+        boolean resync,
+        List<ProductResponseDTO> upserted,
+        List<ProductTombstoneDTO> deleted
+        ) {
+
+}
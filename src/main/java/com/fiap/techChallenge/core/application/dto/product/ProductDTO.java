@@ -16,7 +16,13 @@ public record ProductDTO(
         BigDecimal price,
         Category category,
         ProductStatus status,
-        String image
+        String image,
+        Long version
         ) {
 
+    // Produto ainda não gravado: a versão é atribuída na inclusão.
+    public ProductDTO(UUID id, String name, String description, BigDecimal price, Category category,
+                      ProductStatus status, String image) {
+        this(id, name, description, price, category, status, image, null);
+    }
 }
@@ -0,0 +1,12 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import lombok.Builder;
+
+@Builder
+public record ProductImportErrorDTO(
+        long row,
+        String name,
+        String message
+        ) {
+
+}
@@ -0,0 +1,21 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * Resultado de uma importação. {@code merged} conta as linhas trocadas por outra de nome
+ * equivalente no mesmo lote; {@code errors} traz só as primeiras recusas.
+ */
+@Builder
+public record ProductImportReportDTO(
+        long received,
+        long imported,
+        long merged,
+        long rejected,
+        List<ProductImportErrorDTO> errors,
+        boolean errorsTruncated
+        ) {
+
+}
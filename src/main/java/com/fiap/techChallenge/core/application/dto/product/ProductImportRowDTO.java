@@ -0,0 +1,17 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import lombok.Builder;
+
+/**
+ * Linha lida do arquivo de importação; se ilegível, {@code product} é nulo e {@code error} traz o
+ * motivo.
+ */
+@Builder
+public record ProductImportRowDTO(
+        long row,
+        String name,
+        CreateProductInputDTO product,
+        String error
+        ) {
+
+}
@@ -0,0 +1,37 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+import lombok.Builder;
+
+/**
+ * Preço em centavos, calculado quando o cardápio é publicado; {@link #OUT_OF_RANGE} se não cabe em
+ * {@code long}.
+ */
+@Builder
+public record ProductPriceDTO(
+        UUID id,
+        String name,
+        ProductStatus status,
+        long priceCents
+        ) {
+
+    public static final long OUT_OF_RANGE = -1;
+
+    // Mesma escala e arredondamento da coluna de preço (numeric com 2 casas).
+    public static ProductPriceDTO of(ProductDTO product) {
+        return new ProductPriceDTO(product.id(), product.name(), product.status(), toCents(product.price()));
+    }
+
+    private static long toCents(BigDecimal price) {
+        try {
+            return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return OUT_OF_RANGE;
+        }
+    }
+}
@@ -10,7 +10,8 @@ public record ProductResponseDTO(
         BigDecimal price,
         String category,
         String status,
-        String image
+        String image,
+        Long version
         ) {
 
 }
@@ -0,0 +1,16 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.util.UUID;
+
+import com.fiap.techChallenge.core.domain.enums.Category;
+
+import lombok.Builder;
+
+@Builder
+public record ProductTombstoneDTO(
+        UUID id,
+        Category category,
+        long version
+        ) {
+
+}
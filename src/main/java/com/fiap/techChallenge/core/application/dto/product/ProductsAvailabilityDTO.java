@@ -0,0 +1,17 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+import lombok.Builder;
+
+/**
+ * Resultado da alteração de disponibilidade: {@code updated} conta só os
+ * produtos que ainda não estavam no status pedido.
+ */
+@Builder
+public record ProductsAvailabilityDTO(
+        ProductStatus status,
+        int updated
+        ) {
+
+}
@@ -0,0 +1,22 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+
+/**
+ * Orçamento de um carrinho; {@code orderable} é falso se algum item está indisponível ou não
+ * existe.
+ */
+@Builder
+public record QuoteDTO(
+        boolean orderable,
+        List<QuoteLineDTO> lines,
+        BigDecimal total,
+        List<UUID> unavailable,
+        List<UUID> missing
+        ) {
+
+}
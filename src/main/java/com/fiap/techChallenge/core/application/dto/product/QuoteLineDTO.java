@@ -0,0 +1,17 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import lombok.Builder;
+
+@Builder
+public record QuoteLineDTO(
+        UUID productId,
+        String name,
+        int quantity,
+        BigDecimal unitPrice,
+        BigDecimal total
+        ) {
+
+}
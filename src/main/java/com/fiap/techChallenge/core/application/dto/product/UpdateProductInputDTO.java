@@ -17,7 +17,8 @@ public record UpdateProductInputDTO(
         BigDecimal price,
         Category category,
         ProductStatus status,
-        String image
+        String image,
+        Long version
         ) {
 
 }
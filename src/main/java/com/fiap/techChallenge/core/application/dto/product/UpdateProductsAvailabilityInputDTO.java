@@ -0,0 +1,22 @@
+package com.fiap.techChallenge.core.application.dto.product;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+
+import lombok.Builder;
+
+/**
+ * Produtos a alterar, por {@code ids} ou por {@code category}, e o status
+ * que devem passar a ter.
+ */
+@Builder
+public record UpdateProductsAvailabilityInputDTO(
+        List<UUID> ids,
+        Category category,
+        ProductStatus status
+        ) {
+
+}
@@ -1,7 +1,21 @@
 package com.fiap.techChallenge.core.application.services.product;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+import com.fiap.techChallenge.core.application.dto.product.CartItemDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductBatchDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteLineDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
 import com.fiap.techChallenge.core.domain.exceptions.product.ProductNotAvaiableException;
@@ -9,6 +23,10 @@ import com.fiap.techChallenge.core.gateways.product.ProductGateway;
 
 public class ProductAvailabilityService {
 
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private static final String QUOTE_LIMIT_EXCEEDED = "O valor do orçamento excede o limite permitido";
+
     private final ProductGateway gateway;
 
     public ProductAvailabilityService(ProductGateway gateway) {
@@ -24,4 +42,116 @@ public class ProductAvailabilityService {
 
         return product;
     }
+
+    /**
+     * Resolve todos os IDs em uma única consulta ao gateway; IDs repetidos contam uma vez.
+     */
+    public ProductBatchDTO<Product> findAvailableProducts(Collection<UUID> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um ID");
+        }
+
+        if (productIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Os IDs informados não podem ser nulos");
+        }
+
+        Set<UUID> ids = new LinkedHashSet<>(productIds);
+
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_BATCH_SIZE + " IDs por consulta");
+        }
+
+        Map<UUID, Product> products = new HashMap<>();
+        for (Product product : gateway.findAllByIds(ids)) {
+            products.put(product.getId(), product);
+        }
+
+        List<Product> found = new ArrayList<>();
+        List<UUID> unavailable = new ArrayList<>();
+        List<UUID> missing = new ArrayList<>();
+
+        for (UUID id : ids) {
+            Product product = products.get(id);
+
+            if (product == null) {
+                missing.add(id);
+            } else if (product.getStatus().equals(ProductStatus.INDISPONIVEL)) {
+                unavailable.add(id);
+            } else {
+                found.add(product);
+            }
+        }
+
+        return new ProductBatchDTO<>(found, unavailable, missing);
+    }
+
+    /**
+     * Calcula o orçamento em centavos com uma única consulta ao gateway.
+     */
+    public QuoteDTO quote(List<CartItemDTO> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um item");
+        }
+
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_BATCH_SIZE + " itens por orçamento");
+        }
+
+        Set<UUID> ids = new LinkedHashSet<>(items.size());
+        for (CartItemDTO item : items) {
+            if (item == null || item.productId() == null) {
+                throw new IllegalArgumentException("Os IDs informados não podem ser nulos");
+            }
+            if (item.quantity() < 1) {
+                throw new IllegalArgumentException("A quantidade deve ser maior que zero");
+            }
+            ids.add(item.productId());
+        }
+
+        Map<UUID, ProductPriceDTO> prices = new HashMap<>();
+        for (ProductPriceDTO price : gateway.findPricesByIds(ids)) {
+            prices.put(price.id(), price);
+        }
+
+        List<QuoteLineDTO> lines = new ArrayList<>(items.size());
+        List<UUID> unavailable = new ArrayList<>();
+        List<UUID> missing = new ArrayList<>();
+        long totalCents = 0;
+
+        try {
+            for (CartItemDTO item : items) {
+                ProductPriceDTO price = prices.get(item.productId());
+
+                if (price == null) {
+                    missing.add(item.productId());
+                    continue;
+                }
+
+                if (price.status() == ProductStatus.INDISPONIVEL) {
+                    unavailable.add(item.productId());
+                    continue;
+                }
+
+                long unitCents = price.priceCents();
+                if (unitCents == ProductPriceDTO.OUT_OF_RANGE) {
+                    throw new IllegalArgumentException(QUOTE_LIMIT_EXCEEDED);
+                }
+
+                long lineCents = Math.multiplyExact(unitCents, item.quantity());
+                totalCents = Math.addExact(totalCents, lineCents);
+
+                lines.add(new QuoteLineDTO(price.id(), price.name(), item.quantity(),
+                        fromCents(unitCents), fromCents(lineCents)));
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(QUOTE_LIMIT_EXCEEDED);
+        }
+
+        return new QuoteDTO(unavailable.isEmpty() && missing.isEmpty(), lines, fromCents(totalCents),
+                unavailable, missing);
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
 }
@@ -2,7 +2,6 @@ package com.fiap.techChallenge.core.application.useCases.product;
 
 import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
-import com.fiap.techChallenge.core.domain.exceptions.product.NameAlreadyRegisteredException;
 import com.fiap.techChallenge.core.gateways.product.ProductGateway;
 
 public class CreateProductUseCase {
@@ -14,10 +13,7 @@ public class CreateProductUseCase {
     }
 
     public Product execute(CreateProductInputDTO dto) {
-        if (gateway.existisByName(dto.name())) {
-            throw new NameAlreadyRegisteredException(dto.name());
-        }
-
+        // Nome repetido é recusado pelo gateway ao salvar, com NameAlreadyRegisteredException.
         Product product = Product.build(
             null,
                 dto.name(),
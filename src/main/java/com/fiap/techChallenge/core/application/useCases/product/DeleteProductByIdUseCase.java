@@ -2,8 +2,6 @@ package com.fiap.techChallenge.core.application.useCases.product;
 
 import java.util.UUID;
 
-import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
-import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.gateways.product.ProductGateway;
 
 public class DeleteProductByIdUseCase {
@@ -14,12 +12,10 @@ public class DeleteProductByIdUseCase {
         this.gateway = gateway;
     }
 
-    public void execute(UUID id) {
-        Product product = gateway.findById(id);
-
-        if (product == null) {
-            throw new EntityNotFoundException("Product");
-        }
-        gateway.delete(id);
+    /**
+     * Retorna quantos produtos foram removidos; 0 quando o ID não existe.
+     */
+    public int execute(UUID id) {
+        return gateway.delete(id);
     }
 }
@@ -11,7 +11,7 @@ public class DeleteProductsByCategoryUseCase {
         this.gateway = gateway;
     }
 
-    public void execute(Category category) {
-        gateway.deleteByCategory(category);
+    public int execute(Category category) {
+        return gateway.deleteByCategory(category);
     }
 }
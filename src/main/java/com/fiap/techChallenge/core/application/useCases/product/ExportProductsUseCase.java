@@ -0,0 +1,19 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import java.util.function.Consumer;
+
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+
+public class ExportProductsUseCase {
+
+    private final ProductGateway gateway;
+
+    public ExportProductsUseCase(ProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public void execute(Consumer<Product> sink) {
+        gateway.forEach(sink);
+    }
+}
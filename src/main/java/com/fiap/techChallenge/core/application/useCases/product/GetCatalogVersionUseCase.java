@@ -0,0 +1,18 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+
+public class GetCatalogVersionUseCase {
+
+    private final ProductGateway gateway;
+
+    public GetCatalogVersionUseCase(ProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public CatalogVersionDTO execute() {
+        return gateway.catalogVersion();
+    }
+
+}
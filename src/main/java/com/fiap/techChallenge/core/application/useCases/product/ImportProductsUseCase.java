@@ -0,0 +1,123 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportErrorDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportReportDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportRowDTO;
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+
+/**
+ * Importa produtos em lotes de {@link #CHUNK_SIZE} linhas, validados em paralelo e gravados de uma
+ * vez.
+ */
+public class ImportProductsUseCase {
+
+    public static final int CHUNK_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private record Validated(ProductImportRowDTO row, Product product, String error) {
+    }
+
+    private final ProductGateway gateway;
+
+    private long received;
+    private long imported;
+    private long merged;
+    private long rejected;
+    private final List<ProductImportErrorDTO> errors = new ArrayList<>();
+
+    public ImportProductsUseCase(ProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    /**
+     * {@code onImported} recebe os produtos de cada lote depois de gravados.
+     * Lotes anteriores a uma falha de leitura ou de banco continuam gravados.
+     */
+    public ProductImportReportDTO execute(Iterator<ProductImportRowDTO> rows, Consumer<List<Product>> onImported) {
+        List<ProductImportRowDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            received++;
+
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, onImported);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, onImported);
+        }
+
+        return ProductImportReportDTO.builder()
+                .received(received)
+                .imported(imported)
+                .merged(merged)
+                .rejected(rejected)
+                .errors(List.copyOf(errors))
+                .errorsTruncated(rejected > errors.size())
+                .build();
+    }
+
+    private void importChunk(List<ProductImportRowDTO> chunk, Consumer<List<Product>> onImported) {
+        // toList() preserva a ordem do arquivo, mesmo validando em paralelo.
+        List<Validated> validated = chunk.parallelStream().map(ImportProductsUseCase::validate).toList();
+        List<Product> products = new ArrayList<>(validated.size());
+
+        for (Validated result : validated) {
+            if (result.error() != null) {
+                reject(result.row(), result.error());
+            } else {
+                products.add(result.product());
+            }
+        }
+
+        if (!products.isEmpty()) {
+            List<Product> saved = gateway.upsertAllByName(products);
+            imported += saved.size();
+            merged += products.size() - saved.size();
+            onImported.accept(saved);
+        }
+    }
+
+    private static Validated validate(ProductImportRowDTO row) {
+        if (row.error() != null) {
+            return new Validated(row, null, row.error());
+        }
+
+        CreateProductInputDTO dto = row.product();
+
+        try {
+            Product product = Product.build(null, dto.name(), dto.description(), dto.price(), dto.category(),
+                    dto.status(), dto.image());
+
+            if (product.getStatus() == null) {
+                return new Validated(row, null, "O status do produto deve ser preenchido.");
+            }
+
+            return new Validated(row, product, null);
+        } catch (IllegalArgumentException e) {
+            return new Validated(row, null, e.getMessage());
+        }
+    }
+
+    private void reject(ProductImportRowDTO row, String message) {
+        rejected++;
+
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(ProductImportErrorDTO.builder()
+                    .row(row.row())
+                    .name(row.product() != null ? row.product().name() : row.name())
+                    .message(message)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+
+public class ListProductChangesUseCase {
+
+    private final ProductGateway gateway;
+
+    public ListProductChangesUseCase(ProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public ProductChangesDTO execute(long since) {
+        if (since < 0) {
+            throw new IllegalArgumentException("A versão informada não pode ser negativa");
+        }
+
+        return gateway.listChangesSince(since);
+    }
+
+}
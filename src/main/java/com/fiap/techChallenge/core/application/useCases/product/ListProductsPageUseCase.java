@@ -0,0 +1,23 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+
+public class ListProductsPageUseCase {
+
+    private final ProductGateway gateway;
+
+    public ListProductsPageUseCase(ProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public PageDTO<Product> execute(PageRequestDTO page) {
+        if (page.size() < 1) {
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero");
+        }
+
+        return gateway.listPage(page);
+    }
+}
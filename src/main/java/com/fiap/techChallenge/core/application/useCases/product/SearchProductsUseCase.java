@@ -0,0 +1,29 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import java.util.List;
+
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+
+public class SearchProductsUseCase {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final ProductGateway gateway;
+
+    public SearchProductsUseCase(ProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public List<Product> execute(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("O termo de busca deve ser informado");
+        }
+
+        if (limit < 1) {
+            throw new IllegalArgumentException("O limite de resultados deve ser maior que zero");
+        }
+
+        return gateway.search(query, Math.min(limit, MAX_LIMIT));
+    }
+}
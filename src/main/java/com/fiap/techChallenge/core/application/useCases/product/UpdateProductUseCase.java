@@ -1,9 +1,9 @@
 package com.fiap.techChallenge.core.application.useCases.product;
 
 import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
-import com.fiap.techChallenge.core.domain.exceptions.product.NameAlreadyRegisteredException;
 import com.fiap.techChallenge.core.application.dto.product.UpdateProductInputDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.domain.exceptions.product.ProductVersionConflictException;
 import com.fiap.techChallenge.core.gateways.product.ProductGateway;
 
 public class UpdateProductUseCase {
@@ -21,12 +21,9 @@ public class UpdateProductUseCase {
             throw new EntityNotFoundException("Product");
         }
 
-        if (!productToUpdate.getName().equals(dto.name())) {
-            Product productWithSameName = gateway.findByName(dto.name());
-
-            if (productWithSameName != null && !productWithSameName.getId().equals(productToUpdate.getId())) {
-                throw new NameAlreadyRegisteredException(dto.name());
-            }
+        // Versão informada pelo cliente: a edição partiu de uma leitura que já ficou para trás.
+        if (dto.version() != null && !dto.version().equals(productToUpdate.getVersion())) {
+            throw new ProductVersionConflictException();
         }
 
         productToUpdate.setName(dto.name());
@@ -36,6 +33,6 @@ public class UpdateProductUseCase {
         productToUpdate.setStatus(dto.status());
         productToUpdate.setImage(dto.image());
 
-        return gateway.save(productToUpdate);
+        return gateway.update(productToUpdate);
     }
 }
@@ -0,0 +1,53 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fiap.techChallenge.core.application.dto.product.UpdateProductsAvailabilityInputDTO;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+
+/**
+ * Muda o status de vários produtos de uma vez, por IDs ou por categoria,
+ * sem ler nem regravar o restante de cada produto.
+ */
+public class UpdateProductsAvailabilityUseCase {
+
+    public static final int MAX_IDS = 1000;
+
+    private final ProductGateway gateway;
+
+    public UpdateProductsAvailabilityUseCase(ProductGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    /**
+     * Retorna quantos produtos mudaram de status; os que já estavam nele não
+     * contam e não ganham nova versão.
+     */
+    public int execute(UpdateProductsAvailabilityInputDTO dto) {
+        if (dto.status() == null) {
+            throw new IllegalArgumentException("O status do produto deve ser preenchido.");
+        }
+
+        boolean byIds = dto.ids() != null && !dto.ids().isEmpty();
+
+        if (byIds == (dto.category() != null)) {
+            throw new IllegalArgumentException("Informe os IDs ou a categoria dos produtos, não os dois");
+        }
+
+        if (!byIds) {
+            return gateway.updateStatusByCategory(dto.category(), dto.status());
+        }
+
+        List<UUID> ids = dto.ids().stream().distinct().toList();
+
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("ID do produto não pode ser nulo");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_IDS + " IDs por alteração");
+        }
+
+        return gateway.updateStatus(ids, dto.status());
+    }
+}
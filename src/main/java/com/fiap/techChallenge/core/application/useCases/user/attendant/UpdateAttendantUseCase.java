@@ -29,7 +29,7 @@ public class UpdateAttendantUseCase {
                 attendantInputDTO.cpf()
         );
 
-        this.attendantGateway.save(attendant);
+        this.attendantGateway.update(existingAttendant, attendant);
         return attendant;
     }
 }
@@ -14,12 +14,8 @@ public class DeleteCustomerUseCase {
     }
 
     public void execute(UUID id) {
-        var customer = customerGateway.findFirstById(id);
-
-        if (customer == null) {
+        if (this.customerGateway.delete(id) == 0) {
             throw new EntityNotFoundException("Customer");
         }
-
-        this.customerGateway.delete(id);
     }
 }
@@ -0,0 +1,19 @@
+package com.fiap.techChallenge.core.application.useCases.user.customer;
+
+import com.fiap.techChallenge.core.domain.entities.user.customer.Customer;
+import com.fiap.techChallenge.core.gateways.user.CustomerGateway;
+
+import java.util.function.Consumer;
+
+public class ExportNotAnonymCustomersUseCase {
+
+    private final CustomerGateway customerGateway;
+
+    public ExportNotAnonymCustomersUseCase(CustomerGateway customerGateway) {
+        this.customerGateway = customerGateway;
+    }
+
+    public void execute(Consumer<Customer> sink) {
+        customerGateway.forEachNotAnonymous(sink);
+    }
+}
@@ -0,0 +1,23 @@
+package com.fiap.techChallenge.core.application.useCases.user.customer;
+
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.domain.entities.user.customer.Customer;
+import com.fiap.techChallenge.core.gateways.user.CustomerGateway;
+
+public class ListNotAnonymCustomersPageUseCase {
+
+    private final CustomerGateway customerGateway;
+
+    public ListNotAnonymCustomersPageUseCase(CustomerGateway customerGateway) {
+        this.customerGateway = customerGateway;
+    }
+
+    public PageDTO<Customer> execute(PageRequestDTO page) {
+        if (page.size() < 1) {
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero");
+        }
+
+        return customerGateway.findNotAnonymousPage(page);
+    }
+}
@@ -30,7 +30,7 @@ public class UpdateCustomerUseCase {
                 customerInputDTO.anonymous()
         );
 
-        this.customerGateway.save(customer);
+        this.customerGateway.update(existingCustomer, customer);
         return customer;
     }
 }
@@ -1,54 +1,102 @@
 package com.fiap.techChallenge.core.controller.product;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CartItemDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductBatchDTO;
 import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangeDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportReportDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportRowDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductsAvailabilityDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteDTO;
 import com.fiap.techChallenge.core.application.dto.product.UpdateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.UpdateProductsAvailabilityInputDTO;
+import com.fiap.techChallenge.core.application.services.product.ProductAvailabilityService;
 import com.fiap.techChallenge.core.application.useCases.product.CreateProductUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.DeleteProductByIdUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.DeleteProductsByCategoryUseCase;
+import com.fiap.techChallenge.core.application.useCases.product.ExportProductsUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.FindProductByIdUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.FindProductByNameUseCase;
+import com.fiap.techChallenge.core.application.useCases.product.GetCatalogVersionUseCase;
+import com.fiap.techChallenge.core.application.useCases.product.ImportProductsUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.ListAvaiableCategoriesUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.ListAvailablesProductsByCategoryUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.ListAvailablesProductsUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.ListProductsByCategoryUseCase;
+import com.fiap.techChallenge.core.application.useCases.product.ListProductChangesUseCase;
+import com.fiap.techChallenge.core.application.useCases.product.ListProductsPageUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.ListProductsUseCase;
+import com.fiap.techChallenge.core.application.useCases.product.SearchProductsUseCase;
 import com.fiap.techChallenge.core.application.useCases.product.UpdateProductUseCase;
+import com.fiap.techChallenge.core.application.useCases.product.UpdateProductsAvailabilityUseCase;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductChangeType;
 import com.fiap.techChallenge.core.gateways.product.ProductGateway;
 import com.fiap.techChallenge.core.gateways.product.ProductGatewayImpl;
 import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+import com.fiap.techChallenge.core.interfaces.ProductChangePublisher;
 import com.fiap.techChallenge.core.presenter.ProductPresenter;
 
 public class ProductController {
 
     private final ProductGateway productGateway;
+    private final ProductChangePublisher changePublisher;
 
-    private ProductController(CompositeDataSource compositeDataSource) {
+    private ProductController(CompositeDataSource compositeDataSource, ProductChangePublisher changePublisher) {
         this.productGateway = new ProductGatewayImpl(compositeDataSource);
+        this.changePublisher = changePublisher;
     }
 
     public static ProductController build(CompositeDataSource compositeDataSource) {
-        return new ProductController(compositeDataSource);
+        return new ProductController(compositeDataSource, ProductChangePublisher.NONE);
+    }
+
+    public static ProductController build(CompositeDataSource compositeDataSource, ProductChangePublisher changePublisher) {
+        return new ProductController(compositeDataSource, changePublisher);
     }
 
     public ProductResponseDTO create(CreateProductInputDTO dto) {
         CreateProductUseCase createProductUseCase = new CreateProductUseCase(productGateway);
 
         Product product = createProductUseCase.execute(dto);
-        return ProductPresenter.toDTO(product);
+        ProductResponseDTO response = ProductPresenter.toDTO(product);
+
+        publish(ProductChangeType.CREATED, product, response);
+        return response;
+    }
+
+    // Um aviso por lote gravado, sem o produto: os quiosques buscam as alterações desde a sua versão.
+    public ProductImportReportDTO importProducts(Iterator<ProductImportRowDTO> rows) {
+        ImportProductsUseCase importProductsUseCase = new ImportProductsUseCase(productGateway);
+
+        return importProductsUseCase.execute(rows, products -> changePublisher.publish(ProductChangeDTO.builder()
+                .type(ProductChangeType.IMPORTED)
+                .build()));
     }
 
     public ProductResponseDTO update(UpdateProductInputDTO dto) {
         UpdateProductUseCase updateProductUseCase = new UpdateProductUseCase(productGateway);
 
+        Product previous = productGateway.findById(dto.id());
         Product product = updateProductUseCase.execute(dto);
-        return ProductPresenter.toDTO(product);
+        ProductResponseDTO response = ProductPresenter.toDTO(product);
+
+        boolean availabilityChanged = previous != null && previous.getStatus() != product.getStatus();
+        publish(availabilityChanged ? ProductChangeType.AVAILABILITY_CHANGED : ProductChangeType.UPDATED, product, response);
+        return response;
     }
 
     public ProductResponseDTO findById(UUID id) {
@@ -63,12 +111,40 @@ public class ProductController {
         return ProductPresenter.toDTO(product);
     }
 
+    public ProductBatchDTO<ProductResponseDTO> findBatch(List<UUID> ids) {
+        ProductAvailabilityService productAvailabilityService = new ProductAvailabilityService(productGateway);
+        ProductBatchDTO<Product> products = productAvailabilityService.findAvailableProducts(ids);
+        return products.map(ProductPresenter::toDTO);
+    }
+
+    public QuoteDTO quote(List<CartItemDTO> items) {
+        ProductAvailabilityService productAvailabilityService = new ProductAvailabilityService(productGateway);
+        return productAvailabilityService.quote(items);
+    }
+
+    public List<ProductResponseDTO> search(String query, int limit) {
+        SearchProductsUseCase searchProductsUseCase = new SearchProductsUseCase(productGateway);
+        List<Product> products = searchProductsUseCase.execute(query, limit);
+        return products.stream().map(ProductPresenter::toDTO).toList();
+    }
+
     public List<ProductResponseDTO> list() {
         ListProductsUseCase listUseCase = new ListProductsUseCase(productGateway);
         List<Product> productsList = listUseCase.execute();
         return productsList.stream().map(product -> ProductPresenter.toDTO(product)).toList();
     }
 
+    public PageDTO<ProductResponseDTO> listPage(PageRequestDTO page) {
+        ListProductsPageUseCase listProductsPageUseCase = new ListProductsPageUseCase(productGateway);
+        PageDTO<Product> products = listProductsPageUseCase.execute(page);
+        return products.map(ProductPresenter::toDTO);
+    }
+
+    public void export(Consumer<ProductResponseDTO> sink) {
+        ExportProductsUseCase exportProductsUseCase = new ExportProductsUseCase(productGateway);
+        exportProductsUseCase.execute(product -> sink.accept(ProductPresenter.toDTO(product)));
+    }
+
     public List<ProductResponseDTO> listAvailables() {
         ListAvailablesProductsUseCase listAvailablesUseCase = new ListAvailablesProductsUseCase(productGateway);
         List<Product> productsList = listAvailablesUseCase.execute();
@@ -92,18 +168,78 @@ public class ProductController {
         return productsList.stream().map(product -> ProductPresenter.toDTO(product)).toList();
     }
 
-    public void delete(UUID id) {
+    public int delete(UUID id) {
         DeleteProductByIdUseCase deleteProductByIdUseCase = new DeleteProductByIdUseCase(productGateway);
-        deleteProductByIdUseCase.execute(id);
+
+        Product previous = productGateway.findById(id);
+        int deleted = deleteProductByIdUseCase.execute(id);
+
+        if (deleted > 0) {
+            changePublisher.publish(ProductChangeDTO.builder()
+                    .type(ProductChangeType.DELETED)
+                    .id(id)
+                    .category(previous == null ? null : previous.getCategory())
+                    .build());
+        }
+
+        return deleted;
     }
 
-    public void deleteByCategory(Category category) {
+    public int deleteByCategory(Category category) {
         DeleteProductsByCategoryUseCase deleteProductsByCategoryUseCase = new DeleteProductsByCategoryUseCase(productGateway);
-        deleteProductsByCategoryUseCase.execute(category);
+        int deleted = deleteProductsByCategoryUseCase.execute(category);
+
+        changePublisher.publish(ProductChangeDTO.builder()
+                .type(ProductChangeType.CATEGORY_DELETED)
+                .category(category)
+                .build());
+
+        return deleted;
+    }
+
+    /**
+     * Um único aviso para a alteração inteira; os quiosques buscam o resto pelas alterações desde
+     * a sua versão.
+     */
+    public ProductsAvailabilityDTO updateAvailability(UpdateProductsAvailabilityInputDTO dto) {
+        UpdateProductsAvailabilityUseCase updateProductsAvailabilityUseCase = new UpdateProductsAvailabilityUseCase(productGateway);
+        int updated = updateProductsAvailabilityUseCase.execute(dto);
+
+        if (updated > 0) {
+            changePublisher.publish(ProductChangeDTO.builder()
+                    .type(ProductChangeType.AVAILABILITY_CHANGED)
+                    .category(dto.category())
+                    .build());
+        }
+
+        return ProductsAvailabilityDTO.builder()
+                .status(dto.status())
+                .updated(updated)
+                .build();
     }
 
     public List<Category> listCategorys() {
         return Arrays.asList(Category.values());
     }
 
+    public CatalogVersionDTO catalogVersion() {
+        GetCatalogVersionUseCase getCatalogVersionUseCase = new GetCatalogVersionUseCase(productGateway);
+        return getCatalogVersionUseCase.execute();
+    }
+
+    public ProductChangesResponseDTO listChangesSince(long since) {
+        ListProductChangesUseCase listProductChangesUseCase = new ListProductChangesUseCase(productGateway);
+        ProductChangesDTO changes = listProductChangesUseCase.execute(since);
+        return ProductPresenter.toDTO(changes);
+    }
+
+    private void publish(ProductChangeType type, Product product, ProductResponseDTO response) {
+        changePublisher.publish(ProductChangeDTO.builder()
+                .type(type)
+                .id(product.getId())
+                .category(product.getCategory())
+                .product(response)
+                .build());
+    }
+
 }
@@ -1,10 +1,14 @@
 package com.fiap.techChallenge.core.controller.user;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerInputDTO;
 import com.fiap.techChallenge.core.application.useCases.user.customer.CreateCustomerUseCase;
+import com.fiap.techChallenge.core.application.useCases.user.customer.ExportNotAnonymCustomersUseCase;
 import com.fiap.techChallenge.core.application.useCases.user.customer.FindCustomerUseCase;
+import com.fiap.techChallenge.core.application.useCases.user.customer.ListNotAnonymCustomersPageUseCase;
 import com.fiap.techChallenge.core.application.useCases.user.customer.ListNotAnonymCustomersUseCase;
 import com.fiap.techChallenge.core.application.useCases.user.customer.UpdateCustomerUseCase;
 import com.fiap.techChallenge.core.gateways.user.CustomerGateway;
@@ -14,6 +18,7 @@ import com.fiap.techChallenge.core.presenter.UserPresenter;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class CustomerController {
 
@@ -82,4 +87,18 @@ public class CustomerController {
 
         return customers.stream().map(UserPresenter::toCustomerDTO).toList();
     }
+
+    public void exportNotAnonym(Consumer<CustomerFullDTO> sink) {
+        var exportCustomersUseCase = new ExportNotAnonymCustomersUseCase(customerGateway);
+
+        exportCustomersUseCase.execute(customer -> sink.accept(UserPresenter.toCustomerDTO(customer)));
+    }
+
+    public PageDTO<CustomerFullDTO> listNotAnonymPage(PageRequestDTO page) {
+        var listCustomersPageUseCase = new ListNotAnonymCustomersPageUseCase(customerGateway);
+
+        var customers = listCustomersPageUseCase.execute(page);
+
+        return customers.map(UserPresenter::toCustomerDTO);
+    }
 }
@@ -22,7 +22,10 @@ public class Product {
 
     private String image;
 
-    private Product(UUID id, String name, String description, BigDecimal price, Category category, ProductStatus status, String image) {
+    // Versão lida do banco; nula em produtos ainda não gravados.
+    private Long version;
+
+    private Product(UUID id, String name, String description, BigDecimal price, Category category, ProductStatus status, String image, Long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -30,6 +33,7 @@ public class Product {
         this.category = category;
         this.image = image;
         this.status = status;
+        this.version = version;
     }
 
     public UUID getId() {
@@ -84,9 +88,17 @@ public class Product {
         this.image = image;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
     public static Product build(UUID id, String name, String description, BigDecimal price, Category category, ProductStatus status, String image) {
+        return build(id, name, description, price, category, status, image, null);
+    }
+
+    public static Product build(UUID id, String name, String description, BigDecimal price, Category category, ProductStatus status, String image, Long version) {
         validate(name, description, price, category, image);
-        return new Product(id, name, description, price, category, status, image);
+        return new Product(id, name, description, price, category, status, image, version);
     }
 
     private static void validate(String name, String description, BigDecimal price, Category category, String image) {
@@ -0,0 +1,10 @@
+package com.fiap.techChallenge.core.domain.enums;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    AVAILABILITY_CHANGED,
+    DELETED,
+    CATEGORY_DELETED,
+    IMPORTED;
+}
@@ -0,0 +1,10 @@
+package com.fiap.techChallenge.core.domain.exceptions.product;
+
+import com.fiap.techChallenge.core.domain.exceptions.DomainException;
+
+public class ProductVersionConflictException extends DomainException {
+
+    public ProductVersionConflictException() {
+        super("O produto foi alterado por outra pessoa. Recarregue e tente novamente");
+    }
+}
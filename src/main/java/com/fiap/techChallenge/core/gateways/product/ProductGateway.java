@@ -1,33 +1,86 @@
 package com.fiap.techChallenge.core.gateways.product;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.Category;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
 
 public interface ProductGateway {
 
+    /**
+     * Persiste o produto. Lança {@code NameAlreadyRegisteredException} se outro
+     * produto já usa um nome equivalente (ignorando acentos, maiúsculas e espaços).
+     */
     Product save(Product product);
 
+    /**
+     * Atualiza se o produto ainda está na versão lida; senão lança
+     * {@code ProductVersionConflictException}.
+     */
+    Product update(Product product);
+
+    /**
+     * Grava os produtos de uma vez, atualizando os de nome equivalente e criando os demais.
+     */
+    List<Product> upsertAllByName(List<Product> products);
+
     Product findById(UUID id);
 
     Product findByName(String name);
 
+    /**
+     * Produtos existentes entre os IDs informados, em uma única consulta; IDs
+     * inexistentes são omitidos.
+     */
+    List<Product> findAllByIds(Collection<UUID> ids);
+
+    /**
+     * Preços em centavos dos produtos existentes entre os IDs informados, sem
+     * montar as entidades de domínio.
+     */
+    List<ProductPriceDTO> findPricesByIds(Collection<UUID> ids);
+
     List<Category> listAvailableCategorys();
 
     List<Product> list();
 
+    PageDTO<Product> listPage(PageRequestDTO page);
+
+    List<Product> search(String query, int limit);
+
+    void forEach(Consumer<Product> sink);
+
     List<Product> listByCategory(Category category);
 
     List<Product> listByStatusAndCategory(ProductStatus status, Category category);
 
     List<Product> listByStatus(ProductStatus status);
 
-    void delete(UUID id);
+    /**
+     * Remove sem ler o produto antes. Retorna quantos foram removidos: 0 se
+     * o ID não existe.
+     */
+    int delete(UUID id);
+
+    int deleteByCategory(Category category);
+
+    /**
+     * Muda o status em uma única escrita; retorna quantos produtos mudaram.
+     */
+    int updateStatus(Collection<UUID> ids, ProductStatus status);
+
+    int updateStatusByCategory(Category category, ProductStatus status);
 
-    void deleteByCategory(Category category);
+    CatalogVersionDTO catalogVersion();
 
-    boolean existisByName(String name);
+    ProductChangesDTO listChangesSince(long version);
 }
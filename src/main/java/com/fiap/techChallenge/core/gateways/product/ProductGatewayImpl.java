@@ -1,14 +1,20 @@
 package com.fiap.techChallenge.core.gateways.product;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.Category;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
 import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class ProductGatewayImpl implements ProductGateway {
 
@@ -27,7 +33,8 @@ public class ProductGatewayImpl implements ProductGateway {
                 product.getPrice(),
                 product.getCategory(),
                 product.getStatus(),
-                product.getImage()
+                product.getImage(),
+                product.getVersion()
         );
 
         dto = dataSource.saveProduct(dto);
@@ -39,12 +46,63 @@ public class ProductGatewayImpl implements ProductGateway {
                 dto.price(),
                 dto.category(),
                 dto.status(),
-                dto.image()
+                dto.image(),
+                dto.version()
         );
 
         return product;
     }
 
+    @Override
+    public Product update(Product product) {
+        ProductDTO dto = dataSource.updateProduct(new ProductDTO(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCategory(),
+                product.getStatus(),
+                product.getImage(),
+                product.getVersion()
+        ));
+
+        return Product.build(
+                dto.id(),
+                dto.name(),
+                dto.description(),
+                dto.price(),
+                dto.category(),
+                dto.status(),
+                dto.image(),
+                dto.version()
+        );
+    }
+
+    @Override
+    public List<Product> upsertAllByName(List<Product> products) {
+        List<ProductDTO> dtos = products.stream().map(product -> new ProductDTO(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCategory(),
+                product.getStatus(),
+                product.getImage(),
+                product.getVersion()
+        )).toList();
+
+        return dataSource.upsertProductsByName(dtos).stream().map(dto -> Product.build(
+                dto.id(),
+                dto.name(),
+                dto.description(),
+                dto.price(),
+                dto.category(),
+                dto.status(),
+                dto.image(),
+                dto.version()
+        )).toList();
+    }
+
     @Override
     public Product findById(UUID id) {
         ProductDTO dto = dataSource.findProductById(id);
@@ -60,7 +118,8 @@ public class ProductGatewayImpl implements ProductGateway {
                 dto.price(),
                 dto.category(),
                 dto.status(),
-                dto.image()
+                dto.image(),
+                dto.version()
         );
     }
 
@@ -79,10 +138,30 @@ public class ProductGatewayImpl implements ProductGateway {
                 dto.price(),
                 dto.category(),
                 dto.status(),
-                dto.image()
+                dto.image(),
+                dto.version()
         );
     }
 
+    @Override
+    public List<Product> findAllByIds(Collection<UUID> ids) {
+        return dataSource.findProductsByIds(ids).stream().map(dto -> Product.build(
+                dto.id(),
+                dto.name(),
+                dto.description(),
+                dto.price(),
+                dto.category(),
+                dto.status(),
+                dto.image(),
+                dto.version()
+        )).toList();
+    }
+
+    @Override
+    public List<ProductPriceDTO> findPricesByIds(Collection<UUID> ids) {
+        return dataSource.findProductPricesByIds(ids);
+    }
+
     @Override
     public List<Product> list() {
         List<ProductDTO> dtoList = dataSource.listProducts();
@@ -94,10 +173,53 @@ public class ProductGatewayImpl implements ProductGateway {
                 dto.price(),
                 dto.category(),
                 dto.status(),
-                dto.image()
+                dto.image(),
+                dto.version()
         )).toList();
     }
 
+    @Override
+    public List<Product> search(String query, int limit) {
+        return dataSource.searchProducts(query, limit).stream().map(dto -> Product.build(
+                dto.id(),
+                dto.name(),
+                dto.description(),
+                dto.price(),
+                dto.category(),
+                dto.status(),
+                dto.image(),
+                dto.version()
+        )).toList();
+    }
+
+    @Override
+    public PageDTO<Product> listPage(PageRequestDTO page) {
+        return dataSource.listProductsPage(page).map(dto -> Product.build(
+                dto.id(),
+                dto.name(),
+                dto.description(),
+                dto.price(),
+                dto.category(),
+                dto.status(),
+                dto.image(),
+                dto.version()
+        ));
+    }
+
+    @Override
+    public void forEach(Consumer<Product> sink) {
+        dataSource.forEachProduct(dto -> sink.accept(Product.build(
+                dto.id(),
+                dto.name(),
+                dto.description(),
+                dto.price(),
+                dto.category(),
+                dto.status(),
+                dto.image(),
+                dto.version()
+        )));
+    }
+
     @Override
     public List<Product> listByStatus(ProductStatus status) {
         List<ProductDTO> dtoList = dataSource.listProductsByStatus(status);
@@ -109,7 +231,8 @@ public class ProductGatewayImpl implements ProductGateway {
                 dto.price(),
                 dto.category(),
                 dto.status(),
-                dto.image()
+                dto.image(),
+                dto.version()
         )).toList();
     }
 
@@ -124,7 +247,8 @@ public class ProductGatewayImpl implements ProductGateway {
                 dto.price(),
                 dto.category(),
                 dto.status(),
-                dto.image()
+                dto.image(),
+                dto.version()
         )).toList();
     }
 
@@ -139,33 +263,43 @@ public class ProductGatewayImpl implements ProductGateway {
                 dto.price(),
                 dto.category(),
                 dto.status(),
-                dto.image()
+                dto.image(),
+                dto.version()
         )).toList();
     }
 
     @Override
     public List<Category> listAvailableCategorys() {
-        List<Category> availableCategories = dataSource.listAvailableProductCategories();
+        return dataSource.listAvailableProductCategories();
+    }
+
+    @Override
+    public int delete(UUID id) {
+        return dataSource.deleteProduct(id);
+    }
 
-        return Arrays.stream(Category.values())
-                .filter(availableCategories::contains)
-                .toList();
+    @Override
+    public int deleteByCategory(Category category) {
+        return dataSource.deleteProductByCategory(category);
     }
 
     @Override
-    public void delete(UUID id) {
-        dataSource.deleteProduct(id);
+    public int updateStatus(Collection<UUID> ids, ProductStatus status) {
+        return dataSource.updateProductsStatus(ids, status);
     }
 
     @Override
-    public void deleteByCategory(Category category) {
-        dataSource.deleteProductByCategory(category);
+    public int updateStatusByCategory(Category category, ProductStatus status) {
+        return dataSource.updateProductsStatusByCategory(category, status);
     }
 
     @Override
-    public boolean existisByName(String name) {
-        Product existingProduct = this.findByName(name);
+    public CatalogVersionDTO catalogVersion() {
+        return dataSource.productCatalogVersion();
+    }
 
-        return existingProduct != null && existingProduct.getId() != null;
+    @Override
+    public ProductChangesDTO listChangesSince(long version) {
+        return dataSource.listProductChangesSince(version);
     }
 }
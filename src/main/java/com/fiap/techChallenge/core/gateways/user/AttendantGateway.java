@@ -7,6 +7,7 @@ import java.util.UUID;
 
 public interface AttendantGateway {
     Attendant save(Attendant attendant);
+    Attendant update(Attendant current, Attendant changed);
     Attendant findFirstById(UUID id);
     Attendant findFirstByCpf(String cpf);
     List<Attendant> findAll();
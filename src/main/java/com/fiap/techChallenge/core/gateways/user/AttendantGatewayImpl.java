@@ -35,6 +35,12 @@ public class AttendantGatewayImpl implements AttendantGateway {
     }
 
 
+    @Override
+    public Attendant update(Attendant current, Attendant changed) {
+        compositeDataSource.updateAttendant(toDto(current), toDto(changed));
+        return changed;
+    }
+
     @Override
     public Attendant findFirstById(UUID id) {
         var attendantDto = compositeDataSource.findFirstAttendantById(id);
@@ -85,4 +91,13 @@ public class AttendantGatewayImpl implements AttendantGateway {
     public void delete(UUID id) {
         compositeDataSource.deleteAttendant(id);
     }
+
+    private static AttendantDTO toDto(Attendant attendant) {
+        return new AttendantDTO(
+                attendant.getId(),
+                attendant.getName(),
+                attendant.getEmail(),
+                attendant.getUnformattedCpf()
+        );
+    }
 }
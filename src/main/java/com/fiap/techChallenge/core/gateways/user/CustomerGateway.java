@@ -1,14 +1,20 @@
 package com.fiap.techChallenge.core.gateways.user;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
 import com.fiap.techChallenge.core.domain.entities.user.customer.Customer;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CustomerGateway {
     Customer save(Customer attendant);
+    Customer update(Customer current, Customer changed);
     Customer findFirstById(UUID id);
     Customer findFirstByCpf(String cpf);
     List<Customer> findAllNotAnonymous();
-    void delete(UUID id);
+    PageDTO<Customer> findNotAnonymousPage(PageRequestDTO page);
+    void forEachNotAnonymous(Consumer<Customer> sink);
+    int delete(UUID id);
 }
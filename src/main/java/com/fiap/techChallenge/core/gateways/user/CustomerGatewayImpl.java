@@ -1,11 +1,14 @@
 package com.fiap.techChallenge.core.gateways.user;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 import com.fiap.techChallenge.core.domain.entities.user.customer.Customer;
 import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class CustomerGatewayImpl implements CustomerGateway {
 
@@ -40,6 +43,12 @@ public class CustomerGatewayImpl implements CustomerGateway {
     }
 
 
+    @Override
+    public Customer update(Customer current, Customer changed) {
+        compositeDataSource.updateCustomer(toDto(current), toDto(changed));
+        return changed;
+    }
+
     @Override
     public Customer findFirstById(UUID id) {
         var customerDTO = compositeDataSource.findFirstCustomerById(id);
@@ -90,7 +99,40 @@ public class CustomerGatewayImpl implements CustomerGateway {
     }
 
     @Override
-    public void delete(UUID id) {
-        compositeDataSource.deleteCustomer(id);
+    public PageDTO<Customer> findNotAnonymousPage(PageRequestDTO page) {
+        return compositeDataSource.findCustomersNotAnonymPage(page)
+                .map(customerDTO -> Customer.build(
+                        customerDTO.id(),
+                        customerDTO.name(),
+                        customerDTO.email(),
+                        customerDTO.cpf(),
+                        customerDTO.anonymous()
+                ));
+    }
+
+    @Override
+    public void forEachNotAnonymous(Consumer<Customer> sink) {
+        compositeDataSource.forEachCustomerNotAnonym(customerDTO -> sink.accept(Customer.build(
+                customerDTO.id(),
+                customerDTO.name(),
+                customerDTO.email(),
+                customerDTO.cpf(),
+                customerDTO.anonymous()
+        )));
+    }
+
+    @Override
+    public int delete(UUID id) {
+        return compositeDataSource.deleteCustomer(id);
+    }
+
+    private static CustomerFullDTO toDto(Customer customer) {
+        return new CustomerFullDTO(
+                customer.getId(),
+                customer.getName(),
+                customer.getUnformattedCpf(),
+                customer.getEmail(),
+                customer.isAnonymous()
+        );
     }
 }
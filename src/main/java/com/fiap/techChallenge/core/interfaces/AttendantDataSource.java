@@ -8,6 +8,7 @@ import java.util.UUID;
 public interface AttendantDataSource {
 
     AttendantDTO save(AttendantDTO attendantDTO);
+    AttendantDTO update(AttendantDTO current, AttendantDTO changed);
     AttendantDTO findFirstByCpf(String cpf);
     AttendantDTO findFirstById(UUID id);
     List<AttendantDTO> findAll();
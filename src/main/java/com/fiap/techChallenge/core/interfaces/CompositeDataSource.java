@@ -1,18 +1,26 @@
 package com.fiap.techChallenge.core.interfaces;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
 import com.fiap.techChallenge.core.application.dto.user.AttendantDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 import com.fiap.techChallenge.core.domain.enums.Category;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CompositeDataSource {
 
     // Attendant
     AttendantDTO saveAttendant(AttendantDTO attendantDTO);
+    AttendantDTO updateAttendant(AttendantDTO current, AttendantDTO changed);
     AttendantDTO findFirstAttendantByCpf(String cpf);
     AttendantDTO findFirstAttendantById(UUID id);
     List<AttendantDTO> findAllAttendants();
@@ -20,20 +28,34 @@ public interface CompositeDataSource {
 
     // Customer
     CustomerFullDTO saveCustomer(CustomerFullDTO attendantDTO);
+    CustomerFullDTO updateCustomer(CustomerFullDTO current, CustomerFullDTO changed);
     CustomerFullDTO findFirstCustomerByCpf(String cpf);
     CustomerFullDTO findFirstCustomerById(UUID id);
     List<CustomerFullDTO> findAllCustomerNotAnonym();
-    void deleteCustomer(UUID id);
+    PageDTO<CustomerFullDTO> findCustomersNotAnonymPage(PageRequestDTO page);
+    void forEachCustomerNotAnonym(Consumer<CustomerFullDTO> sink);
+    int deleteCustomer(UUID id);
 
     // Product
     ProductDTO saveProduct(ProductDTO product);
+    ProductDTO updateProduct(ProductDTO product);
+    List<ProductDTO> upsertProductsByName(List<ProductDTO> products);
     ProductDTO findProductById(UUID id);
     ProductDTO findProductByName(String name);
+    List<ProductDTO> findProductsByIds(Collection<UUID> ids);
+    List<ProductPriceDTO> findProductPricesByIds(Collection<UUID> ids);
     List<Category> listAvailableProductCategories();
     List<ProductDTO> listProducts();
+    PageDTO<ProductDTO> listProductsPage(PageRequestDTO page);
+    List<ProductDTO> searchProducts(String query, int limit);
+    void forEachProduct(Consumer<ProductDTO> sink);
     List<ProductDTO> listProductsByCategory(Category category);
     List<ProductDTO> listProductsByStatusAndCategory(ProductStatus status, Category category);
     List<ProductDTO> listProductsByStatus(ProductStatus status);
-    void deleteProduct(UUID id);
-    void deleteProductByCategory(Category category);
+    int deleteProduct(UUID id);
+    int deleteProductByCategory(Category category);
+    int updateProductsStatus(Collection<UUID> ids, ProductStatus status);
+    int updateProductsStatusByCategory(Category category, ProductStatus status);
+    CatalogVersionDTO productCatalogVersion();
+    ProductChangesDTO listProductChangesSince(long version);
 }
@@ -1,15 +1,21 @@
 package com.fiap.techChallenge.core.interfaces;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CustomerDataSource {
 
     CustomerFullDTO save(CustomerFullDTO attendantDTO);
+    CustomerFullDTO update(CustomerFullDTO current, CustomerFullDTO changed);
     CustomerFullDTO findFirstByCpf(String cpf);
     CustomerFullDTO findFirstById(UUID id);
     List<CustomerFullDTO> findAllNotAnonym();
-    void delete(UUID id);
+    PageDTO<CustomerFullDTO> findNotAnonymPage(PageRequestDTO page);
+    void forEachNotAnonym(Consumer<CustomerFullDTO> sink);
+    int delete(UUID id);
 }
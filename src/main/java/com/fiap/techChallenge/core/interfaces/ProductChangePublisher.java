@@ -0,0 +1,11 @@
+package com.fiap.techChallenge.core.interfaces;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductChangeDTO;
+
+public interface ProductChangePublisher {
+
+    ProductChangePublisher NONE = change -> {
+    };
+
+    void publish(ProductChangeDTO change);
+}
@@ -1,9 +1,16 @@
 package com.fiap.techChallenge.core.interfaces;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
 import com.fiap.techChallenge.core.domain.enums.Category;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
 
@@ -11,21 +18,43 @@ public interface ProductDataSource {
 
     ProductDTO save(ProductDTO product);
 
+    ProductDTO update(ProductDTO product);
+
+    List<ProductDTO> upsertAllByName(List<ProductDTO> products);
+
     ProductDTO findById(UUID id);
 
     ProductDTO findByName(String name);
 
+    List<ProductDTO> findAllById(Collection<UUID> ids);
+
+    List<ProductPriceDTO> findPricesById(Collection<UUID> ids);
+
     List<Category> listAvailableCategorys();
 
     List<ProductDTO> list();
 
+    PageDTO<ProductDTO> listPage(PageRequestDTO page);
+
+    List<ProductDTO> search(String query, int limit);
+
+    void forEach(Consumer<ProductDTO> sink);
+
     List<ProductDTO> listByCategory(Category category);
 
     List<ProductDTO> listByStatusAndCategory(ProductStatus status, Category category);
 
     List<ProductDTO> listByStatus(ProductStatus status);
 
-    void delete(UUID id);
+    int delete(UUID id);
+
+    int deleteByCategory(Category category);
+
+    int updateStatus(Collection<UUID> ids, ProductStatus status);
+
+    int updateStatusByCategory(Category category, ProductStatus status);
+
+    CatalogVersionDTO catalogVersion();
 
-    void deleteByCategory(Category category);
+    ProductChangesDTO listChangesSince(long version);
 }
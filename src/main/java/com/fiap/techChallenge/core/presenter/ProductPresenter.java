@@ -1,5 +1,8 @@
 package com.fiap.techChallenge.core.presenter;
 
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 
@@ -13,6 +16,27 @@ public class ProductPresenter {
                 product.getPrice(),
                 product.getCategory().toString(),
                 product.getStatus().toString(),
-                product.getImage());
+                product.getImage(),
+                product.getVersion());
+    }
+
+    public static ProductResponseDTO toDTO(ProductDTO product) {
+        return new ProductResponseDTO(
+                product.id(),
+                product.name(),
+                product.description(),
+                product.price(),
+                product.category().toString(),
+                product.status().toString(),
+                product.image(),
+                product.version());
+    }
+
+    public static ProductChangesResponseDTO toDTO(ProductChangesDTO changes) {
+        return new ProductChangesResponseDTO(
+                changes.version(),
+                changes.resync(),
+                changes.upserted().stream().map(ProductPresenter::toDTO).toList(),
+                changes.deleted());
     }
 }
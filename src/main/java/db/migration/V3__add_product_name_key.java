@@ -0,0 +1,92 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Cria {@code product.name_key}. Em Java porque remover acentos em SQL depende de extensões de cada banco.
+ */
+public class V3__add_product_name_key extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE product ADD COLUMN name_key VARCHAR(255)");
+        }
+
+        Map<String, String> names = new HashMap<>();
+        List<String> duplicates = new ArrayList<>();
+
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery("SELECT id, name FROM product");
+             PreparedStatement update = connection.prepareStatement("UPDATE product SET name_key = ? WHERE id = ?")) {
+            while (rs.next()) {
+                String name = rs.getString("name");
+                String key = nameKey(name);
+                String previous = names.putIfAbsent(key, name);
+
+                if (previous != null) {
+                    duplicates.add("'" + previous + "' e '" + name + "'");
+                }
+
+                update.setString(1, key);
+                update.setObject(2, rs.getObject("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+
+        // Renomear produtos automaticamente mudaria o cardápio; a correção fica com quem opera o banco.
+        if (!duplicates.isEmpty()) {
+            throw new IllegalStateException("Produtos com nomes equivalentes impedem o índice único: "
+                    + String.join(", ", duplicates));
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE product ALTER COLUMN name_key SET NOT NULL");
+            statement.execute("CREATE UNIQUE INDEX uk_product_name_key ON product (name_key)");
+        }
+    }
+
+    // Cópia congelada de ProductNameKey.of na versão desta migração: mudanças futuras na aplicação não a alteram.
+    private static String nameKey(String name) {
+        String decomposed = Normalizer.normalize(name.strip(), Normalizer.Form.NFD);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        boolean space = false;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+
+            if (space) {
+                key.append(' ');
+                space = false;
+            }
+
+            key.append(c);
+        }
+
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+}
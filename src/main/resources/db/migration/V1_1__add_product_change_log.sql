@@ -0,0 +1,21 @@
+-- Sequência de alterações do cardápio e tombstones das remoções, usados pela sincronização incremental.
+
+ALTER TABLE product ADD COLUMN change_seq BIGINT;
+
+CREATE TABLE product_change_sequence (
+    id             INTEGER NOT NULL,
+    current_value  BIGINT  NOT NULL,
+    purged_through BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- A linha única do contador nasce aqui: as escritas só fazem UPDATE, sem disputar a inclusão.
+INSERT INTO product_change_sequence (id, current_value, purged_through) VALUES (1, 0, 0);
+
+CREATE TABLE product_tombstone (
+    product_id UUID                        NOT NULL,
+    category   VARCHAR(255)                NOT NULL CHECK (category IN ('LANCHE', 'ACOMPANHAMENTO', 'BEBIDA', 'SOBREMESA')),
+    change_seq BIGINT                      NOT NULL,
+    deleted_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (product_id)
+);
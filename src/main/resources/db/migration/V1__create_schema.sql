@@ -0,0 +1,34 @@
+-- Esquema inicial, igual ao que o Hibernate gerava com ddl-auto=update antes das migrações.
+-- Bancos já existentes entram nesta versão pelo baseline.
+
+CREATE TABLE product (
+    id          UUID           NOT NULL,
+    name        VARCHAR(255)   NOT NULL,
+    description VARCHAR(255)   NOT NULL,
+    price       NUMERIC(38, 2) NOT NULL,
+    category    VARCHAR(255)   NOT NULL CHECK (category IN ('LANCHE', 'ACOMPANHAMENTO', 'BEBIDA', 'SOBREMESA')),
+    status      VARCHAR(255)   NOT NULL CHECK (status IN ('DISPONIVEL', 'INDISPONIVEL')),
+    image       VARCHAR(255)   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE "user" (
+    id    UUID         NOT NULL,
+    name  VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    cpf   VARCHAR(11)  NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE user_attendant (
+    id UUID NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_attendant_user FOREIGN KEY (id) REFERENCES "user" (id)
+);
+
+CREATE TABLE user_customer (
+    "id"      UUID    NOT NULL,
+    anonymous BOOLEAN NOT NULL,
+    PRIMARY KEY ("id"),
+    CONSTRAINT fk_user_customer_user FOREIGN KEY ("id") REFERENCES "user" (id)
+);
@@ -0,0 +1,15 @@
+-- Índices alinhados às consultas dos repositórios JPA.
+
+-- Cardápio: filtros por status/categoria ordenados por categoria e nome.
+CREATE INDEX IF NOT EXISTS idx_product_status_category_name ON product (status, category, name);
+CREATE INDEX IF NOT EXISTS idx_product_category_name ON product (category, name);
+CREATE INDEX IF NOT EXISTS idx_product_name ON product (name);
+
+-- Sincronização incremental: alterações e remoções depois de uma versão.
+CREATE INDEX IF NOT EXISTS idx_product_change_seq ON product (change_seq);
+CREATE INDEX IF NOT EXISTS idx_product_tombstone_change_seq ON product_tombstone (change_seq);
+CREATE INDEX IF NOT EXISTS idx_product_tombstone_deleted_at ON product_tombstone (deleted_at, change_seq);
+
+-- Clientes identificados: anonymous = false, paginados por (name, id).
+CREATE INDEX IF NOT EXISTS idx_user_name_id ON "user" (name, id);
+CREATE INDEX IF NOT EXISTS idx_user_customer_anonymous_id ON user_customer (anonymous, "id");
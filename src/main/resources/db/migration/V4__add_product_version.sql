@@ -0,0 +1,2 @@
+-- Controle otimista de concorrência: cada atualização confere e incrementa a versão.
+ALTER TABLE product ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,118 @@
+package com.fiap.techChallenge._webApi.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FileDownload - Testes")
+class FileDownloadTest {
+
+    private static final CacheControl CACHE = CacheControl.noCache().cachePublic();
+
+    @TempDir
+    Path dir;
+
+    private final FileDownload download = new FileDownload();
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.writeString(dir.resolve("blob"), "0123456789", StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o arquivo inteiro com ETag e cache")
+    void shouldWriteWholeFile() throws IOException {
+        // When
+        MockHttpServletResponse response = write(new MockHttpServletRequest("GET", "/"));
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals(10, response.getContentLengthLong());
+        assertEquals("\"abc\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("no-cache, public", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(MediaType.IMAGE_PNG_VALUE, response.getContentType());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando o ETag do cliente confere")
+    void shouldAnswerNotModified() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"old\", \"abc\"");
+
+        // When
+        MockHttpServletResponse response = write(request);
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Deve enviar só o intervalo pedido e recusar intervalo fora do arquivo")
+    void shouldWriteRange() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletRequest suffix = new MockHttpServletRequest("GET", "/");
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        MockHttpServletRequest outside = new MockHttpServletRequest("GET", "/");
+        outside.addHeader(HttpHeaders.RANGE, "bytes=10-");
+
+        // When
+        MockHttpServletResponse response = write(request);
+        MockHttpServletResponse suffixResponse = write(suffix);
+        MockHttpServletResponse outsideResponse = write(outside);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("2345", response.getContentAsString());
+        assertEquals("bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("789", suffixResponse.getContentAsString());
+        assertEquals(416, outsideResponse.getStatus());
+        assertEquals("bytes */10", outsideResponse.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    @DisplayName("Deve deixar o envio com o Tomcat quando há suporte a sendfile")
+    void shouldDelegateToSendfile() throws IOException {
+        // Given
+        Path large = Files.write(dir.resolve("large"), new byte[(int) FileDownload.SENDFILE_MIN_SIZE + 1]);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute(FileDownload.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=1-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        download.write(large, MediaType.IMAGE_PNG, "abc", CACHE, request, response);
+
+        // Then
+        assertEquals(large.toAbsolutePath().toString(), request.getAttribute(FileDownload.SENDFILE_FILENAME));
+        assertEquals(1L, request.getAttribute(FileDownload.SENDFILE_START));
+        assertEquals(FileDownload.SENDFILE_MIN_SIZE + 1, request.getAttribute(FileDownload.SENDFILE_END));
+        assertEquals(FileDownload.SENDFILE_MIN_SIZE, response.getContentLengthLong());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        download.write(file, MediaType.IMAGE_PNG, "abc", CACHE, request, response);
+        return response;
+    }
+}
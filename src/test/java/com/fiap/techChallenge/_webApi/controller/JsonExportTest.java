@@ -0,0 +1,91 @@
+package com.fiap.techChallenge._webApi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonExport - Testes")
+class JsonExportTest {
+
+    private final JsonExport jsonExport = new JsonExport(new ObjectMapper());
+
+    @Test
+    @DisplayName("Deve escrever os itens como array JSON")
+    void shouldWriteJsonArray() throws IOException {
+        // When
+        String body = write(null, items(Map.of("id", 1), Map.of("id", 2)));
+
+        // Then
+        assertEquals("[{\"id\":1},{\"id\":2}]", body);
+    }
+
+    @Test
+    @DisplayName("Deve escrever um item por linha em NDJSON e array vazio sem itens")
+    void shouldWriteNdjsonAndEmptyArray() throws IOException {
+        // Then
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", write("application/x-ndjson", items(Map.of("id", 1), Map.of("id", 2))));
+        assertEquals("", write("application/x-ndjson", items()));
+        assertEquals("[]", write("*/*", items()));
+    }
+
+    @Test
+    @DisplayName("Deve escolher NDJSON apenas quando pedido explicitamente")
+    void shouldNegotiateFormat() {
+        // When
+        ResponseEntity<StreamingResponseBody> ndjson = jsonExport.export("application/json;q=0.5, application/x-ndjson", "items", items());
+        ResponseEntity<StreamingResponseBody> json = jsonExport.export("*/*", "items", items());
+
+        // Then
+        assertEquals(MediaType.APPLICATION_NDJSON, ndjson.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"items.ndjson\"", ndjson.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        assertEquals(MediaType.APPLICATION_JSON, json.getHeaders().getContentType());
+        assertEquals("no-store", json.getHeaders().getCacheControl());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha de escrita da resposta")
+    void shouldPropagateWriteFailure() {
+        // Given
+        ByteArrayOutputStream broken = new ByteArrayOutputStream() {
+            @Override
+            public void flush() throws IOException {
+                if (size() > 1) {
+                    throw new IOException("conexão encerrada");
+                }
+            }
+        };
+
+        Consumer<Consumer<Object>> source = sink -> {
+            for (int i = 0; i < 300; i++) {
+                sink.accept(Map.of("id", i));
+            }
+        };
+
+        // Then
+        IOException exception = assertThrows(IOException.class, () -> jsonExport.write(broken, false, source));
+        assertEquals("conexão encerrada", exception.getMessage());
+    }
+
+    private String write(String accept, Consumer<Consumer<Object>> source) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonExport.export(accept, "items", source).getBody().writeTo(out);
+        return out.toString();
+    }
+
+    @SafeVarargs
+    private static Consumer<Consumer<Object>> items(Map<String, Object>... items) {
+        return sink -> List.of(items).forEach(sink);
+    }
+}
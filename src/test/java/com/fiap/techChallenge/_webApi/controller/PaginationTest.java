@@ -0,0 +1,22 @@
+package com.fiap.techChallenge._webApi.controller;
+
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pagination - Testes")
+class PaginationTest {
+
+    private final Pagination pagination = new Pagination(50, 200);
+
+    @Test
+    @DisplayName("Deve aplicar o tamanho padrão e limitar ao máximo configurado")
+    void shouldApplyDefaultAndMaxSize() {
+        assertEquals(new PageRequestDTO(null, 50), pagination.request(null, null));
+        assertEquals(new PageRequestDTO(null, 200), pagination.request("", 10_000));
+        assertEquals(new PageRequestDTO("abc", 20), pagination.request("abc", 20));
+        assertEquals(0, pagination.request(null, 0).size());
+    }
+}
@@ -0,0 +1,72 @@
+package com.fiap.techChallenge._webApi.controller;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.application.dto.user.CustomerAnonymDTO;
+import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SparseFields - Testes")
+class SparseFieldsTest {
+
+    private final ProductResponseDTO product = new ProductResponseDTO(UUID.randomUUID(), "X-Burger", "Hambúrguer",
+            new BigDecimal("25.90"), "LANCHE", "DISPONIVEL", "x.png", 0L);
+
+    @Test
+    @DisplayName("Deve manter só os campos pedidos, na ordem do DTO")
+    void shouldSelectFieldsInDtoOrder() {
+        // Given
+        SparseFields fields = SparseFields.of("price, name,id,name", ProductResponseDTO.class);
+
+        // When
+        Object selected = fields.apply(List.of(product));
+
+        // Then
+        assertEquals("id,name,price", fields.key());
+        assertEquals(List.of(Map.of("id", product.id(), "name", "X-Burger", "price", new BigDecimal("25.90"))), selected);
+        assertEquals(List.of("id", "name", "price"), List.copyOf(((Map<?, ?>) fields.apply(product)).keySet()));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta inteira sem fields")
+    void shouldKeepWholeBodyWithoutFields() {
+        // When
+        SparseFields fields = SparseFields.of(" ", ProductResponseDTO.class);
+
+        // Then
+        assertTrue(fields.isAll());
+        assertSame(product, fields.apply(product));
+    }
+
+    @Test
+    @DisplayName("Deve recusar campo que o DTO não tem")
+    void shouldRejectUnknownField() {
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SparseFields.of("id,preco", ProductResponseDTO.class));
+
+        // Then
+        assertTrue(exception.getMessage().startsWith("Campo inválido em fields: 'preco'"));
+    }
+
+    @Test
+    @DisplayName("Deve omitir os campos que um cliente anônimo não tem")
+    void shouldSkipFieldsMissingInAnonymousCustomer() {
+        // Given
+        UUID id = UUID.randomUUID();
+        SparseFields fields = SparseFields.of("id,cpf", CustomerFullDTO.class);
+
+        // When
+        Object selected = fields.apply(new CustomerAnonymDTO(id, "Anônimo", true));
+
+        // Then
+        assertEquals(Map.of("id", id), selected);
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
 import com.fiap.techChallenge.core.domain.exceptions.product.NameAlreadyRegisteredException;
 import com.fiap.techChallenge.core.domain.exceptions.product.ProductNotAvaiableException;
+import com.fiap.techChallenge.core.domain.exceptions.product.ProductVersionConflictException;
 import com.fiap.techChallenge.core.domain.exceptions.user.UserAlreadyExistsException;
 import org.hibernate.PropertyValueException;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +51,21 @@ class GlobalHandlerExceptionTest {
         assertTrue(response.getBody().getMessage().contains("Entidade"));
     }
 
+    @Test
+    @DisplayName("Deve responder 409 quando o produto foi alterado por outra escrita")
+    void shouldHandleProductVersionConflictException() {
+        // Given
+        ProductVersionConflictException ex = new ProductVersionConflictException();
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalHandlerException.handleConflict(ex);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(HttpStatus.CONFLICT.value(), response.getBody().getStatus());
+        assertEquals(ex.getMessage(), response.getBody().getMessage());
+    }
+
     @Test
     @DisplayName("Deve tratar IllegalArgumentException")
     void shouldHandleIllegalArgumentException() {
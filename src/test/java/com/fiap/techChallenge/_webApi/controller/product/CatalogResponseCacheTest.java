@@ -0,0 +1,139 @@
+package com.fiap.techChallenge._webApi.controller.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fiap.techChallenge._webApi.controller.product.CatalogResponseCache.Body;
+import com.fiap.techChallenge._webApi.controller.product.CatalogResponseCache.Encoding;
+import com.fiap.techChallenge._webApi.controller.product.CatalogResponseCache.Format;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CatalogResponseCache - Testes")
+class CatalogResponseCacheTest {
+
+    private final CatalogResponseCache cache = new CatalogResponseCache(new ObjectMapper());
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    @DisplayName("Deve serializar uma única vez por versão e reaproveitar os mesmos bytes")
+    void shouldSerializeOncePerVersion() {
+        // Given
+        CatalogVersionDTO version = version(1, 2);
+
+        // When
+        Body first = cache.get("list", version, this::value);
+        Body second = cache.get("list", version, this::value);
+
+        // Then
+        assertEquals(1, builds.get());
+        assertSame(first, second);
+        assertSame(first.bytes(Encoding.GZIP), second.bytes(Encoding.GZIP));
+    }
+
+    @Test
+    @DisplayName("Deve gerar um novo corpo quando a versão avança e manter o mais novo para versões antigas")
+    void shouldRebuildWhenVersionAdvances() {
+        // Given
+        Body old = cache.get("list", version(1, 2), this::value);
+
+        // When
+        Body current = cache.get("list", version(1, 3), this::value);
+        Body stale = cache.get("list", version(1, 2), this::value);
+        Body restarted = cache.get("list", version(2, 1), this::value);
+
+        // Then
+        assertNotSame(old, current);
+        assertSame(current, stale);
+        assertNotSame(current, restarted);
+        assertEquals(3, builds.get());
+    }
+
+    @Test
+    @DisplayName("Deve manter chaves independentes")
+    void shouldKeepKeysIndependent() {
+        // When
+        cache.get("list", version(1, 1), this::value);
+        cache.get("list-availables", version(1, 1), this::value);
+
+        // Then
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    @DisplayName("Deve produzir codificações gzip e deflate equivalentes ao JSON")
+    void shouldProduceCompressedEncodings() throws IOException {
+        // When
+        Body body = cache.get("list", version(1, 1), this::value);
+
+        // Then
+        byte[] json = body.bytes(Encoding.IDENTITY);
+        assertEquals("[\"LANCHE\",\"BEBIDA\"]", new String(json));
+        assertArrayEquals(json, new GZIPInputStream(new ByteArrayInputStream(body.bytes(Encoding.GZIP))).readAllBytes());
+        assertArrayEquals(json, new InflaterInputStream(new ByteArrayInputStream(body.bytes(Encoding.DEFLATE))).readAllBytes());
+    }
+
+    @Test
+    @DisplayName("Deve negociar a codificação a partir do Accept-Encoding")
+    void shouldNegotiateEncoding() {
+        assertEquals(Encoding.IDENTITY, Encoding.negotiate(null));
+        assertEquals(Encoding.IDENTITY, Encoding.negotiate(""));
+        assertEquals(Encoding.IDENTITY, Encoding.negotiate("br"));
+        assertEquals(Encoding.GZIP, Encoding.negotiate("deflate, gzip, br"));
+        assertEquals(Encoding.GZIP, Encoding.negotiate("*"));
+        assertEquals(Encoding.DEFLATE, Encoding.negotiate("gzip;q=0, deflate;q=0.5"));
+        assertEquals(Encoding.IDENTITY, Encoding.negotiate("GZIP;q=0"));
+    }
+
+    @Test
+    @DisplayName("Deve servir CBOR e Smile da mesma entrada, gerados uma única vez")
+    void shouldServeBinaryFormatsFromSameEntry() throws IOException {
+        // Given
+        Body body = cache.get("list", version(1, 1), this::value);
+
+        // When
+        byte[] cbor = cache.get("list", version(1, 1), this::value).bytes(Format.CBOR);
+        byte[] smile = body.bytes(Format.SMILE);
+
+        // Then
+        assertEquals(1, builds.get());
+        assertSame(cbor, body.bytes(Format.CBOR));
+        assertArrayEquals(body.bytes(Encoding.IDENTITY), body.bytes(Format.JSON));
+        assertEquals(List.of("LANCHE", "BEBIDA"), new ObjectMapper(new CBORFactory()).readValue(cbor, List.class));
+        assertEquals(List.of("LANCHE", "BEBIDA"), new ObjectMapper(new SmileFactory()).readValue(smile, List.class));
+    }
+
+    @Test
+    @DisplayName("Deve negociar o formato pelo Accept, com JSON como padrão")
+    void shouldNegotiateFormat() {
+        assertEquals(Format.JSON, Format.negotiate(null));
+        assertEquals(Format.JSON, Format.negotiate("*/*"));
+        assertEquals(Format.JSON, Format.negotiate("text/html"));
+        assertEquals(Format.JSON, Format.negotiate("não é um media type"));
+        assertEquals(Format.CBOR, Format.negotiate("application/cbor"));
+        assertEquals(Format.CBOR, Format.negotiate("application/cbor, */*;q=0.1"));
+        assertEquals(Format.SMILE, Format.negotiate("application/json;q=0.5, application/x-jackson-smile"));
+        assertEquals(Format.JSON, Format.negotiate("application/json, application/cbor"));
+        assertEquals(Format.JSON, Format.negotiate("application/cbor;q=0"));
+    }
+
+    private Object value() {
+        builds.incrementAndGet();
+        return List.of("LANCHE", "BEBIDA");
+    }
+
+    private CatalogVersionDTO version(long epoch, long version) {
+        return new CatalogVersionDTO(epoch, version, Instant.now());
+    }
+}
@@ -0,0 +1,133 @@
+package com.fiap.techChallenge._webApi.controller.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangeDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductChangeBroadcaster - Testes")
+class ProductChangeBroadcasterTest {
+
+    private final ProductChangeBroadcaster broadcaster = new ProductChangeBroadcaster(
+            new ObjectMapper(), 3, 64, 1, Duration.ofHours(1), Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retomar a partir do último evento recebido")
+    void shouldResumeFromLastEventId() {
+        // Given
+        broadcaster.publish(change(ProductChangeType.CREATED));
+        String lastSeen = broadcaster.lastEventId();
+        broadcaster.publish(change(ProductChangeType.UPDATED));
+        broadcaster.publish(change(ProductChangeType.DELETED));
+
+        // When
+        List<ProductChangeBroadcaster.Event> missed = broadcaster.eventsAfter(lastSeen);
+
+        // Then
+        assertEquals(2, missed.size());
+        assertEquals(broadcaster.lastEventId(), missed.get(1).id());
+        assertTrue(broadcaster.eventsAfter(broadcaster.lastEventId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve exigir ressincronização quando o evento não pode ser retomado")
+    void shouldRequireResyncWhenEventCannotBeResumed() {
+        // Given
+        broadcaster.publish(change(ProductChangeType.CREATED));
+        String first = broadcaster.lastEventId();
+        for (int i = 0; i < 4; i++) {
+            broadcaster.publish(change(ProductChangeType.UPDATED));
+        }
+
+        // Then
+        assertNull(broadcaster.eventsAfter(first));
+        assertNull(broadcaster.eventsAfter("123-1"));
+        assertNull(broadcaster.eventsAfter("invalido"));
+        assertNull(broadcaster.eventsAfter(broadcaster.lastEventId() + "0"));
+    }
+
+    @Test
+    @DisplayName("Deve publicar somente após o commit da transação")
+    void shouldPublishOnlyAfterCommit() {
+        // Given
+        String before = broadcaster.lastEventId();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        broadcaster.publish(change(ProductChangeType.CREATED));
+
+        // Then
+        assertEquals(before, broadcaster.lastEventId());
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(1, broadcaster.eventsAfter(before).size());
+    }
+
+    @Test
+    @DisplayName("Deve entregar aos demais listeners quando um deles falha")
+    void shouldDeliverToOtherListenersWhenOneFails() {
+        // Given
+        List<ProductChangeDTO> received = new ArrayList<>();
+        broadcaster.listen(change -> {
+            throw new IllegalStateException("stream fechado");
+        });
+        Runnable unsubscribe = broadcaster.listen(received::add);
+
+        // When
+        broadcaster.publish(change(ProductChangeType.CREATED));
+        unsubscribe.run();
+        broadcaster.publish(change(ProductChangeType.UPDATED));
+
+        // Then
+        assertEquals(List.of(ProductChangeType.CREATED), received.stream().map(ProductChangeDTO::type).toList());
+        assertEquals(2, broadcaster.eventsAfter(broadcaster.lastEventId().replaceAll("-\\d+$", "-0")).size());
+    }
+
+    @Test
+    @DisplayName("Deve registrar e remover quiosques conectados")
+    void shouldTrackSubscribers() {
+        // When
+        broadcaster.subscribe(null);
+        broadcaster.subscribe("invalido");
+
+        // Then
+        assertEquals(2, broadcaster.subscriberCount());
+
+        // When
+        broadcaster.shutdown();
+
+        // Then
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    private ProductChangeDTO change(ProductChangeType type) {
+        return ProductChangeDTO.builder()
+                .type(type)
+                .id(UUID.randomUUID())
+                .category(Category.LANCHE)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.fiap.techChallenge._webApi.controller.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techChallenge._webApi.data.image.ImageBlobStore;
+import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportRowDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductImportReader - Testes")
+class ProductImportReaderTest {
+
+    @TempDir
+    Path imagesDir;
+
+    private ImageBlobStore images;
+    private ProductImportReader reader;
+
+    @BeforeEach
+    void setUp() {
+        images = new ImageBlobStore(imagesDir, DataSize.ofMegabytes(2));
+        reader = new ProductImportReader(new ObjectMapper(), images);
+    }
+
+    @Test
+    @DisplayName("Deve ler o array JSON item a item, mantendo o preço exato")
+    void shouldReadJsonArray() {
+        // Given
+        String json = "[{\"name\":\"X-Burger\",\"description\":\"Hambúrguer\",\"price\":25.90,"
+                + "\"category\":\"lanche\",\"status\":\"DISPONIVEL\",\"image\":\"x.png\"},"
+                + "{\"name\":\"Suco\",\"price\":\"abc\",\"category\":\"BEBIDA\"},"
+                + "{\"name\":\"Pudim\",\"category\":\"DOCE\"},"
+                + "7]";
+
+        // When
+        List<ProductImportRowDTO> rows = read(json, MediaType.APPLICATION_JSON);
+
+        // Then
+        assertEquals(4, rows.size());
+        assertEquals(CreateProductInputDTO.builder()
+                .name("X-Burger")
+                .description("Hambúrguer")
+                .price(new BigDecimal("25.90"))
+                .category(Category.LANCHE)
+                .status(ProductStatus.DISPONIVEL)
+                .image("x.png")
+                .build(), rows.get(0).product());
+        assertEquals("Preço inválido: 'abc'", rows.get(1).error());
+        assertEquals("Suco", rows.get(1).name());
+        assertEquals("Categoria inválida: 'DOCE'", rows.get(2).error());
+        assertEquals(4, rows.get(3).row());
+        assertEquals("Cada item deve ser um objeto", rows.get(3).error());
+    }
+
+    @Test
+    @DisplayName("Deve ler CSV com cabeçalho e campos entre aspas")
+    void shouldReadCsv() {
+        // Given
+        String csv = "name,description,price,category,status,image\n"
+                + "\"Batata, grande\",\"Crocante, com sal\",9.90,ACOMPANHAMENTO,DISPONIVEL,b.png\n"
+                + "\n"
+                + "Chá,Verde,4,BEBIDA,,c.png\n";
+
+        // When
+        List<ProductImportRowDTO> rows = read(csv, ProductImportReader.TEXT_CSV);
+
+        // Then
+        assertEquals(2, rows.size());
+        assertEquals("Batata, grande", rows.get(0).product().name());
+        assertEquals("Crocante, com sal", rows.get(0).product().description());
+        assertEquals(new BigDecimal("9.90"), rows.get(0).product().price());
+        assertEquals(2, rows.get(1).row());
+        assertNull(rows.get(1).product().status());
+    }
+
+    @Test
+    @DisplayName("Deve recusar arquivo malformado ou que não seja um array")
+    void shouldRejectMalformedFile() {
+        // Given
+        Iterator<ProductImportRowDTO> rows = reader.read(stream("[{\"name\":\"A\"}, {"), MediaType.APPLICATION_JSON);
+
+        // When
+        rows.next();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, rows::hasNext);
+
+        // Then
+        assertTrue(exception.getMessage().startsWith("Arquivo de importação malformado no item 2"));
+        assertThrows(IllegalArgumentException.class, () -> reader.read(stream("{}"), MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Deve gravar a imagem em base64 e recusar só a linha com imagem inválida")
+    void shouldStoreBase64Images() {
+        // Given
+        String png = Base64.getEncoder().encodeToString(new byte[]{(byte) 0x89, 'P', 'N', 'G', 13, 10, 26, 10});
+        String csv = "name,description,price,category,status,image\n"
+                + "Suco,Laranja,7,BEBIDA,DISPONIVEL,\"data:image/png;base64," + png + "\"\n"
+                + "Chá,Verde,4,BEBIDA,DISPONIVEL,\"data:text/plain;base64,b2k=\"\n";
+
+        // When
+        List<ProductImportRowDTO> rows = read(csv, ProductImportReader.TEXT_CSV);
+
+        // Then
+        assertTrue(rows.get(0).product().image().matches("[0-9a-f]{64}"));
+        assertNotNull(images.find(rows.get(0).product().image()));
+        assertEquals("A imagem deve estar em PNG, JPEG, GIF ou WebP", rows.get(1).error());
+    }
+
+    private List<ProductImportRowDTO> read(String body, MediaType type) {
+        List<ProductImportRowDTO> rows = new ArrayList<>();
+        reader.read(stream(body), type).forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,11 +1,14 @@
 package com.fiap.techChallenge._webApi.data;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +19,10 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fiap.techChallenge._webApi.data.persistence.repository.user.CustomerDataSourceImpl;
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
 import com.fiap.techChallenge.core.application.dto.user.AttendantDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
@@ -56,12 +63,14 @@ class CompositeDataSourceImplTest {
         List<AttendantDTO> list = Collections.singletonList(dto);
 
         when(attendantDataSource.save(dto)).thenReturn(dto);
+        when(attendantDataSource.update(dto, dto)).thenReturn(dto);
         when(attendantDataSource.findFirstByCpf(cpf)).thenReturn(dto);
         when(attendantDataSource.findFirstById(id)).thenReturn(dto);
         when(attendantDataSource.findAll()).thenReturn(list);
 
         // Act & Assert
         assertEquals(dto, compositeDataSource.saveAttendant(dto));
+        assertEquals(dto, compositeDataSource.updateAttendant(dto, dto));
         assertEquals(dto, compositeDataSource.findFirstAttendantByCpf(cpf));
         assertEquals(dto, compositeDataSource.findFirstAttendantById(id));
         assertEquals(list, compositeDataSource.findAllAttendants());
@@ -88,12 +97,14 @@ class CompositeDataSourceImplTest {
         List<CustomerFullDTO> list = Collections.singletonList(dto);
 
         when(customerDataSource.save(dto)).thenReturn(dto);
+        when(customerDataSource.update(dto, dto)).thenReturn(dto);
         when(customerDataSource.findFirstByCpf(cpf)).thenReturn(dto);
         when(customerDataSource.findFirstById(id)).thenReturn(dto);
         when(customerDataSource.findAllNotAnonym()).thenReturn(list);
 
         // Act & Assert
         assertEquals(dto, compositeDataSource.saveCustomer(dto));
+        assertEquals(dto, compositeDataSource.updateCustomer(dto, dto));
         assertEquals(dto, compositeDataSource.findFirstCustomerByCpf(cpf));
         assertEquals(dto, compositeDataSource.findFirstCustomerById(id));
         assertEquals(list, compositeDataSource.findAllCustomerNotAnonym());
@@ -149,5 +160,44 @@ class CompositeDataSourceImplTest {
 
         compositeDataSource.deleteProductByCategory(category);
         verify(productDataSource).deleteByCategory(category);
+
+        when(productDataSource.updateStatus(List.of(id), ProductStatus.INDISPONIVEL)).thenReturn(1);
+        assertEquals(1, compositeDataSource.updateProductsStatus(List.of(id), ProductStatus.INDISPONIVEL));
+        when(productDataSource.updateStatusByCategory(category, ProductStatus.INDISPONIVEL)).thenReturn(3);
+        assertEquals(3, compositeDataSource.updateProductsStatusByCategory(category, ProductStatus.INDISPONIVEL));
+
+        CatalogVersionDTO version = new CatalogVersionDTO(1L, 2L, Instant.now());
+        when(productDataSource.catalogVersion()).thenReturn(version);
+        assertEquals(version, compositeDataSource.productCatalogVersion());
+
+        PageRequestDTO page = new PageRequestDTO(null, 10);
+        PageDTO<ProductDTO> products = new PageDTO<>(List.of(), null);
+        when(productDataSource.listPage(page)).thenReturn(products);
+        assertEquals(products, compositeDataSource.listProductsPage(page));
+
+        when(productDataSource.search("x-bur", 5)).thenReturn(list);
+        assertEquals(list, compositeDataSource.searchProducts("x-bur", 5));
+
+        when(productDataSource.findAllById(List.of(id))).thenReturn(list);
+        assertEquals(list, compositeDataSource.findProductsByIds(List.of(id)));
+
+        when(productDataSource.upsertAllByName(list)).thenReturn(list);
+        assertEquals(list, compositeDataSource.upsertProductsByName(list));
+
+        PageDTO<CustomerFullDTO> customers = new PageDTO<>(List.of(), "next");
+        when(customerDataSource.findNotAnonymPage(page)).thenReturn(customers);
+        assertEquals(customers, compositeDataSource.findCustomersNotAnonymPage(page));
+
+        Consumer<ProductDTO> productSink = product -> { };
+        compositeDataSource.forEachProduct(productSink);
+        verify(productDataSource).forEach(productSink);
+
+        Consumer<CustomerFullDTO> customerSink = customer -> { };
+        compositeDataSource.forEachCustomerNotAnonym(customerSink);
+        verify(customerDataSource).forEachNotAnonym(customerSink);
+
+        ProductChangesDTO changes = new ProductChangesDTO(2L, false, List.of(), List.of());
+        when(productDataSource.listChangesSince(1L)).thenReturn(changes);
+        assertEquals(changes, compositeDataSource.listProductChangesSince(1L));
     }
 }
\ No newline at end of file
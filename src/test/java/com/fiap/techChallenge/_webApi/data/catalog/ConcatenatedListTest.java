@@ -0,0 +1,41 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcatenatedList - Testes")
+class ConcatenatedListTest {
+
+    @Test
+    @DisplayName("Deve encadear as partes ignorando listas vazias")
+    void shouldConcatenateSkippingEmptyParts() {
+        // Given
+        List<Integer> list = new ConcatenatedList<>(List.of(List.of(), List.of(1, 2), List.of(), List.of(3), List.of()));
+
+        // Then
+        assertEquals(3, list.size());
+        assertEquals(List.of(1, 2, 3), list);
+        assertEquals(List.of(1, 2, 3), new ArrayList<>(list));
+        assertEquals(2, list.get(1));
+        assertEquals(3, list.get(2));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar índices fora do intervalo e alterações")
+    void shouldRejectOutOfBoundsAndMutation() {
+        // Given
+        List<Integer> list = new ConcatenatedList<>(List.of(List.of(1)));
+        List<Integer> empty = new ConcatenatedList<>(List.of());
+
+        // Then
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+        assertFalse(empty.iterator().hasNext());
+        assertThrows(UnsupportedOperationException.class, () -> list.add(2));
+    }
+}
@@ -0,0 +1,270 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductCatalogSnapshot - Testes")
+class ProductCatalogSnapshotTest {
+
+    private ProductDTO burger;
+    private ProductDTO fries;
+    private ProductDTO soda;
+    private ProductCatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        burger = product("X-Burger", Category.LANCHE, ProductStatus.DISPONIVEL);
+        fries = product("Batata Frita", Category.ACOMPANHAMENTO, ProductStatus.INDISPONIVEL);
+        soda = product("Refrigerante", Category.BEBIDA, ProductStatus.DISPONIVEL);
+
+        snapshot = ProductCatalogSnapshot.of(1, List.of(soda, burger, fries));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar produtos por categoria e nome como a consulta original")
+    void shouldSortProductsByCategoryAndName() {
+        // When
+        List<ProductDTO> result = snapshot.list();
+
+        // Then
+        assertEquals(List.of(fries, soda, burger), result);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar produto por ID e por nome")
+    void shouldFindProductByIdAndName() {
+        // Then
+        assertEquals(burger, snapshot.findById(burger.id()));
+        assertEquals(soda, snapshot.findByName("Refrigerante"));
+        assertNull(snapshot.findById(UUID.randomUUID()));
+        assertNull(snapshot.findByName("Inexistente"));
+        assertNull(snapshot.findById(null));
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por status, categoria e categorias disponíveis")
+    void shouldFilterByStatusAndCategory() {
+        // Then
+        assertEquals(List.of(soda, burger), snapshot.listByStatus(ProductStatus.DISPONIVEL));
+        assertEquals(List.of(fries), snapshot.listByCategory(Category.ACOMPANHAMENTO));
+        assertEquals(List.of(burger), snapshot.listByStatusAndCategory(ProductStatus.DISPONIVEL, Category.LANCHE));
+        assertTrue(snapshot.listByStatusAndCategory(ProductStatus.DISPONIVEL, Category.ACOMPANHAMENTO).isEmpty());
+        assertEquals(List.of(Category.LANCHE, Category.BEBIDA), snapshot.listCategoriesByStatus(ProductStatus.DISPONIVEL));
+    }
+
+    @Test
+    @DisplayName("Deve gerar nova versão ao incluir ou atualizar produto sem alterar o snapshot anterior")
+    void shouldPublishNewVersionOnUpsert() {
+        // Given
+        ProductDTO renamed = new ProductDTO(burger.id(), "A-Burger", burger.description(), burger.price(),
+                burger.category(), burger.status(), burger.image());
+
+        // When
+        ProductCatalogSnapshot next = snapshot.withProduct(renamed);
+
+        // Then
+        assertEquals(2, next.version());
+        assertEquals(renamed, next.findById(burger.id()));
+        assertNull(next.findByName("X-Burger"));
+        assertEquals(3, next.list().size());
+        assertEquals(burger, snapshot.findById(burger.id()));
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir apenas as partições da categoria alterada")
+    void shouldRebuildOnlyTouchedPartitions() {
+        // Given
+        ProductDTO unavailable = new ProductDTO(burger.id(), burger.name(), burger.description(), burger.price(),
+                burger.category(), ProductStatus.INDISPONIVEL, burger.image());
+
+        // When
+        ProductCatalogSnapshot next = snapshot.withProduct(unavailable);
+
+        // Then
+        assertSame(snapshot.listByCategory(Category.BEBIDA), next.listByCategory(Category.BEBIDA));
+        assertSame(snapshot.listByCategory(Category.ACOMPANHAMENTO), next.listByCategory(Category.ACOMPANHAMENTO));
+        assertEquals(List.of(soda), next.listByStatus(ProductStatus.DISPONIVEL));
+        assertEquals(List.of(fries, unavailable), next.listByStatus(ProductStatus.INDISPONIVEL));
+        assertEquals(List.of(Category.BEBIDA), next.listCategoriesByStatus(ProductStatus.DISPONIVEL));
+    }
+
+    @Test
+    @DisplayName("Deve mover produto entre partições ao trocar de categoria")
+    void shouldMoveProductBetweenPartitions() {
+        // Given
+        ProductDTO moved = new ProductDTO(burger.id(), burger.name(), burger.description(), burger.price(),
+                Category.SOBREMESA, burger.status(), burger.image());
+
+        // When
+        ProductCatalogSnapshot next = snapshot.withProduct(moved);
+
+        // Then
+        assertTrue(next.listByCategory(Category.LANCHE).isEmpty());
+        assertEquals(List.of(moved), next.listByCategory(Category.SOBREMESA));
+        assertEquals(List.of(fries, soda, moved), next.list());
+        assertEquals(moved, next.findByName("X-Burger"));
+    }
+
+    @Test
+    @DisplayName("Deve remover produto e categoria gerando novas versões")
+    void shouldRemoveProductAndCategory() {
+        // When
+        ProductCatalogSnapshot withoutBurger = snapshot.withoutProduct(burger.id());
+        ProductCatalogSnapshot withoutDrinks = withoutBurger.withoutCategory(Category.BEBIDA);
+
+        // Then
+        assertEquals(2, withoutBurger.version());
+        assertNull(withoutBurger.findById(burger.id()));
+        assertEquals(3, withoutDrinks.version());
+        assertEquals(List.of(fries), withoutDrinks.list());
+    }
+
+    @Test
+    @DisplayName("Deve refletir inclusões, renomeações e remoções na busca por nome")
+    void shouldKeepSearchInSyncWithWrites() {
+        // Given
+        ProductDTO renamed = new ProductDTO(burger.id(), "X-Bacon", burger.description(), burger.price(),
+                burger.category(), burger.status(), burger.image());
+
+        // When
+        ProductCatalogSnapshot updated = snapshot.withProduct(renamed);
+        ProductCatalogSnapshot withoutFries = updated.withoutProduct(fries.id());
+        ProductCatalogSnapshot withoutDrinks = withoutFries.withoutCategory(Category.BEBIDA);
+
+        // Then
+        assertEquals(List.of(burger), snapshot.search("x burger", 10));
+        assertTrue(updated.search("x burger", 10).isEmpty());
+        assertEquals(List.of(renamed), updated.search("x-bac", 10));
+        assertEquals(List.of(fries), updated.search("frita", 10));
+        assertTrue(withoutFries.search("batata", 10).isEmpty());
+        assertEquals(List.of(soda), withoutFries.search("refri", 10));
+        assertTrue(withoutDrinks.search("refri", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve incluir e substituir vários produtos em uma única versão")
+    void shouldApplyManyProductsInOneVersion() {
+        // Given
+        ProductDTO movedFries = new ProductDTO(fries.id(), "Batata Rústica", fries.description(), fries.price(),
+                Category.LANCHE, ProductStatus.DISPONIVEL, fries.image());
+        ProductDTO cake = product("Bolo", Category.SOBREMESA, ProductStatus.DISPONIVEL);
+
+        // When
+        ProductCatalogSnapshot updated = snapshot.withProducts(List.of(movedFries, cake));
+
+        // Then
+        assertEquals(2, updated.version());
+        assertEquals(List.of(soda, movedFries, burger, cake), updated.list());
+        assertTrue(updated.listByCategory(Category.ACOMPANHAMENTO).isEmpty());
+        assertEquals(List.of(Category.LANCHE, Category.BEBIDA, Category.SOBREMESA),
+                updated.listCategoriesByStatus(ProductStatus.DISPONIVEL));
+        assertTrue(updated.search("batata frita", 10).isEmpty());
+        assertEquals(List.of(movedFries), updated.search("rustica", 10));
+        assertEquals(List.of(cake), updated.search("bolo", 10));
+        assertSame(snapshot, snapshot.withProducts(List.of()));
+    }
+
+    @Test
+    @DisplayName("Deve paginar pela chave categoria, nome e id sem repetir nem pular produtos")
+    void shouldListAfterKey() {
+        // Given
+        ProductDTO juice = product("Suco", Category.BEBIDA, ProductStatus.DISPONIVEL);
+        ProductCatalogSnapshot next = snapshot.withProduct(juice);
+
+        // When
+        List<ProductDTO> first = next.listAfter(null, null, null, 2);
+        List<ProductDTO> second = next.listAfter(soda.category(), soda.name(), soda.id(), 2);
+        List<ProductDTO> afterRemoved = next.withoutProduct(soda.id()).listAfter(soda.category(), soda.name(), soda.id(), 5);
+        List<ProductDTO> end = next.listAfter(burger.category(), burger.name(), burger.id(), 2);
+
+        // Then
+        assertEquals(List.of(fries, soda), first);
+        assertEquals(List.of(juice, burger), second);
+        assertEquals(List.of(juice, burger), afterRemoved);
+        assertTrue(end.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar as categorias disponíveis enquanto nenhuma categoria esvazia ou passa a ter produtos")
+    void shouldReuseCategoriesUntilCountCrossesZero() {
+        // Given
+        ProductDTO juice = product("Suco", Category.BEBIDA, ProductStatus.DISPONIVEL);
+        ProductDTO cake = product("Bolo", Category.SOBREMESA, ProductStatus.DISPONIVEL);
+        List<Category> before = snapshot.listCategoriesByStatus(ProductStatus.DISPONIVEL);
+
+        // When
+        ProductCatalogSnapshot withJuice = snapshot.withProduct(juice);
+        ProductCatalogSnapshot withoutSoda = withJuice.withoutProduct(soda.id());
+        ProductCatalogSnapshot withCake = withoutSoda.withProduct(cake);
+        ProductCatalogSnapshot withoutDrinks = withCake.withoutCategory(Category.BEBIDA);
+
+        // Then
+        assertSame(before, withJuice.listCategoriesByStatus(ProductStatus.DISPONIVEL));
+        assertSame(before, withoutSoda.listCategoriesByStatus(ProductStatus.DISPONIVEL));
+        assertEquals(List.of(Category.LANCHE, Category.BEBIDA, Category.SOBREMESA),
+                withCake.listCategoriesByStatus(ProductStatus.DISPONIVEL));
+        assertEquals(List.of(Category.LANCHE, Category.SOBREMESA),
+                withoutDrinks.listCategoriesByStatus(ProductStatus.DISPONIVEL));
+        assertEquals(List.of(Category.ACOMPANHAMENTO), withoutDrinks.listCategoriesByStatus(ProductStatus.INDISPONIVEL));
+        assertEquals(List.of(Category.LANCHE, Category.BEBIDA), snapshot.listCategoriesByStatus(ProductStatus.DISPONIVEL));
+    }
+
+    @Test
+    @DisplayName("Deve converter o preço para centavos ao publicar o snapshot")
+    void shouldPrecomputePriceInCents() {
+        // Given
+        ProductDTO coffee = new ProductDTO(UUID.randomUUID(), "Café", "Expresso", new BigDecimal("3.335"),
+                Category.BEBIDA, ProductStatus.DISPONIVEL, "c.png");
+        ProductDTO huge = new ProductDTO(UUID.randomUUID(), "Caro", "Muito caro", new BigDecimal("92233720368547758.08"),
+                Category.LANCHE, ProductStatus.DISPONIVEL, "c.png");
+
+        // When
+        ProductCatalogSnapshot next = snapshot.withProducts(List.of(coffee, huge));
+
+        // Then
+        assertEquals(new ProductPriceDTO(coffee.id(), "Café", ProductStatus.DISPONIVEL, 334), next.findPriceById(coffee.id()));
+        assertEquals(ProductPriceDTO.OUT_OF_RANGE, next.findPriceById(huge.id()).priceCents());
+        assertEquals(1000, next.findPriceById(burger.id()).priceCents());
+        assertNull(next.findPriceById(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o preço em centavos dos produtos que não mudaram")
+    void shouldReusePricesOfUnchangedProducts() {
+        // Given
+        ProductDTO cheaper = new ProductDTO(soda.id(), soda.name(), soda.description(), new BigDecimal("7.50"),
+                soda.category(), soda.status(), soda.image());
+        ProductDTO juice = product("Suco", Category.BEBIDA, ProductStatus.DISPONIVEL);
+
+        // When
+        ProductCatalogSnapshot next = snapshot.withProduct(juice).withProduct(cheaper);
+
+        // Then
+        assertSame(snapshot.findPriceById(burger.id()), next.findPriceById(burger.id()));
+        assertEquals(750, next.findPriceById(soda.id()).priceCents());
+        assertEquals(1000, snapshot.findPriceById(soda.id()).priceCents());
+    }
+
+    @Test
+    @DisplayName("Deve expor listas imutáveis")
+    void shouldExposeImmutableLists() {
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.list().add(burger));
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.listCategoriesByStatus(ProductStatus.DISPONIVEL).add(Category.SOBREMESA));
+    }
+
+    private ProductDTO product(String name, Category category, ProductStatus status) {
+        return new ProductDTO(UUID.randomUUID(), name, "Descrição", new BigDecimal("10.00"), category, status, "image.png");
+    }
+}
@@ -0,0 +1,255 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductTombstoneDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductCatalog - Testes")
+class ProductCatalogTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve carregar o catálogo uma única vez e servir as leituras seguintes da memória")
+    void shouldLoadCatalogOnlyOnce() {
+        // Given
+        ProductDTO burger = product("X-Burger");
+        ProductCatalog catalog = new ProductCatalog(() -> {
+            loads.incrementAndGet();
+            return List.of(burger);
+        });
+
+        // When
+        catalog.snapshot();
+        catalog.snapshot();
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(1, catalog.snapshot().version());
+        assertEquals(burger, catalog.snapshot().findById(burger.id()));
+    }
+
+    @Test
+    @DisplayName("Deve publicar escritas imediatamente quando não há transação ativa")
+    void shouldPublishImmediatelyWithoutTransaction() {
+        // Given
+        ProductDTO burger = product("X-Burger");
+        ProductCatalog catalog = new ProductCatalog(List::of);
+        catalog.snapshot();
+
+        // When
+        catalog.publishSaved(burger);
+
+        // Then
+        assertEquals(2, catalog.snapshot().version());
+        assertEquals(burger, catalog.snapshot().findById(burger.id()));
+
+        // When
+        catalog.publishDeleted(burger.id());
+
+        // Then
+        assertEquals(3, catalog.snapshot().version());
+        assertNull(catalog.snapshot().findById(burger.id()));
+    }
+
+    @Test
+    @DisplayName("Deve publicar escritas somente após o commit da transação")
+    void shouldPublishOnlyAfterCommit() {
+        // Given
+        ProductDTO burger = product("X-Burger");
+        ProductCatalog catalog = new ProductCatalog(List::of);
+        catalog.snapshot();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        catalog.publishSaved(burger);
+
+        // Then
+        assertNull(catalog.snapshot().findById(burger.id()));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(burger, catalog.snapshot().findById(burger.id()));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar escritas anteriores ao primeiro carregamento")
+    void shouldIgnoreWritesBeforeFirstLoad() {
+        // Given
+        ProductDTO burger = product("X-Burger");
+        ProductCatalog catalog = new ProductCatalog(() -> {
+            loads.incrementAndGet();
+            return List.of(burger);
+        });
+
+        // When
+        catalog.publishCategoryDeleted(Category.LANCHE);
+
+        // Then
+        assertEquals(0, loads.get());
+        assertEquals(burger, catalog.snapshot().findById(burger.id()));
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o catálogo incrementando a versão")
+    void shouldReloadCatalogIncrementingVersion() {
+        // Given
+        ProductCatalog catalog = new ProductCatalog(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        catalog.snapshot();
+
+        // When
+        catalog.reload();
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(2, catalog.snapshot().version());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o catálogo só depois do commit quando a escrita pede recarga")
+    void shouldReloadAfterCommit() {
+        // Given
+        ProductCatalog catalog = new ProductCatalog(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        catalog.snapshot();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        catalog.publishReload();
+
+        // Then
+        assertEquals(1, loads.get());
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(2, catalog.snapshot().version());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar só as alterações de outra instância que a memória ainda não tem")
+    void shouldCatchUpWithForeignWrites() {
+        // Given
+        ProductDTO burger = withVersion(product("X-Burger"), 1L);
+        ProductDTO juice = withVersion(product("Suco"), 2L);
+        ProductCatalog catalog = new ProductCatalog(() -> List.of(burger, juice), () -> 5);
+        catalog.snapshot();
+        ProductDTO priced = new ProductDTO(burger.id(), burger.name(), burger.description(), new BigDecimal("12.00"),
+                burger.category(), burger.status(), burger.image(), 2L);
+
+        // When
+        boolean caughtUp = catalog.catchUp(7, List.of(priced, juice), List.of());
+        boolean behind = catalog.catchUp(6, List.of(withVersion(burger, 1L)), List.of());
+
+        // Then
+        assertTrue(caughtUp);
+        assertFalse(behind);
+        assertEquals(7, catalog.syncedThrough());
+        assertEquals(2, catalog.snapshot().version());
+        assertEquals(new BigDecimal("12.00"), catalog.snapshot().findById(burger.id()).price());
+    }
+
+    @Test
+    @DisplayName("Deve só avançar a sequência quando as alterações já estão em memória")
+    void shouldAdvanceSequenceWithoutNewVersion() {
+        // Given
+        ProductDTO burger = withVersion(product("X-Burger"), 1L);
+        ProductCatalog catalog = new ProductCatalog(() -> List.of(burger), () -> 3);
+        catalog.snapshot();
+
+        // When
+        boolean changed = catalog.catchUp(4, List.of(burger), List.of());
+
+        // Then
+        assertFalse(changed);
+        assertEquals(4, catalog.syncedThrough());
+        assertEquals(1, catalog.snapshot().version());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o catálogo quando outra instância removeu um produto em memória")
+    void shouldReloadWhenForeignDeleteIsPending() {
+        // Given
+        ProductDTO burger = product("X-Burger");
+        List<ProductDTO> persisted = new ArrayList<>(List.of(burger));
+        ProductCatalog catalog = new ProductCatalog(() -> {
+            loads.incrementAndGet();
+            return List.copyOf(persisted);
+        }, () -> 2);
+        catalog.snapshot();
+        persisted.clear();
+
+        // When
+        boolean changed = catalog.catchUp(2, List.of(), List.of(new ProductTombstoneDTO(burger.id(), burger.category(), 2)));
+        boolean stale = catalog.catchUp(3, List.of(), List.of(new ProductTombstoneDTO(burger.id(), burger.category(), 2)));
+
+        // Then
+        assertFalse(changed);
+        assertTrue(stale);
+        assertEquals(2, loads.get());
+        assertNull(catalog.snapshot().findById(burger.id()));
+    }
+
+    @Test
+    @DisplayName("Deve corrigir na hora a cópia desatualizada, mesmo dentro de transação, sem voltar versões")
+    void shouldRefreshStaleCopyWithoutRegressing() {
+        // Given
+        ProductDTO stale = withVersion(product("X-Burger"), 1L);
+        ProductCatalog catalog = new ProductCatalog(() -> List.of(stale));
+        catalog.snapshot();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        catalog.refresh(stale.id(), withVersion(stale, 3L));
+        catalog.refresh(stale.id(), withVersion(stale, 2L));
+
+        // Then
+        assertEquals(3L, catalog.snapshot().findById(stale.id()).version());
+
+        // When
+        catalog.refresh(stale.id(), null);
+
+        // Then
+        assertNull(catalog.snapshot().findById(stale.id()));
+    }
+
+    private ProductDTO withVersion(ProductDTO product, Long version) {
+        return new ProductDTO(product.id(), product.name(), product.description(), product.price(),
+                product.category(), product.status(), product.image(), version);
+    }
+
+    private ProductDTO product(String name) {
+        return new ProductDTO(UUID.randomUUID(), name, "Descrição", new BigDecimal("10.00"),
+                Category.LANCHE, ProductStatus.DISPONIVEL, "image.png");
+    }
+}
@@ -0,0 +1,141 @@
+package com.fiap.techChallenge._webApi.data.catalog;
+
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductNameIndex - Testes")
+class ProductNameIndexTest {
+
+    private ProductDTO acai;
+    private ProductDTO cheeseBread;
+    private ProductDTO bread;
+    private ProductDTO juice;
+    private ProductNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        acai = product("Açaí na Tigela", Category.SOBREMESA);
+        cheeseBread = product("Pão de Queijo", Category.ACOMPANHAMENTO);
+        bread = product("Pão na Chapa", Category.LANCHE);
+        juice = product("Suco de Açaí", Category.BEBIDA);
+
+        index = ProductNameIndex.of(List.of(juice, bread, cheeseBread, acai));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar acentos, maiúsculas e separadores")
+    void shouldNormalizeText() {
+        assertEquals("pao de queijo", ProductNameIndex.normalize("  Pão-de   QUEIJO! "));
+        assertEquals("acai", ProductNameIndex.normalize("AÇAÍ"));
+        assertEquals("", ProductNameIndex.normalize(null));
+        assertEquals("", ProductNameIndex.normalize("  --  "));
+    }
+
+    @Test
+    @DisplayName("Deve dar a mesma chave de busca aos nomes que a chave de unicidade considera iguais")
+    void shouldAgreeWithNameKey() {
+        String stored = "Pão de Queijo";
+        String typed = " pao  de QUEIJO";
+
+        assertEquals(ProductNameKey.of(stored), ProductNameKey.of(typed));
+        assertEquals(ProductNameIndex.normalize(stored), ProductNameIndex.normalize(typed));
+        assertEquals(ProductNameIndex.normalize(stored), ProductNameIndex.normalize(ProductNameKey.of(stored)));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por prefixo ignorando acentos e maiúsculas, com nomes que começam com o termo primeiro")
+    void shouldSearchByPrefixIgnoringAccentsAndCase() {
+        assertEquals(List.of(acai, juice), index.search("acai", 10));
+        assertEquals(List.of(acai, juice), index.search("AÇA", 10));
+        assertEquals(List.of(cheeseBread, bread), index.search("pão", 10));
+        assertEquals(List.of(cheeseBread), index.search("pao de q", 10));
+        assertEquals(List.of(cheeseBread), index.search("queijo", 10));
+        assertEquals(List.of(juice, cheeseBread), index.search("de", 10));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite e ignorar termos vazios")
+    void shouldRespectLimitAndIgnoreBlankQueries() {
+        assertEquals(List.of(cheeseBread), index.search("pao", 1));
+        assertTrue(index.search("   ", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+        assertTrue(index.search("pao", 0).isEmpty());
+        assertTrue(index.search("hamburguer", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve tolerar um erro de digitação apenas quando não há resultado exato")
+    void shouldTolerateOneTypo() {
+        assertEquals(List.of(cheeseBread), index.search("queijp", 10));
+        assertEquals(List.of(cheeseBread), index.search("qeuijo", 10));
+        assertEquals(List.of(cheeseBread), index.search("quejo", 10));
+        assertEquals(List.of(cheeseBread), index.search("queiijo", 10));
+        assertTrue(index.search("qeuijp", 10).isEmpty());
+        assertTrue(index.search("sicp", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve verificar a distância de no máximo uma edição sobre o prefixo")
+    void shouldCheckOneEditDistance() {
+        assertTrue(ProductNameIndex.withinOneEdit("chapa", "pao na chapa", 7));
+        assertTrue(ProductNameIndex.withinOneEdit("chpa", "chapa", 0));
+        assertTrue(ProductNameIndex.withinOneEdit("chaap", "chapa", 0));
+        assertTrue(ProductNameIndex.withinOneEdit("chapas", "chapa", 0));
+        assertFalse(ProductNameIndex.withinOneEdit("chpaas", "chapa", 0));
+        assertFalse(ProductNameIndex.withinOneEdit("xxapa", "chapa", 0));
+    }
+
+    @Test
+    @DisplayName("Deve gerar novas instâncias ao incluir, remover e excluir categoria sem alterar a anterior")
+    void shouldUpdateIncrementally() {
+        // Given
+        ProductDTO renamed = new ProductDTO(bread.id(), "Queijo Quente", bread.description(), bread.price(),
+                bread.category(), bread.status(), bread.image());
+
+        // When
+        ProductNameIndex updated = index.without(bread.id()).with(renamed);
+        ProductNameIndex withoutJuice = updated.without(juice.id());
+        ProductNameIndex withoutSides = withoutJuice.withoutCategory(Category.ACOMPANHAMENTO);
+
+        // Then
+        assertEquals(List.of(cheeseBread), updated.search("pao", 10));
+        assertEquals(List.of(renamed, cheeseBread), updated.search("queijo", 10));
+        assertEquals(List.of(acai), withoutJuice.search("acai", 10));
+        assertEquals(List.of(renamed), withoutSides.search("queijo", 10));
+        assertSame(withoutSides, withoutSides.without(UUID.randomUUID()));
+        assertEquals(List.of(cheeseBread, bread), index.search("pao", 10));
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem ao intercalar vários produtos incluídos um a um")
+    void shouldKeepOrderWhenMergingOneByOne() {
+        // Given
+        ProductNameIndex incremental = ProductNameIndex.EMPTY;
+
+        // When
+        for (ProductDTO product : List.of(juice, bread, cheeseBread, acai)) {
+            incremental = incremental.with(product);
+        }
+
+        // Then
+        for (String query : List.of("a", "acai", "pao", "de", "s", "tigela", "chapa")) {
+            assertEquals(index.search(query, 10), incremental.search(query, 10), query);
+        }
+    }
+
+    private ProductDTO product(String name, Category category) {
+        return new ProductDTO(UUID.randomUUID(), name, "Descrição", new BigDecimal("10.00"), category,
+                ProductStatus.DISPONIVEL, "image.png");
+    }
+}
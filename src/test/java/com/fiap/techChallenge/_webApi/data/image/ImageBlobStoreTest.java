@@ -0,0 +1,129 @@
+package com.fiap.techChallenge._webApi.data.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ImageBlobStore - Testes")
+class ImageBlobStoreTest {
+
+    private static final byte[] PNG = HexFormat.of().parseHex("89504e470d0a1a0a0000000d49484452");
+
+    @TempDir
+    Path root;
+
+    private ImageBlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ImageBlobStore(root, DataSize.ofBytes(64));
+    }
+
+    @Test
+    @DisplayName("Deve gravar a imagem uma única vez pelo hash do conteúdo")
+    void shouldStoreImageOnceByContentHash() throws IOException {
+        // Given
+        String base64 = Base64.getEncoder().encodeToString(PNG);
+
+        // When
+        String hash = store.store("data:image/png;base64," + base64);
+        String again = store.store("data:image/x-png;base64," + base64);
+
+        // Then
+        assertTrue(hash.matches("[0-9a-f]{64}"));
+        assertEquals(hash, again);
+        Path file = store.find(hash);
+        assertArrayEquals(PNG, Files.readAllBytes(file));
+        assertEquals(MediaType.IMAGE_PNG, store.contentType(file));
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve remover só as imagens sem produto gravadas antes da carência")
+    void shouldDeleteUnreferencedImagesAfterGrace() throws IOException {
+        // Given
+        String kept = store.store("data:image/png;base64," + Base64.getEncoder().encodeToString(PNG));
+        byte[] other = Arrays.copyOf(PNG, PNG.length + 1);
+        String orphan = store.store("data:image/png;base64," + Base64.getEncoder().encodeToString(other));
+        String recent = store.store("data:image/png;base64," + Base64.getEncoder().encodeToString(Arrays.copyOf(PNG, PNG.length + 2)));
+        store.store(orphan, ImageRendition.THUMBNAIL, PNG);
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        Files.setLastModifiedTime(store.find(kept), old);
+        Files.setLastModifiedTime(store.find(orphan), old);
+
+        // When
+        int deleted = store.deleteUnreferenced(Set.of(kept), Instant.now().minus(Duration.ofHours(1)));
+
+        // Then
+        assertEquals(1, deleted);
+        assertNotNull(store.find(kept));
+        assertNotNull(store.find(recent));
+        assertNull(store.find(orphan));
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve renovar a data da imagem reenviada ou referenciada pelo hash")
+    void shouldTouchImageWhenReferencedAgain() throws IOException {
+        // Given
+        String hash = store.store("data:image/png;base64," + Base64.getEncoder().encodeToString(PNG));
+        Instant old = Instant.now().minus(Duration.ofHours(2));
+        Files.setLastModifiedTime(store.find(hash), FileTime.from(old));
+
+        // When
+        store.store(hash);
+
+        // Then
+        assertTrue(Files.getLastModifiedTime(store.find(hash)).toInstant().isAfter(old));
+        assertEquals(0, store.deleteUnreferenced(Set.of(), Instant.now().minus(Duration.ofHours(1))));
+    }
+
+    @Test
+    @DisplayName("Deve devolver como vieram os valores que não são imagem em base64")
+    void shouldKeepReferencesAsIs() {
+        // Then
+        assertEquals("x-burger.png", store.store("x-burger.png"));
+        assertEquals("https://cdn.exemplo.com/x.png", store.store("https://cdn.exemplo.com/x.png"));
+        assertNull(store.store(null));
+        assertNull(store.find("x-burger.png"));
+        assertNull(store.find("0".repeat(64)));
+    }
+
+    @Test
+    @DisplayName("Deve recusar conteúdo que não é imagem, base64 inválido e imagem acima do limite")
+    void shouldRejectInvalidImages() {
+        // Then
+        assertEquals("A imagem deve estar em PNG, JPEG, GIF ou WebP",
+                assertThrows(IllegalArgumentException.class, () -> store.store("data:text/plain;base64,b2k=")).getMessage());
+        assertEquals("A imagem deve ser um data URI em base64",
+                assertThrows(IllegalArgumentException.class, () -> store.store("data:image/png,abc")).getMessage());
+        assertEquals("A imagem não está em base64 válido",
+                assertThrows(IllegalArgumentException.class, () -> store.store("data:image/png;base64,@@@")).getMessage());
+
+        byte[] large = new byte[65];
+        System.arraycopy(PNG, 0, large, 0, PNG.length);
+        assertThrows(IllegalArgumentException.class,
+                () -> store.store("data:image/png;base64," + Base64.getEncoder().encodeToString(large)));
+    }
+}
@@ -0,0 +1,137 @@
+package com.fiap.techChallenge._webApi.data.image;
+
+import com.fiap.techChallenge._webApi.data.SchedulingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ImageRenditions - Testes")
+class ImageRenditionsTest {
+
+    @TempDir
+    Path root;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor = new SchedulingConfig().imageRenditionExecutor(1, 8);
+    private ImageBlobStore store;
+    private ImageRenditions renditions;
+
+    @BeforeEach
+    void setUp() {
+        executor.initialize();
+        store = new ImageBlobStore(root, DataSize.ofMegabytes(2));
+        renditions = new ImageRenditions(store, registry, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve gerar em segundo plano as versões reduzidas mantendo a proporção")
+    void shouldRenderRenditionsInBackground() throws IOException, InterruptedException {
+        // Given
+        String hash = store.store(dataUri(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), "png"));
+
+        // When
+        renditions.request(hash);
+
+        // Then
+        await(() -> registry.get("product.images.renditions.duration").timer().count() == 1);
+        Path thumbnail = store.find(hash, ImageRendition.THUMBNAIL);
+        Path kiosk = store.find(hash, ImageRendition.KIOSK);
+        BufferedImage small = ImageIO.read(thumbnail.toFile());
+        BufferedImage large = ImageIO.read(kiosk.toFile());
+        assertEquals(160, small.getWidth());
+        assertEquals(80, small.getHeight());
+        assertEquals(480, large.getWidth());
+        assertEquals(240, large.getHeight());
+        assertEquals(MediaType.IMAGE_JPEG, store.contentType(thumbnail));
+    }
+
+    @Test
+    @DisplayName("Deve manter a transparência e não ampliar imagens pequenas")
+    void shouldKeepAlphaAndNotUpscale() {
+        // Given
+        BufferedImage image = new BufferedImage(100, 40, BufferedImage.TYPE_INT_ARGB);
+
+        // When
+        BufferedImage resized = ImageRenditions.resize(image, ImageRendition.KIOSK.size());
+
+        // Then
+        assertEquals(100, resized.getWidth());
+        assertEquals(40, resized.getHeight());
+        assertTrue(resized.getColorModel().hasAlpha());
+    }
+
+    @Test
+    @DisplayName("Deve tentar de novo a imagem cuja gravação falhou")
+    void shouldRetryAfterTransientFailure() throws IOException, InterruptedException {
+        // Given
+        AtomicBoolean fail = new AtomicBoolean(true);
+        ImageBlobStore flaky = new ImageBlobStore(root, DataSize.ofMegabytes(2)) {
+            @Override
+            public void store(String hash, ImageRendition rendition, byte[] content) {
+                if (fail.getAndSet(false)) {
+                    throw new UncheckedIOException(new IOException("No space left on device"));
+                }
+                super.store(hash, rendition, content);
+            }
+        };
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        renditions = new ImageRenditions(flaky, meters, executor);
+        String hash = flaky.store(dataUri(new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB), "png"));
+        renditions.request(hash);
+        await(() -> meters.get("product.images.renditions.failed").counter().count() == 1);
+
+        // When / Then
+        await(() -> {
+            renditions.request(hash);
+            return flaky.find(hash, ImageRendition.THUMBNAIL) != null && flaky.find(hash, ImageRendition.KIOSK) != null;
+        });
+    }
+
+    @Test
+    @DisplayName("Deve ignorar valores que não são imagens gravadas")
+    void shouldIgnoreUnknownImages() {
+        // When
+        renditions.request("x-burger.png");
+        renditions.request("0".repeat(64));
+
+        // Then
+        assertEquals(0, registry.get("product.images.renditions.queue").gauge().value());
+        assertEquals(0, registry.get("product.images.renditions.duration").timer().count());
+    }
+
+    private static String dataUri(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return "data:image/" + format + ";base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    private static void await(BooleanSupplier done) throws InterruptedException {
+        for (int i = 0; i < 100 && !done.getAsBoolean(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(done.getAsBoolean(), "Versões reduzidas não geradas");
+    }
+}
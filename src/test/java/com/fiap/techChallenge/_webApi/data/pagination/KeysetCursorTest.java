@@ -0,0 +1,52 @@
+package com.fiap.techChallenge._webApi.data.pagination;
+
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeysetCursor - Testes")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar os valores da chave")
+    void shouldRoundTripKeyValues() {
+        // Given
+        String cursor = KeysetCursor.encode("LANCHE", "X-Búrguer, \"duplo\"", "");
+
+        // Then
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertArrayEquals(new String[]{"LANCHE", "X-Búrguer, \"duplo\"", ""}, KeysetCursor.decode(cursor, 3));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor adulterado ou com quantidade diferente de valores")
+    void shouldRejectInvalidCursor() {
+        // Given
+        String cursor = KeysetCursor.encode("Maria", "id");
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor, 3));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor + "AA", 2));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("abc", 2));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%", 2));
+        assertEquals("Cursor de paginação inválido", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve gerar próximo cursor apenas quando houver a linha extra")
+    void shouldBuildPageFromExtraRow() {
+        // When
+        PageDTO<String> full = KeysetCursor.page(List.of(1, 2, 3), 2, String::valueOf, last -> "c" + last);
+        PageDTO<String> last = KeysetCursor.page(List.of(1, 2), 2, String::valueOf, item -> "c" + item);
+
+        // Then
+        assertEquals(List.of("1", "2"), full.items());
+        assertEquals("c2", full.nextCursor());
+        assertEquals(List.of("1", "2"), last.items());
+        assertNull(last.nextCursor());
+    }
+}
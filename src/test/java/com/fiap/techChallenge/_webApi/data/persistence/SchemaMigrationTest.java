@@ -0,0 +1,296 @@
+package com.fiap.techChallenge._webApi.data.persistence;
+
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductChangeSequenceEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductTombstoneEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.user.AttendantEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.user.CustomerEntity;
+import com.fiap.techChallenge._webApi.data.persistence.entity.user.UserEntity;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Migrações do esquema - Testes")
+class SchemaMigrationTest {
+
+    private final String url = "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices compostos usados pelas consultas dos repositórios")
+    void shouldCreateQueryIndexes() throws SQLException {
+        // Given
+        flyway().migrate();
+
+        // When
+        Map<String, List<String>> product = indexes("PRODUCT");
+        Map<String, List<String>> tombstone = indexes("PRODUCT_TOMBSTONE");
+        Map<String, List<String>> user = indexes("user");
+        Map<String, List<String>> customer = indexes("USER_CUSTOMER");
+
+        // Then
+        assertEquals(List.of("status", "category", "name"), product.get("idx_product_status_category_name"));
+        assertEquals(List.of("category", "name"), product.get("idx_product_category_name"));
+        assertEquals(List.of("name"), product.get("idx_product_name"));
+        assertEquals(List.of("change_seq"), product.get("idx_product_change_seq"));
+        assertEquals(List.of("change_seq"), tombstone.get("idx_product_tombstone_change_seq"));
+        assertEquals(List.of("deleted_at", "change_seq"), tombstone.get("idx_product_tombstone_deleted_at"));
+        assertEquals(List.of("name", "id"), user.get("idx_user_name_id"));
+        assertEquals(List.of("anonymous", "id"), customer.get("idx_user_customer_anonymous_id"));
+    }
+
+    @Test
+    @DisplayName("Deve criar a linha única do contador de alterações do cardápio")
+    void shouldSeedChangeSequence() throws SQLException {
+        // Given
+        flyway().migrate();
+
+        // When
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT id, current_value, purged_through FROM product_change_sequence")) {
+
+            // Then
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt("id"));
+            assertEquals(0, rs.getLong("current_value"));
+            assertEquals(0, rs.getLong("purged_through"));
+            assertFalse(rs.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter CPF e e-mail únicos")
+    void shouldKeepUniqueConstraints() throws SQLException {
+        // Given
+        flyway().migrate();
+
+        // When
+        List<String> unique = uniqueColumns("user");
+
+        // Then
+        assertTrue(unique.contains("cpf"));
+        assertTrue(unique.contains("email"));
+    }
+
+    @Test
+    @DisplayName("Deve adotar um banco criado pelo Hibernate antes das migrações e deixá-lo válido para as entidades")
+    void shouldBaselineExistingSchema() throws SQLException {
+        // Given: o DDL que o ddl-auto=update gerava para as entidades originais, sem o histórico do Flyway
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table product (price numeric(38,2) not null, id uuid not null, "
+                    + "category varchar(255) not null check (category in ('LANCHE','ACOMPANHAMENTO','BEBIDA','SOBREMESA')), "
+                    + "description varchar(255) not null, image varchar(255) not null, name varchar(255) not null, "
+                    + "status varchar(255) not null check (status in ('DISPONIVEL','INDISPONIVEL')), primary key (id))");
+            statement.execute("create table \"user\" (cpf varchar(11) not null unique, id uuid not null, "
+                    + "email varchar(255) not null unique, name varchar(255) not null, primary key (id))");
+            statement.execute("create table user_attendant (id uuid not null, primary key (id))");
+            statement.execute("create table user_customer (anonymous boolean not null, \"id\" uuid not null, "
+                    + "primary key (\"id\"))");
+            statement.execute("alter table if exists user_attendant add constraint FKgesb7wy7eu1rb59bwnh6mihiq "
+                    + "foreign key (id) references \"user\"");
+            statement.execute("alter table if exists user_customer add constraint FKd1g6g7qqkdt7cab8ulggy55qp "
+                    + "foreign key (\"id\") references \"user\"");
+        }
+        insertProduct("X-Burger");
+
+        // When
+        MigrateResult result = flyway().migrate();
+
+        // Then
+        assertEquals(4, result.migrationsExecuted);
+        assertEquals("4", result.targetSchemaVersion);
+        assertEquals(List.of("x-burger"), nameKeys());
+        assertEquals(List.of("change_seq"), indexes("PRODUCT").get("idx_product_change_seq"));
+        assertDoesNotThrow(this::validateEntities);
+    }
+
+    @Test
+    @DisplayName("Deve preencher a chave do nome dos produtos existentes e recusar nomes equivalentes")
+    void shouldBackfillNameKeyAndRejectEquivalentNames() throws SQLException {
+        // Given
+        Flyway.configure().dataSource(url, "sa", "").target("2").load().migrate();
+        insertProduct("Pão de Queijo");
+        insertProduct("  X-Burger ");
+
+        // When
+        flyway().migrate();
+
+        // Then
+        assertEquals(List.of("pao de queijo", "x-burger"), nameKeys());
+        assertEquals(List.of("name_key"), indexes("PRODUCT").get("uk_product_name_key"));
+        assertTrue(uniqueColumns("PRODUCT").contains("name_key"));
+        assertThrows(SQLException.class, () -> insertProduct("PAO  DE QUEIJO", "pao de queijo"));
+    }
+
+    @Test
+    @DisplayName("Deve interromper a migração quando já existem produtos com nomes equivalentes")
+    void shouldFailWhenExistingNamesCollide() throws SQLException {
+        // Given
+        Flyway.configure().dataSource(url, "sa", "").target("2").load().migrate();
+        insertProduct("Açaí");
+        insertProduct("acai");
+
+        // When
+        FlywayException exception = assertThrows(FlywayException.class, () -> flyway().migrate());
+
+        // Then: o Flyway embrulha a exceção da migração
+        Throwable cause = exception;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        assertInstanceOf(IllegalStateException.class, cause);
+        assertTrue(cause.getMessage().contains("'Açaí' e 'acai'"), cause.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve ser idempotente quando não há migrações pendentes")
+    void shouldBeIdempotent() {
+        // Given
+        flyway().migrate();
+
+        // When
+        MigrateResult result = flyway().migrate();
+
+        // Then
+        assertEquals(0, result.migrationsExecuted);
+        assertDoesNotThrow(() -> flyway().validate());
+    }
+
+    // Mesma validação do ddl-auto=validate da aplicação, com as entidades atuais.
+    private void validateEntities() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "validate")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .build();
+
+        try (SessionFactory ignored = new MetadataSources(registry)
+                .addAnnotatedClasses(ProductEntity.class, ProductTombstoneEntity.class, ProductChangeSequenceEntity.class,
+                        UserEntity.class, CustomerEntity.class, AttendantEntity.class)
+                .buildMetadata()
+                .buildSessionFactory()) {
+            // A validação roda na criação da SessionFactory.
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(url, "sa", "")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    private void insertProduct(String name) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO product (id, name, description, price, category, status, image) "
+                             + "VALUES (?, ?, 'Descrição', 10.00, 'LANCHE', 'DISPONIVEL', 'image.png')")) {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setString(2, name);
+            statement.executeUpdate();
+        }
+    }
+
+    private void insertProduct(String name, String nameKey) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO product (id, name, name_key, description, price, category, status, image) "
+                             + "VALUES (?, ?, ?, 'Descrição', 10.00, 'LANCHE', 'DISPONIVEL', 'image.png')")) {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setString(2, name);
+            statement.setString(3, nameKey);
+            statement.executeUpdate();
+        }
+    }
+
+    private List<String> nameKeys() throws SQLException {
+        List<String> keys = new ArrayList<>();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name_key FROM product ORDER BY name_key")) {
+            while (rs.next()) {
+                keys.add(rs.getString(1));
+            }
+        }
+
+        return keys;
+    }
+
+    // Colunas de cada índice na ordem de declaração, com nomes em minúsculas.
+    private Map<String, List<String>> indexes(String table) throws SQLException {
+        Map<String, TreeMap<Short, String>> columns = new HashMap<>();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             ResultSet rs = connection.getMetaData().getIndexInfo(null, null, table, false, false)) {
+            while (rs.next()) {
+                if (rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic) {
+                    continue;
+                }
+                columns.computeIfAbsent(rs.getString("INDEX_NAME").toLowerCase(Locale.ROOT), name -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+            }
+        }
+
+        Map<String, List<String>> indexes = new HashMap<>();
+        columns.forEach((name, ordered) -> indexes.put(name, new ArrayList<>(ordered.values())));
+        return indexes;
+    }
+
+    private List<String> uniqueColumns(String table) throws SQLException {
+        List<String> unique = new ArrayList<>();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             ResultSet rs = connection.getMetaData().getIndexInfo(null, null, table, true, false)) {
+            while (rs.next()) {
+                String column = rs.getString("COLUMN_NAME");
+                if (column != null) {
+                    unique.add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        return unique;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fiap.techChallenge._webApi.data.persistence.entity.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductNameKey - Testes")
+class ProductNameKeyTest {
+
+    @Test
+    @DisplayName("Deve ignorar acentos, maiúsculas e espaços extras")
+    void shouldFoldAccentsCaseAndSpaces() {
+        assertEquals("pao de queijo", ProductNameKey.of("  Pão   de QUEIJO "));
+        assertEquals("acai", ProductNameKey.of("AÇAÍ"));
+        assertEquals(ProductNameKey.of("Suco de Maçã"), ProductNameKey.of("suco de maca"));
+    }
+
+    @Test
+    @DisplayName("Deve manter a pontuação para não juntar nomes diferentes")
+    void shouldKeepPunctuation() {
+        assertEquals("x-burger", ProductNameKey.of("X-Burger"));
+        assertNotEquals(ProductNameKey.of("X-Burger"), ProductNameKey.of("X Burger"));
+        assertNull(ProductNameKey.of(null));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar a chave junto com o nome da entidade")
+    void shouldDeriveKeyFromEntityName() {
+        ProductEntity entity = new ProductEntity();
+
+        entity.setName("Café Expresso");
+
+        assertEquals("cafe expresso", entity.getNameKey());
+    }
+}
@@ -0,0 +1,86 @@
+package com.fiap.techChallenge._webApi.data.persistence.repository.product;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductBatchWriter - Testes")
+class ProductBatchWriterTest {
+
+    private final String url = "jdbc:h2:mem:batch-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        writer = new ProductBatchWriter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Deve criar os produtos novos e atualizar os de nome equivalente mantendo o ID")
+    void shouldInsertNewAndUpdateExistingByName() {
+        // Given
+        ProductDTO existing = writer.upsertByName(List.of(product("Pão de Queijo", "6.00")), 1).get(0);
+
+        // When
+        List<ProductDTO> saved = writer.upsertByName(List.of(
+                product("pao de  queijo", "7.50"),
+                product("Café", "5.00")), 2);
+
+        // Then
+        assertEquals(existing.id(), saved.get(0).id());
+        assertNotNull(saved.get(1).id());
+        assertEquals(0L, existing.version());
+        assertEquals(1L, saved.get(0).version());
+        assertEquals(0L, saved.get(1).version());
+
+        Map<String, Object> updated = jdbcTemplate.queryForMap(
+                "SELECT name, price, change_seq, version FROM product WHERE id = ?", existing.id());
+        assertEquals("pao de  queijo", updated.get("NAME"));
+        assertEquals(0, new BigDecimal("7.50").compareTo((BigDecimal) updated.get("PRICE")));
+        assertEquals(2L, ((Number) updated.get("CHANGE_SEQ")).longValue());
+        assertEquals(1L, ((Number) updated.get("VERSION")).longValue());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve manter só a última ocorrência de nomes equivalentes no mesmo lote")
+    void shouldKeepLastOccurrenceInBatch() {
+        // When
+        List<ProductDTO> saved = writer.upsertByName(List.of(
+                product("X-Burger", "20.00"),
+                product("x-burger", "22.00")), 1);
+
+        // Then
+        assertEquals(1, saved.size());
+        assertEquals("x-burger", saved.get(0).name());
+        assertEquals(0, new BigDecimal("22.00").compareTo(
+                jdbcTemplate.queryForObject("SELECT price FROM product", BigDecimal.class)));
+    }
+
+    private ProductDTO product(String name, String price) {
+        return new ProductDTO(null, name, "Descrição", new BigDecimal(price), Category.LANCHE, ProductStatus.DISPONIVEL, "image.png");
+    }
+}
@@ -0,0 +1,144 @@
+package com.fiap.techChallenge._webApi.data.persistence.repository.product;
+
+import com.fiap.techChallenge._webApi.data.persistence.entity.product.ProductNameKey;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("ProductDataSourceImpl - Testes")
+class ProductDataSourceImplTest {
+
+    private static final String INSERT = "INSERT INTO product (id, name, name_key, description, price, category, "
+            + "status, image, version, change_seq) VALUES (?, ?, ?, 'Descrição', 10.00, 'LANCHE', ?, 'image.png', 0, 0)";
+
+    @Autowired
+    private ProductDataSourceImpl dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product");
+        jdbcTemplate.update("DELETE FROM product_tombstone");
+        dataSource.reloadCatalog();
+    }
+
+    @Test
+    @DisplayName("Deve publicar as linhas que o UPDATE em massa alterou, mesmo com o snapshot desatualizado")
+    void shouldPublishRowsActuallyUpdatedByCategory() {
+        // Given: o snapshot conhece A e B disponíveis
+        UUID a = insert("A", ProductStatus.DISPONIVEL);
+        UUID b = insert("B", ProductStatus.DISPONIVEL);
+        dataSource.reloadCatalog();
+
+        // Outra instância desativa A e cria C: o UPDATE muda B e C, a mesma contagem prevista pelo snapshot
+        jdbcTemplate.update("UPDATE product SET status = 'INDISPONIVEL', version = version + 1 WHERE id = ?", a);
+        UUID c = insert("C", ProductStatus.DISPONIVEL);
+
+        // When
+        int updated = transaction().execute(status ->
+                dataSource.updateStatusByCategory(Category.LANCHE, ProductStatus.INDISPONIVEL));
+
+        // Then
+        assertEquals(2, updated);
+        assertEquals(ProductStatus.INDISPONIVEL, dataSource.findById(b).status());
+        assertEquals(1L, dataSource.findById(b).version());
+        ProductDTO created = dataSource.findById(c);
+        assertNotNull(created);
+        assertEquals(ProductStatus.INDISPONIVEL, created.status());
+        assertEquals(jdbcTemplate.queryForObject("SELECT version FROM product WHERE id = ?", Long.class, c),
+                created.version());
+    }
+
+    @Test
+    @DisplayName("Não deve consumir versão ao remover produto inexistente")
+    void shouldNotAdvanceChangeSequenceForUnknownProduct() {
+        // Given
+        long before = changeSequence();
+
+        // When
+        int deleted = transaction().execute(status -> dataSource.delete(UUID.randomUUID()));
+
+        // Then
+        assertEquals(0, deleted);
+        assertEquals(before, changeSequence());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_tombstone", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar o tombstone com a versão consumida pela remoção")
+    void shouldTombstoneWithNewChangeSequence() {
+        // Given
+        UUID id = insert("A", ProductStatus.DISPONIVEL);
+        long before = changeSequence();
+
+        // When
+        int deleted = transaction().execute(status -> dataSource.delete(id));
+
+        // Then
+        assertEquals(1, deleted);
+        assertEquals(before + 1, changeSequence());
+        assertEquals(before + 1, jdbcTemplate.queryForObject(
+                "SELECT change_seq FROM product_tombstone WHERE product_id = ?", Long.class, id));
+        assertNull(dataSource.findById(id));
+    }
+
+    @Test
+    @DisplayName("Deve remover a categoria em vários lotes quando passa do tamanho do lote")
+    void shouldDeleteCategoryAcrossChunks() {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            String name = "Produto " + i;
+            rows.add(new Object[]{UUID.randomUUID(), name, ProductNameKey.of(name), ProductStatus.DISPONIVEL.name()});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        dataSource.reloadCatalog();
+
+        // When
+        int deleted = transaction().execute(status -> dataSource.deleteByCategory(Category.LANCHE));
+
+        // Then
+        assertEquals(2500, deleted);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Integer.class));
+        assertEquals(2500, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_tombstone", Integer.class));
+        assertTrue(dataSource.listByCategory(Category.LANCHE).isEmpty());
+    }
+
+    private UUID insert(String name, ProductStatus status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT, id, name, ProductNameKey.of(name), status.name());
+        return id;
+    }
+
+    private long changeSequence() {
+        return jdbcTemplate.queryForObject("SELECT current_value FROM product_change_sequence", Long.class);
+    }
+
+    private TransactionTemplate transaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+}
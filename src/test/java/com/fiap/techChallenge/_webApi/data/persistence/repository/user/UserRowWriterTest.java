@@ -0,0 +1,123 @@
+package com.fiap.techChallenge._webApi.data.persistence.repository.user;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserRowWriter - Testes")
+class UserRowWriterTest {
+
+    private final String url = "jdbc:h2:mem:users-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+    private JdbcTemplate jdbcTemplate;
+    private UserRowWriter writer;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        writer = new UserRowWriter(jdbcTemplate);
+
+        id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO \"user\" (id, name, email, cpf) VALUES (?, ?, ?, ?)",
+                id, "João Silva", "joao@email.com", "12345678901");
+        jdbcTemplate.update("INSERT INTO user_customer (\"id\", anonymous) VALUES (?, ?)", id, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Deve gravar só as colunas que mudaram em cada tabela")
+    void shouldUpdateOnlyChangedColumns() {
+        // Given
+        var user = UserRowWriter.changes()
+                .set("name", "João Silva", "João Souza")
+                .set("email", "joao@email.com", "joao@email.com")
+                .set("cpf", "12345678901", "12345678901");
+        var customer = UserRowWriter.changes().set("anonymous", false, true);
+
+        // When
+        boolean userFound = writer.update(UserRowWriter.Table.USER, id, user.columns());
+        boolean customerFound = writer.update(UserRowWriter.Table.CUSTOMER, id, customer.columns());
+
+        // Then
+        assertTrue(userFound);
+        assertTrue(customerFound);
+        assertEquals(Map.of("name", "João Souza"), user.columns());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT u.name, u.email, c.anonymous FROM \"user\" u JOIN user_customer c ON c.\"id\" = u.id WHERE u.id = ?", id);
+        assertEquals("João Souza", row.get("NAME"));
+        assertEquals("joao@email.com", row.get("EMAIL"));
+        assertEquals(true, row.get("ANONYMOUS"));
+    }
+
+    @Test
+    @DisplayName("Deve não enviar comando quando nada mudou")
+    void shouldSkipTableWithoutChanges() {
+        // Given
+        var user = UserRowWriter.changes().set("name", "João Silva", "João Silva");
+
+        // When
+        boolean found = writer.update(UserRowWriter.Table.USER, UUID.randomUUID(), user.columns());
+
+        // Then
+        assertTrue(found);
+        assertTrue(user.columns().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve informar quando a linha não existe")
+    void shouldReportMissingRow() {
+        // When
+        boolean found = writer.update(UserRowWriter.Table.USER, UUID.randomUUID(), Map.of("name", "Maria"));
+
+        // Then
+        assertFalse(found);
+        assertEquals("João Silva", jdbcTemplate.queryForObject("SELECT name FROM \"user\" WHERE id = ?", String.class, id));
+    }
+
+    @Test
+    @DisplayName("Deve remover o cliente das duas tabelas e informar quantos removeu")
+    void shouldDeleteFromSubclassAndUserTables() {
+        // When
+        int deleted = writer.delete(UserRowWriter.Table.CUSTOMER, id);
+        int missing = writer.delete(UserRowWriter.Table.CUSTOMER, id);
+
+        // Then
+        assertEquals(1, deleted);
+        assertEquals(0, missing);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"user\"", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_customer", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve manter o usuário quando o ID não é de um cliente")
+    void shouldKeepUserOfAnotherType() {
+        // Given
+        UUID attendant = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO \"user\" (id, name, email, cpf) VALUES (?, ?, ?, ?)",
+                attendant, "Carlos", "carlos@empresa.com", "11122233344");
+        jdbcTemplate.update("INSERT INTO user_attendant (id) VALUES (?)", attendant);
+
+        // When
+        int deleted = writer.delete(UserRowWriter.Table.CUSTOMER, attendant);
+
+        // Then
+        assertEquals(0, deleted);
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"user\"", Integer.class));
+    }
+}
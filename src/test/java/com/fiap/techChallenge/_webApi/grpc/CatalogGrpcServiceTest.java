@@ -0,0 +1,201 @@
+package com.fiap.techChallenge._webApi.grpc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techChallenge._webApi.controller.product.ProductChangeBroadcaster;
+import com.fiap.techChallenge._webApi.grpc.proto.CatalogEvent;
+import com.fiap.techChallenge._webApi.grpc.proto.CatalogGrpc;
+import com.fiap.techChallenge._webApi.grpc.proto.Customer;
+import com.fiap.techChallenge._webApi.grpc.proto.FindCustomerByCpfRequest;
+import com.fiap.techChallenge._webApi.grpc.proto.FindProductByIdRequest;
+import com.fiap.techChallenge._webApi.grpc.proto.GetProductsRequest;
+import com.fiap.techChallenge._webApi.grpc.proto.GetProductsResponse;
+import com.fiap.techChallenge._webApi.grpc.proto.Product;
+import com.fiap.techChallenge._webApi.grpc.proto.WatchCatalogRequest;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangeDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductChangeType;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CatalogGrpcService - Testes")
+class CatalogGrpcServiceTest {
+
+    private final CompositeDataSource compositeDataSource = mock(CompositeDataSource.class);
+    private final ProductChangeBroadcaster broadcaster = new ProductChangeBroadcaster(
+            new ObjectMapper(), 16, 64, 1, Duration.ofHours(1), Duration.ofMinutes(1));
+
+    private Server server;
+    private ManagedChannel channel;
+    private CatalogGrpc.CatalogBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new CatalogGrpcService(compositeDataSource, broadcaster))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = CatalogGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve buscar produto por ID com o preço em texto decimal")
+    void shouldFindProductById() {
+        // Given
+        ProductDTO product = product(ProductStatus.DISPONIVEL);
+        when(compositeDataSource.findProductById(product.id())).thenReturn(product);
+
+        // When
+        Product result = stub.findProductById(FindProductByIdRequest.newBuilder().setId(product.id().toString()).build());
+
+        // Then
+        assertEquals(product.id().toString(), result.getId());
+        assertEquals("X-Burger", result.getName());
+        assertEquals("25.90", result.getPrice());
+        assertEquals("LANCHE", result.getCategory());
+        assertEquals("x-burger.png", result.getImage());
+    }
+
+    @Test
+    @DisplayName("Deve responder NOT_FOUND e INVALID_ARGUMENT como o REST responde 400")
+    void shouldMapErrorsToStatus() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        StatusRuntimeException notFound = assertThrows(StatusRuntimeException.class,
+                () -> stub.findProductById(FindProductByIdRequest.newBuilder().setId(id.toString()).build()));
+        StatusRuntimeException invalid = assertThrows(StatusRuntimeException.class,
+                () -> stub.findProductById(FindProductByIdRequest.newBuilder().setId("abc").build()));
+
+        // Then
+        assertEquals(Status.Code.NOT_FOUND, notFound.getStatus().getCode());
+        assertEquals("Registro não encontrado: Product", notFound.getStatus().getDescription());
+        assertEquals(Status.Code.INVALID_ARGUMENT, invalid.getStatus().getCode());
+        assertEquals("ID inválido: 'abc'", invalid.getStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("Deve separar produtos encontrados, indisponíveis e inexistentes em lote")
+    void shouldGetProductsInBatch() {
+        // Given
+        ProductDTO available = product(ProductStatus.DISPONIVEL);
+        ProductDTO unavailable = product(ProductStatus.INDISPONIVEL);
+        UUID missing = UUID.randomUUID();
+        when(compositeDataSource.findProductsByIds(any())).thenReturn(List.of(available, unavailable));
+
+        // When
+        GetProductsResponse result = stub.getProducts(GetProductsRequest.newBuilder()
+                .addIds(available.id().toString())
+                .addIds(unavailable.id().toString())
+                .addIds(missing.toString())
+                .build());
+
+        // Then
+        assertEquals(List.of(available.id().toString()), result.getFoundList().stream().map(Product::getId).toList());
+        assertEquals(List.of(unavailable.id().toString()), result.getUnavailableList());
+        assertEquals(List.of(missing.toString()), result.getMissingList());
+        assertThrows(StatusRuntimeException.class, () -> stub.getProducts(GetProductsRequest.getDefaultInstance()));
+    }
+
+    @Test
+    @DisplayName("Deve buscar cliente por CPF sem expor dados de cliente anônimo")
+    void shouldFindCustomerByCpf() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(compositeDataSource.findFirstCustomerByCpf("12345678901")).thenReturn(
+                new CustomerFullDTO(id, "João Silva", "123.456.789-01", "joao.silva@email.com", false));
+        when(compositeDataSource.findFirstCustomerByCpf("anonymous")).thenReturn(
+                new CustomerFullDTO(id, null, null, null, true));
+
+        // When
+        Customer customer = stub.findCustomerByCpf(FindCustomerByCpfRequest.newBuilder().setCpf("12345678901").build());
+        Customer anonymous = stub.findCustomerByCpf(FindCustomerByCpfRequest.newBuilder().setCpf("anonymous").build());
+
+        // Then
+        assertEquals("joao.silva@email.com", customer.getEmail());
+        assertFalse(customer.getAnonymous());
+        assertTrue(anonymous.getAnonymous());
+        assertEquals("", anonymous.getCpf());
+        assertEquals("", anonymous.getEmail());
+    }
+
+    @Test
+    @DisplayName("Deve transmitir as alterações do cardápio até o cliente cancelar")
+    void shouldWatchCatalogUntilCancelled() throws InterruptedException {
+        // Given
+        BlockingQueue<CatalogEvent> events = new LinkedBlockingQueue<>();
+        CatalogGrpc.newStub(channel).watchCatalog(WatchCatalogRequest.getDefaultInstance(), new StreamObserver<>() {
+            @Override
+            public void onNext(CatalogEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        UUID id = UUID.randomUUID();
+
+        // When
+        broadcaster.publish(ProductChangeDTO.builder().type(ProductChangeType.DELETED).id(id).build());
+        broadcaster.publish(ProductChangeDTO.builder().type(ProductChangeType.IMPORTED).build());
+        channel.shutdownNow();
+        channel.awaitTermination(1, TimeUnit.SECONDS);
+        broadcaster.publish(ProductChangeDTO.builder().type(ProductChangeType.CATEGORY_DELETED)
+                .category(Category.LANCHE).build());
+
+        // Then
+        CatalogEvent deleted = events.poll(1, TimeUnit.SECONDS);
+        assertEquals("DELETED", deleted.getType());
+        assertEquals(id.toString(), deleted.getId());
+        assertFalse(deleted.hasProduct());
+        assertEquals("IMPORTED", events.poll(1, TimeUnit.SECONDS).getType());
+        assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    private static ProductDTO product(ProductStatus status) {
+        return new ProductDTO(UUID.randomUUID(), "X-Burger", "Hambúrguer", new BigDecimal("25.90"),
+                Category.LANCHE, status, "x-burger.png");
+    }
+}
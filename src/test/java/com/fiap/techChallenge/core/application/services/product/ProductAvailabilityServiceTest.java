@@ -1,21 +1,35 @@
 package com.fiap.techChallenge.core.application.services.product;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.fiap.techChallenge.core.application.dto.product.CartItemDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductBatchDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteLineDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.Category;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
@@ -86,4 +100,111 @@ class ProductAvailabilityServiceTest {
         
         verify(productGateway, times(1)).findById(productId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve separar disponíveis, indisponíveis e inexistentes em uma única consulta")
+    void shouldSplitBatchInOneLookup() {
+        UUID availableId = UUID.randomUUID();
+        UUID unavailableId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        Product available = createTestProduct(availableId, ProductStatus.DISPONIVEL);
+        Product unavailable = createTestProduct(unavailableId, ProductStatus.INDISPONIVEL);
+        List<UUID> ids = List.of(missingId, availableId, unavailableId, availableId);
+
+        when(productGateway.findAllByIds(anyCollection())).thenReturn(List.of(unavailable, available));
+
+        ProductBatchDTO<Product> result = productAvailabilityService.findAvailableProducts(ids);
+
+        assertEquals(List.of(available), result.found());
+        assertEquals(List.of(unavailableId), result.unavailable());
+        assertEquals(List.of(missingId), result.missing());
+        verify(productGateway, times(1)).findAllByIds(new LinkedHashSet<>(List.of(missingId, availableId, unavailableId)));
+        verify(productGateway, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar lotes vazios, com IDs nulos ou acima do limite")
+    void shouldRejectInvalidBatches() {
+        List<UUID> withNull = new ArrayList<>();
+        withNull.add(null);
+        List<UUID> tooMany = Stream.generate(UUID::randomUUID)
+                .limit(ProductAvailabilityService.MAX_BATCH_SIZE + 1)
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> productAvailabilityService.findAvailableProducts(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> productAvailabilityService.findAvailableProducts(null));
+        assertThrows(IllegalArgumentException.class, () -> productAvailabilityService.findAvailableProducts(withNull));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> productAvailabilityService.findAvailableProducts(tooMany));
+
+        assertEquals("Informe no máximo 100 IDs por consulta", exception.getMessage());
+        verify(productGateway, never()).findAllByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve orçar o carrinho somando apenas os itens disponíveis")
+    void shouldQuoteCart() {
+        UUID burgerId = UUID.randomUUID();
+        UUID sodaId = UUID.randomUUID();
+        UUID unavailableId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        List<CartItemDTO> cart = List.of(
+                new CartItemDTO(burgerId, 2),
+                new CartItemDTO(unavailableId, 1),
+                new CartItemDTO(sodaId, 3),
+                new CartItemDTO(missingId, 1));
+
+        when(productGateway.findPricesByIds(anyCollection())).thenReturn(List.of(
+                new ProductPriceDTO(sodaId, "Refrigerante", ProductStatus.DISPONIVEL, 600),
+                new ProductPriceDTO(burgerId, "X-Burger", ProductStatus.DISPONIVEL, 2590),
+                new ProductPriceDTO(unavailableId, "Standard Product", ProductStatus.INDISPONIVEL, 199)));
+
+        QuoteDTO quote = productAvailabilityService.quote(cart);
+
+        assertFalse(quote.orderable());
+        assertEquals(List.of(
+                new QuoteLineDTO(burgerId, "X-Burger", 2, new BigDecimal("25.90"), new BigDecimal("51.80")),
+                new QuoteLineDTO(sodaId, "Refrigerante", 3, new BigDecimal("6.00"), new BigDecimal("18.00"))),
+                quote.lines());
+        assertEquals(new BigDecimal("69.80"), quote.total());
+        assertEquals(List.of(unavailableId), quote.unavailable());
+        assertEquals(List.of(missingId), quote.missing());
+        verify(productGateway, times(1)).findPricesByIds(anyCollection());
+        verify(productGateway, never()).findAllByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve recusar carrinhos vazios, com quantidade inválida ou acima do limite")
+    void shouldRejectInvalidCarts() {
+        UUID productId = UUID.randomUUID();
+        List<CartItemDTO> tooMany = Stream.generate(() -> new CartItemDTO(UUID.randomUUID(), 1))
+                .limit(ProductAvailabilityService.MAX_BATCH_SIZE + 1)
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> productAvailabilityService.quote(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> productAvailabilityService.quote(tooMany));
+        assertThrows(IllegalArgumentException.class,
+                () -> productAvailabilityService.quote(List.of(new CartItemDTO(null, 1))));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> productAvailabilityService.quote(List.of(new CartItemDTO(productId, 0))));
+
+        assertEquals("A quantidade deve ser maior que zero", exception.getMessage());
+        verify(productGateway, never()).findPricesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve recusar orçamento cujo total não cabe em centavos")
+    void shouldRejectOverflowingQuote() {
+        UUID productId = UUID.randomUUID();
+        UUID hugeId = UUID.randomUUID();
+
+        when(productGateway.findPricesByIds(anyCollection())).thenReturn(List.of(
+                new ProductPriceDTO(productId, "Caro", ProductStatus.DISPONIVEL, Long.MAX_VALUE),
+                new ProductPriceDTO(hugeId, "Caríssimo", ProductStatus.DISPONIVEL, ProductPriceDTO.OUT_OF_RANGE)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> productAvailabilityService.quote(List.of(new CartItemDTO(productId, 2))));
+        assertThrows(IllegalArgumentException.class,
+                () -> productAvailabilityService.quote(List.of(new CartItemDTO(hugeId, 1))));
+    }
+}
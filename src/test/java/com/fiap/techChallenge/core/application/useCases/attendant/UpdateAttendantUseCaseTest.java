@@ -66,7 +66,7 @@ class UpdateAttendantUseCaseTest {
     void shouldUpdateAttendantSuccessfullyWhenAttendantExists() {
         // Arrange
         when(attendantGateway.findFirstById(validAttendantId)).thenReturn(existingAttendant);
-        when(attendantGateway.save(any(Attendant.class))).thenReturn(updatedAttendant);
+        when(attendantGateway.update(any(Attendant.class), any(Attendant.class))).thenReturn(updatedAttendant);
 
         // Act
         Attendant result = updateAttendantUseCase.execute(validAttendantId, updateAttendantInputDTO);
@@ -79,7 +79,7 @@ class UpdateAttendantUseCaseTest {
         assertEquals("12345678901", result.getUnformattedCpf());
 
         verify(attendantGateway).findFirstById(validAttendantId);
-        verify(attendantGateway).save(any(Attendant.class));
+        verify(attendantGateway).update(same(existingAttendant), any(Attendant.class));
     }
 
     @Test
@@ -96,7 +96,7 @@ class UpdateAttendantUseCaseTest {
 
         assertEquals("Registro não encontrado: Attendant", exception.getMessage());
         verify(attendantGateway).findFirstById(invalidAttendantId);
-        verify(attendantGateway, never()).save(any(Attendant.class));
+        verify(attendantGateway, never()).update(any(Attendant.class), any(Attendant.class));
     }
 
     @Test
@@ -104,7 +104,7 @@ class UpdateAttendantUseCaseTest {
     void shouldReturnAttendantBuiltWithNewData() {
         // Arrange
         when(attendantGateway.findFirstById(validAttendantId)).thenReturn(existingAttendant);
-        when(attendantGateway.save(any(Attendant.class))).thenReturn(updatedAttendant);
+        when(attendantGateway.update(any(Attendant.class), any(Attendant.class))).thenReturn(updatedAttendant);
 
         // Act
         Attendant result = updateAttendantUseCase.execute(validAttendantId, updateAttendantInputDTO);
@@ -135,7 +135,7 @@ class UpdateAttendantUseCaseTest {
         );
 
         when(attendantGateway.findFirstById(validAttendantId)).thenReturn(existingAttendant);
-        when(attendantGateway.save(any(Attendant.class))).thenReturn(partialUpdatedAttendant);
+        when(attendantGateway.update(any(Attendant.class), any(Attendant.class))).thenReturn(partialUpdatedAttendant);
 
         // Act
         Attendant result = updateAttendantUseCase.execute(validAttendantId, partialUpdateDTO);
@@ -146,7 +146,7 @@ class UpdateAttendantUseCaseTest {
         assertEquals("novo.email@test.com", result.getEmail());
         assertEquals("98765432100", result.getUnformattedCpf());
         assertEquals(validAttendantId, result.getId());
-        verify(attendantGateway).save(any(Attendant.class));
+        verify(attendantGateway).update(any(Attendant.class), any(Attendant.class));
     }
 
     @Test
@@ -154,7 +154,7 @@ class UpdateAttendantUseCaseTest {
     void shouldMaintainOriginalAttendantIdDuringUpdate() {
         // Arrange
         when(attendantGateway.findFirstById(validAttendantId)).thenReturn(existingAttendant);
-        when(attendantGateway.save(any(Attendant.class))).thenReturn(updatedAttendant);
+        when(attendantGateway.update(any(Attendant.class), any(Attendant.class))).thenReturn(updatedAttendant);
 
         // Act
         Attendant result = updateAttendantUseCase.execute(validAttendantId, updateAttendantInputDTO);
@@ -162,13 +162,13 @@ class UpdateAttendantUseCaseTest {
         // Assert
         assertEquals(validAttendantId, result.getId());
         assertEquals(existingAttendant.getId(), result.getId());
-        verify(attendantGateway).save(argThat(attendant ->
+        verify(attendantGateway).update(any(Attendant.class), argThat(attendant ->
             attendant.getId().equals(validAttendantId)
         ));
     }
 
     @Test
-    @DisplayName("Deve validar que save é chamado mesmo quando dados são iguais")
+    @DisplayName("Deve validar que update é chamado mesmo quando dados são iguais")
     void shouldCallSaveEvenWhenDataIsTheSame() {
         // Arrange
         AttendantInputDTO sameDataDTO = new AttendantInputDTO(
@@ -178,7 +178,7 @@ class UpdateAttendantUseCaseTest {
         );
 
         when(attendantGateway.findFirstById(validAttendantId)).thenReturn(existingAttendant);
-        when(attendantGateway.save(any(Attendant.class))).thenReturn(existingAttendant);
+        when(attendantGateway.update(any(Attendant.class), any(Attendant.class))).thenReturn(existingAttendant);
 
         // Act
         Attendant result = updateAttendantUseCase.execute(validAttendantId, sameDataDTO);
@@ -186,7 +186,7 @@ class UpdateAttendantUseCaseTest {
         // Assert
         assertNotNull(result);
         verify(attendantGateway).findFirstById(validAttendantId);
-        verify(attendantGateway).save(any(Attendant.class));
+        verify(attendantGateway).update(any(Attendant.class), any(Attendant.class));
     }
 
     @Test
@@ -201,7 +201,7 @@ class UpdateAttendantUseCaseTest {
         });
 
         verify(attendantGateway).findFirstById(null);
-        verify(attendantGateway, never()).save(any(Attendant.class));
+        verify(attendantGateway, never()).update(any(Attendant.class), any(Attendant.class));
     }
 
     @Test
@@ -216,6 +216,6 @@ class UpdateAttendantUseCaseTest {
         });
 
         verify(attendantGateway).findFirstById(validAttendantId);
-        verify(attendantGateway, never()).save(any(Attendant.class));
+        verify(attendantGateway, never()).update(any(Attendant.class), any(Attendant.class));
     }
 }
@@ -1,7 +1,6 @@
 package com.fiap.techChallenge.core.application.useCases.customer;
 
 import com.fiap.techChallenge.core.application.useCases.user.customer.DeleteCustomerUseCase;
-import com.fiap.techChallenge.core.domain.entities.user.customer.Customer;
 import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
 import com.fiap.techChallenge.core.gateways.user.CustomerGateway;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,7 +14,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,34 +28,23 @@ class DeleteCustomerUseCaseTest {
 
     private UUID validCustomerId;
     private UUID invalidCustomerId;
-    private Customer mockCustomer;
 
     @BeforeEach
     void setUp() {
         validCustomerId = UUID.randomUUID();
         invalidCustomerId = UUID.randomUUID();
-
-        mockCustomer = Customer.build(
-                validCustomerId,
-                "João Silva",
-                "joao.silva@email.com",
-                "12345678901",
-                false
-        );
     }
 
     @Test
     @DisplayName("Deve deletar cliente com sucesso quando cliente existe")
     void shouldDeleteCustomerSuccessfully_WhenCustomerExists() {
         // Arrange
-        when(customerGateway.findFirstById(validCustomerId)).thenReturn(mockCustomer);
-        doNothing().when(customerGateway).delete(validCustomerId);
+        when(customerGateway.delete(validCustomerId)).thenReturn(1);
 
         // Act
         assertDoesNotThrow(() -> deleteCustomerUseCase.execute(validCustomerId));
 
         // Assert
-        verify(customerGateway).findFirstById(validCustomerId);
         verify(customerGateway).delete(validCustomerId);
     }
 
@@ -65,7 +52,7 @@ class DeleteCustomerUseCaseTest {
     @DisplayName("Deve lançar EntityNotFoundException quando cliente não existe")
     void shouldThrowEntityNotFoundException_WhenCustomerDoesNotExist() {
         // Arrange
-        when(customerGateway.findFirstById(invalidCustomerId)).thenReturn(null);
+        when(customerGateway.delete(invalidCustomerId)).thenReturn(0);
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
@@ -74,46 +61,35 @@ class DeleteCustomerUseCaseTest {
         );
 
         assertEquals("Registro não encontrado: Customer", exception.getMessage());
-        verify(customerGateway).findFirstById(invalidCustomerId);
-        verify(customerGateway, never()).delete(any(UUID.class));
+        verify(customerGateway).delete(invalidCustomerId);
     }
 
     @Test
-    @DisplayName("Deve deletar cliente anônimo com sucesso")
-    void shouldDeleteAnonymousCustomerSuccessfully() {
+    @DisplayName("Deve deletar sem consultar o cliente antes")
+    void shouldNotCallFindFirstById() {
         // Arrange
-        Customer anonymousCustomer = Customer.build(
-                validCustomerId,
-                "Cliente Anônimo",
-                null,
-                null,
-                true
-        );
-
-        when(customerGateway.findFirstById(validCustomerId)).thenReturn(anonymousCustomer);
-        doNothing().when(customerGateway).delete(validCustomerId);
+        when(customerGateway.delete(validCustomerId)).thenReturn(1);
 
         // Act
-        assertDoesNotThrow(() -> deleteCustomerUseCase.execute(validCustomerId));
+        deleteCustomerUseCase.execute(validCustomerId);
 
         // Assert
-        verify(customerGateway).findFirstById(validCustomerId);
         verify(customerGateway).delete(validCustomerId);
+        verifyNoMoreInteractions(customerGateway);
     }
 
     @Test
-    @DisplayName("Deve verificar que delete não é chamado quando findFirstById retorna null")
-    void shouldNotCallDelete_WhenFindFirstByIdReturnsNull() {
+    @DisplayName("Deve verificar que nenhuma outra operação é feita quando o cliente não existe")
+    void shouldNotCallFindFirstById_WhenCustomerDoesNotExist() {
         // Arrange
-        when(customerGateway.findFirstById(invalidCustomerId)).thenReturn(null);
+        when(customerGateway.delete(invalidCustomerId)).thenReturn(0);
 
         // Act & Assert
         assertThrows(EntityNotFoundException.class, () -> {
             deleteCustomerUseCase.execute(invalidCustomerId);
         });
 
-        verify(customerGateway).findFirstById(invalidCustomerId);
-        verify(customerGateway, never()).delete(any(UUID.class));
+        verify(customerGateway).delete(invalidCustomerId);
         verifyNoMoreInteractions(customerGateway);
     }
 }
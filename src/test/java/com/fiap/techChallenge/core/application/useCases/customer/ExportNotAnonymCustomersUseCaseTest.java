@@ -0,0 +1,39 @@
+package com.fiap.techChallenge.core.application.useCases.customer;
+
+import com.fiap.techChallenge.core.application.useCases.user.customer.ExportNotAnonymCustomersUseCase;
+import com.fiap.techChallenge.core.domain.entities.user.customer.Customer;
+import com.fiap.techChallenge.core.gateways.user.CustomerGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportNotAnonymCustomersUseCase Tests")
+class ExportNotAnonymCustomersUseCaseTest {
+
+    @Mock
+    private CustomerGateway customerGateway;
+
+    @InjectMocks
+    private ExportNotAnonymCustomersUseCase exportNotAnonymCustomersUseCase;
+
+    @Test
+    @DisplayName("Deve repassar o consumidor ao gateway")
+    void shouldDelegateToGateway() {
+        // Arrange
+        Consumer<Customer> sink = customer -> { };
+
+        // Act
+        exportNotAnonymCustomersUseCase.execute(sink);
+
+        // Assert
+        verify(customerGateway).forEachNotAnonymous(sink);
+    }
+}
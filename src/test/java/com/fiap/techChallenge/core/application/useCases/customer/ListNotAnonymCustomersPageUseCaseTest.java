@@ -0,0 +1,59 @@
+package com.fiap.techChallenge.core.application.useCases.customer;
+
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.useCases.user.customer.ListNotAnonymCustomersPageUseCase;
+import com.fiap.techChallenge.core.domain.entities.user.customer.Customer;
+import com.fiap.techChallenge.core.gateways.user.CustomerGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListNotAnonymCustomersPageUseCase Tests")
+class ListNotAnonymCustomersPageUseCaseTest {
+
+    @Mock
+    private CustomerGateway customerGateway;
+
+    @InjectMocks
+    private ListNotAnonymCustomersPageUseCase listNotAnonymCustomersPageUseCase;
+
+    @Test
+    @DisplayName("Deve retornar a página de clientes não anônimos com o próximo cursor")
+    void shouldReturnPageOfNotAnonymousCustomers() {
+        // Arrange
+        PageRequestDTO request = new PageRequestDTO(null, 1);
+        Customer customer = Customer.build(UUID.randomUUID(), "João Silva", "joao.silva@email.com", "12345678901", false);
+        PageDTO<Customer> expected = new PageDTO<>(List.of(customer), "next");
+        when(customerGateway.findNotAnonymousPage(request)).thenReturn(expected);
+
+        // Act
+        PageDTO<Customer> result = listNotAnonymCustomersPageUseCase.execute(request);
+
+        // Assert
+        assertEquals(expected, result);
+        verify(customerGateway).findNotAnonymousPage(request);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de página menor que um")
+    void shouldRejectInvalidPageSize() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> listNotAnonymCustomersPageUseCase.execute(new PageRequestDTO(null, -1)));
+
+        assertEquals("O tamanho da página deve ser maior que zero", exception.getMessage());
+        verify(customerGateway, never()).findNotAnonymousPage(any());
+    }
+}
@@ -77,7 +77,7 @@ class UpdateCustomerUseCaseTest {
     void shouldUpdateCustomerSuccessfullyWhenCustomerExists() {
         // Arrange
         when(customerGateway.findFirstById(validCustomerId)).thenReturn(existingCustomer);
-        when(customerGateway.save(any(Customer.class))).thenReturn(updatedCustomer);
+        when(customerGateway.update(any(Customer.class), any(Customer.class))).thenReturn(updatedCustomer);
 
         // Act
         Customer result = updateCustomerUseCase.execute(validCustomerId, updateCustomerInputDTO);
@@ -91,7 +91,7 @@ class UpdateCustomerUseCaseTest {
         assertFalse(result.isAnonymous());
 
         verify(customerGateway).findFirstById(validCustomerId);
-        verify(customerGateway).save(any(Customer.class));
+        verify(customerGateway).update(same(existingCustomer), any(Customer.class));
     }
 
     @Test
@@ -108,7 +108,7 @@ class UpdateCustomerUseCaseTest {
 
         assertEquals("Registro não encontrado: Customer", exception.getMessage());
         verify(customerGateway).findFirstById(invalidCustomerId);
-        verify(customerGateway, never()).save(any(Customer.class));
+        verify(customerGateway, never()).update(any(Customer.class), any(Customer.class));
     }
 
     @Test
@@ -124,7 +124,7 @@ class UpdateCustomerUseCaseTest {
         );
 
         when(customerGateway.findFirstById(validCustomerId)).thenReturn(existingCustomer);
-        when(customerGateway.save(any(Customer.class))).thenReturn(anonymousCustomer);
+        when(customerGateway.update(any(Customer.class), any(Customer.class))).thenReturn(anonymousCustomer);
 
         // Act
         Customer result = updateCustomerUseCase.execute(validCustomerId, anonymousCustomerInputDTO);
@@ -138,7 +138,7 @@ class UpdateCustomerUseCaseTest {
         assertTrue(result.isAnonymous());
 
         verify(customerGateway).findFirstById(validCustomerId);
-        verify(customerGateway).save(any(Customer.class));
+        verify(customerGateway).update(any(Customer.class), any(Customer.class));
     }
 
     @Test
@@ -154,7 +154,7 @@ class UpdateCustomerUseCaseTest {
         );
 
         when(customerGateway.findFirstById(validCustomerId)).thenReturn(existingAnonymousCustomer);
-        when(customerGateway.save(any(Customer.class))).thenReturn(updatedCustomer);
+        when(customerGateway.update(any(Customer.class), any(Customer.class))).thenReturn(updatedCustomer);
 
         // Act
         Customer result = updateCustomerUseCase.execute(validCustomerId, updateCustomerInputDTO);
@@ -168,7 +168,7 @@ class UpdateCustomerUseCaseTest {
         assertFalse(result.isAnonymous());
 
         verify(customerGateway).findFirstById(validCustomerId);
-        verify(customerGateway).save(any(Customer.class));
+        verify(customerGateway).update(any(Customer.class), any(Customer.class));
     }
 
     @Test
@@ -176,7 +176,7 @@ class UpdateCustomerUseCaseTest {
     void shouldReturnCustomerBuiltWithNewData() {
         // Arrange
         when(customerGateway.findFirstById(validCustomerId)).thenReturn(existingCustomer);
-        when(customerGateway.save(any(Customer.class))).thenReturn(updatedCustomer);
+        when(customerGateway.update(any(Customer.class), any(Customer.class))).thenReturn(updatedCustomer);
 
         // Act
         Customer result = updateCustomerUseCase.execute(validCustomerId, updateCustomerInputDTO);
@@ -210,7 +210,7 @@ class UpdateCustomerUseCaseTest {
         );
 
         when(customerGateway.findFirstById(validCustomerId)).thenReturn(existingCustomer);
-        when(customerGateway.save(any(Customer.class))).thenReturn(partialUpdatedCustomer);
+        when(customerGateway.update(any(Customer.class), any(Customer.class))).thenReturn(partialUpdatedCustomer);
 
         // Act
         Customer result = updateCustomerUseCase.execute(validCustomerId, partialUpdateDTO);
@@ -221,7 +221,7 @@ class UpdateCustomerUseCaseTest {
         assertEquals("novo.email@test.com", result.getEmail());
         assertEquals("98765432100", result.getUnformattedCpf());
         assertEquals(validCustomerId, result.getId());
-        verify(customerGateway).save(any(Customer.class));
+        verify(customerGateway).update(any(Customer.class), any(Customer.class));
     }
 
     @Test
@@ -229,7 +229,7 @@ class UpdateCustomerUseCaseTest {
     void shouldMaintainOriginalCustomerIdDuringUpdate() {
         // Arrange
         when(customerGateway.findFirstById(validCustomerId)).thenReturn(existingCustomer);
-        when(customerGateway.save(any(Customer.class))).thenReturn(updatedCustomer);
+        when(customerGateway.update(any(Customer.class), any(Customer.class))).thenReturn(updatedCustomer);
 
         // Act
         Customer result = updateCustomerUseCase.execute(validCustomerId, updateCustomerInputDTO);
@@ -237,7 +237,7 @@ class UpdateCustomerUseCaseTest {
         // Assert
         assertEquals(validCustomerId, result.getId());
         assertEquals(existingCustomer.getId(), result.getId());
-        verify(customerGateway).save(argThat(customer ->
+        verify(customerGateway).update(any(Customer.class), argThat(customer ->
             customer.getId().equals(validCustomerId)
         ));
     }
@@ -254,6 +254,6 @@ class UpdateCustomerUseCaseTest {
         });
 
         verify(customerGateway).findFirstById(null);
-        verify(customerGateway, never()).save(any(Customer.class));
+        verify(customerGateway, never()).update(any(Customer.class), any(Customer.class));
     }
 }
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.*;
@@ -78,7 +79,6 @@ class CreateProductUseCaseTest {
         void givenNoProductWithNameExists_whenCreatingProduct_thenShouldCreateAndSaveSuccessfully() {
             // Given - Dado que não existe produto com o nome informado
             String productName = createProductInputDTO.name();
-            when(gateway.existisByName(productName)).thenReturn(false);
             when(gateway.save(any(Product.class))).thenReturn(savedProduct);
 
             // When - Quando executar a criação do produto
@@ -99,26 +99,23 @@ class CreateProductUseCaseTest {
                     "A imagem do produto deve corresponder à informada");
 
             // Verificações de interação
-            verify(gateway, times(1)).existisByName(productName);
             verify(gateway, times(1)).save(any(Product.class));
         }
 
         @Test
         @DisplayName("Dado que o produto será criado, " +
                      "Quando executar a criação, " +
-                     "Então deve verificar a unicidade do nome antes de salvar")
-        void givenProductCreation_whenExecuting_thenShouldCheckNameUniquenessBeforeSaving() {
+                     "Então deve salvar direto, deixando a unicidade do nome para o gateway")
+        void givenProductCreation_whenExecuting_thenShouldSaveWithoutCheckingNameFirst() {
             // Given - Dado que o produto será criado
-            when(gateway.existisByName(createProductInputDTO.name())).thenReturn(false);
             when(gateway.save(any(Product.class))).thenReturn(savedProduct);
 
             // When - Quando executar a criação
             createProductUseCase.execute(createProductInputDTO);
 
-            // Then - Então deve verificar a unicidade do nome antes de salvar
-            var inOrder = inOrder(gateway);
-            inOrder.verify(gateway).existisByName(createProductInputDTO.name());
-            inOrder.verify(gateway).save(any(Product.class));
+            // Then - Então deve salvar sem consultar o nome antes
+            verify(gateway, never()).findByName(anyString());
+            verify(gateway, times(1)).save(any(Product.class));
         }
     }
 
@@ -129,11 +126,11 @@ class CreateProductUseCaseTest {
         @Test
         @DisplayName("Dado que já existe um produto com o nome informado, " +
                      "Quando tentar criar o produto, " +
-                     "Então deve lançar NameAlreadyRegisteredException e não salvar")
+                     "Então deve propagar a NameAlreadyRegisteredException recusada pelo gateway")
         void givenProductNameAlreadyExists_whenCreatingProduct_thenShouldThrowExceptionAndNotSave() {
             // Given - Dado que já existe um produto com o nome informado
             String existingProductName = createProductInputDTO.name();
-            when(gateway.existisByName(existingProductName)).thenReturn(true);
+            when(gateway.save(any(Product.class))).thenThrow(new NameAlreadyRegisteredException(existingProductName));
 
             // When/Then - Quando tentar criar o produto, então deve lançar exceção
             NameAlreadyRegisteredException exception = assertThrows(
@@ -147,9 +144,8 @@ class CreateProductUseCaseTest {
             assertTrue(exception.getMessage().contains(existingProductName), 
                     "A mensagem da exceção deve conter o nome do produto");
 
-            // Then - Verificar que não foi salvo
-            verify(gateway, times(1)).existisByName(existingProductName);
-            verify(gateway, never()).save(any(Product.class));
+            // Then - Verificar que a recusa veio do próprio salvamento
+            verify(gateway, times(1)).save(any(Product.class));
         }
     }
 }
\ No newline at end of file
@@ -1,9 +1,5 @@
 package com.fiap.techChallenge.core.application.useCases.product;
 
-import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
-import com.fiap.techChallenge.core.domain.entities.product.Product;
-import com.fiap.techChallenge.core.domain.enums.Category;
-import com.fiap.techChallenge.core.domain.enums.ProductStatus;
 import com.fiap.techChallenge.core.gateways.product.ProductGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,11 +8,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,35 +24,27 @@ class DeleteProductByIdUseCaseTest {
     private DeleteProductByIdUseCase deleteProductByIdUseCase;
 
     @Test
-    @DisplayName("Deve deletar o produto com sucesso quando ele existe")
+    @DisplayName("Deve deletar o produto sem consultá-lo antes")
     void shouldDeleteProductWhenItExists() {
         UUID productId = UUID.randomUUID();
-        Product existingProduct = Product.build(
-                productId, "Product to delete", "Description",
-                new BigDecimal("10.0"), Category.LANCHE, ProductStatus.DISPONIVEL, "image.png"
-        );
 
-        when(productGateway.findById(productId)).thenReturn(existingProduct);
-        doNothing().when(productGateway).delete(productId);
+        when(productGateway.delete(productId)).thenReturn(1);
 
-        assertDoesNotThrow(() -> deleteProductByIdUseCase.execute(productId));
+        assertEquals(1, deleteProductByIdUseCase.execute(productId));
 
-        verify(productGateway, times(1)).findById(productId);
         verify(productGateway, times(1)).delete(productId);
+        verifyNoMoreInteractions(productGateway);
     }
 
     @Test
-    @DisplayName("Deve lançar EntityNotFoundException quando o produto não existe")
-    void shouldThrowExceptionWhenProductDoesNotExist() {
+    @DisplayName("Deve retornar 0 quando o produto não existe")
+    void shouldReturnZeroWhenProductDoesNotExist() {
         UUID productId = UUID.randomUUID();
 
-        when(productGateway.findById(productId)).thenReturn(null);
+        when(productGateway.delete(productId)).thenReturn(0);
 
-        assertThrows(EntityNotFoundException.class, () -> {
-            deleteProductByIdUseCase.execute(productId);
-        });
+        assertEquals(0, deleteProductByIdUseCase.execute(productId));
 
-        verify(productGateway, times(1)).findById(productId);
-        verify(productGateway, never()).delete(any(UUID.class));
+        verify(productGateway, never()).findById(any(UUID.class));
     }
 }
@@ -0,0 +1,35 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ExportProductsUseCase")
+class ExportProductsUseCaseTest {
+
+    @Mock
+    private ProductGateway gateway;
+
+    @InjectMocks
+    private ExportProductsUseCase exportProductsUseCase;
+
+    @Test
+    @DisplayName("Deve repassar o consumidor ao gateway")
+    void shouldDelegateToGateway() {
+        Consumer<Product> sink = product -> { };
+
+        exportProductsUseCase.execute(sink);
+
+        verify(gateway, times(1)).forEach(sink);
+    }
+}
@@ -0,0 +1,38 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para GetCatalogVersionUseCase")
+class GetCatalogVersionUseCaseTest {
+
+    @Mock
+    private ProductGateway gateway;
+
+    @InjectMocks
+    private GetCatalogVersionUseCase getCatalogVersionUseCase;
+
+    @Test
+    @DisplayName("Deve retornar a versão atual do cardápio")
+    void shouldReturnCurrentCatalogVersion() {
+        CatalogVersionDTO expected = new CatalogVersionDTO(1L, 5L, Instant.now());
+        when(gateway.catalogVersion()).thenReturn(expected);
+
+        CatalogVersionDTO actual = getCatalogVersionUseCase.execute();
+
+        assertEquals(expected, actual);
+        verify(gateway, times(1)).catalogVersion();
+    }
+}
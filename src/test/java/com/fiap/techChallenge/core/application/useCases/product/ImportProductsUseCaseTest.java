@@ -0,0 +1,158 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportErrorDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportReportDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportRowDTO;
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ImportProductsUseCase")
+class ImportProductsUseCaseTest {
+
+    @Mock
+    private ProductGateway productGateway;
+
+    @Mock
+    private Consumer<List<Product>> onImported;
+
+    @InjectMocks
+    private ImportProductsUseCase importProductsUseCase;
+
+    @Test
+    @DisplayName("Deve gravar as linhas válidas e relatar as inválidas com o número da linha")
+    void shouldImportValidRowsAndReportInvalidOnes() {
+        // Given
+        List<ProductImportRowDTO> rows = List.of(
+                row(1, "X-Burger", new BigDecimal("25.90"), ProductStatus.DISPONIVEL),
+                row(2, "Suco", new BigDecimal("-1"), ProductStatus.DISPONIVEL),
+                ProductImportRowDTO.builder().row(3).name("Pudim").error("Categoria inválida: 'DOCE'").build(),
+                row(4, "Batata", new BigDecimal("9.90"), null),
+                row(5, "Refrigerante", new BigDecimal("6.00"), ProductStatus.INDISPONIVEL));
+        when(productGateway.upsertAllByName(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ProductImportReportDTO report = importProductsUseCase.execute(rows.iterator(), onImported);
+
+        // Then
+        ArgumentCaptor<List<Product>> saved = ArgumentCaptor.forClass(List.class);
+        verify(productGateway, times(1)).upsertAllByName(saved.capture());
+        assertEquals(List.of("X-Burger", "Refrigerante"), saved.getValue().stream().map(Product::getName).toList());
+        verify(onImported, times(1)).accept(saved.getValue());
+
+        assertEquals(5, report.received());
+        assertEquals(2, report.imported());
+        assertEquals(0, report.merged());
+        assertEquals(3, report.rejected());
+        assertFalse(report.errorsTruncated());
+        assertEquals(List.of(
+                new ProductImportErrorDTO(2, "Suco", "O preço do produto deve estar preenchido e não pode ser negativo."),
+                new ProductImportErrorDTO(3, "Pudim", "Categoria inválida: 'DOCE'"),
+                new ProductImportErrorDTO(4, "Batata", "O status do produto deve ser preenchido.")),
+                report.errors());
+    }
+
+    @Test
+    @DisplayName("Deve gravar em lotes consumindo as linhas sob demanda")
+    void shouldImportInChunks() {
+        // Given
+        int total = ImportProductsUseCase.CHUNK_SIZE * 2 + 1;
+        List<ProductImportRowDTO> rows = LongStream.rangeClosed(1, total)
+                .mapToObj(i -> row(i, "Produto " + i, BigDecimal.ONE, ProductStatus.DISPONIVEL))
+                .toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(productGateway.upsertAllByName(anyList())).thenAnswer(invocation -> {
+            List<Product> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return chunk;
+        });
+
+        // When
+        ProductImportReportDTO report = importProductsUseCase.execute(rows.iterator(), onImported);
+
+        // Then
+        assertEquals(List.of(ImportProductsUseCase.CHUNK_SIZE, ImportProductsUseCase.CHUNK_SIZE, 1), chunkSizes);
+        assertEquals(total, report.imported());
+        verify(onImported, times(3)).accept(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve contar como importados apenas os produtos gravados quando o lote repete um nome")
+    void shouldCountMergedRowsSeparately() {
+        // Given
+        List<ProductImportRowDTO> rows = List.of(
+                row(1, "X-Burger", new BigDecimal("25.90"), ProductStatus.DISPONIVEL),
+                row(2, "Suco", new BigDecimal("8.00"), ProductStatus.DISPONIVEL),
+                row(3, "x-burger", new BigDecimal("27.90"), ProductStatus.DISPONIVEL));
+        when(productGateway.upsertAllByName(anyList())).thenAnswer(invocation -> {
+            List<Product> chunk = invocation.getArgument(0);
+            return List.of(chunk.get(2), chunk.get(1));
+        });
+
+        // When
+        ProductImportReportDTO report = importProductsUseCase.execute(rows.iterator(), onImported);
+
+        // Then
+        assertEquals(3, report.received());
+        assertEquals(2, report.imported());
+        assertEquals(1, report.merged());
+        assertEquals(0, report.rejected());
+        verify(onImported, times(1)).accept(argThat(saved -> saved.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Deve limitar os erros relatados sem deixar de contá-los")
+    void shouldCapReportedErrors() {
+        // Given
+        int total = ImportProductsUseCase.MAX_REPORTED_ERRORS + 10;
+        List<ProductImportRowDTO> rows = LongStream.rangeClosed(1, total)
+                .mapToObj(i -> row(i, "", BigDecimal.ONE, ProductStatus.DISPONIVEL))
+                .toList();
+
+        // When
+        ProductImportReportDTO report = importProductsUseCase.execute(rows.iterator(), onImported);
+
+        // Then
+        assertEquals(total, report.rejected());
+        assertEquals(ImportProductsUseCase.MAX_REPORTED_ERRORS, report.errors().size());
+        assertTrue(report.errorsTruncated());
+        verify(productGateway, never()).upsertAllByName(anyList());
+        verify(onImported, never()).accept(anyList());
+    }
+
+    private ProductImportRowDTO row(long row, String name, BigDecimal price, ProductStatus status) {
+        return ProductImportRowDTO.builder()
+                .row(row)
+                .name(name)
+                .product(CreateProductInputDTO.builder()
+                        .name(name)
+                        .description("Descrição")
+                        .price(price)
+                        .category(Category.LANCHE)
+                        .status(status)
+                        .image("image.png")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ListProductChangesUseCase")
+class ListProductChangesUseCaseTest {
+
+    @Mock
+    private ProductGateway gateway;
+
+    @InjectMocks
+    private ListProductChangesUseCase listProductChangesUseCase;
+
+    @Test
+    @DisplayName("Deve retornar as alterações posteriores à versão informada")
+    void shouldReturnChangesSinceVersion() {
+        ProductChangesDTO expected = new ProductChangesDTO(7L, false, List.of(), List.of());
+        when(gateway.listChangesSince(5L)).thenReturn(expected);
+
+        ProductChangesDTO actual = listProductChangesUseCase.execute(5L);
+
+        assertEquals(expected, actual);
+        verify(gateway, times(1)).listChangesSince(5L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar versão negativa")
+    void shouldRejectNegativeVersion() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> listProductChangesUseCase.execute(-1L));
+
+        assertEquals("A versão informada não pode ser negativa", exception.getMessage());
+        verify(gateway, never()).listChangesSince(anyLong());
+    }
+}
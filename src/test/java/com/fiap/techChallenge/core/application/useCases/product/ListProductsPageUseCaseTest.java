@@ -0,0 +1,52 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ListProductsPageUseCase")
+class ListProductsPageUseCaseTest {
+
+    @Mock
+    private ProductGateway gateway;
+
+    @InjectMocks
+    private ListProductsPageUseCase listProductsPageUseCase;
+
+    @Test
+    @DisplayName("Deve retornar a página do gateway")
+    void shouldReturnPageFromGateway() {
+        PageRequestDTO request = new PageRequestDTO("cursor", 10);
+        PageDTO<Product> expected = new PageDTO<>(List.of(), null);
+        when(gateway.listPage(request)).thenReturn(expected);
+
+        PageDTO<Product> actual = listProductsPageUseCase.execute(request);
+
+        assertEquals(expected, actual);
+        verify(gateway, times(1)).listPage(request);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de página menor que um")
+    void shouldRejectInvalidPageSize() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> listProductsPageUseCase.execute(new PageRequestDTO(null, 0)));
+
+        assertEquals("O tamanho da página deve ser maior que zero", exception.getMessage());
+        verify(gateway, never()).listPage(any());
+    }
+}
@@ -0,0 +1,80 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import com.fiap.techChallenge.core.domain.entities.product.Product;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para SearchProductsUseCase")
+class SearchProductsUseCaseTest {
+
+    @Mock
+    private ProductGateway productGateway;
+
+    @InjectMocks
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @Test
+    @DisplayName("Deve retornar os produtos encontrados pelo termo")
+    void shouldReturnFoundProducts() {
+        Product product = Product.build(
+                UUID.randomUUID(), "Pão de Queijo", "Description",
+                new BigDecimal("6.00"), Category.ACOMPANHAMENTO, ProductStatus.DISPONIVEL, "image.png"
+        );
+
+        when(productGateway.search("pao", 10)).thenReturn(List.of(product));
+
+        List<Product> result = searchProductsUseCase.execute("pao", 10);
+
+        assertEquals(List.of(product), result);
+        verify(productGateway, times(1)).search("pao", 10);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de resultados ao máximo permitido")
+    void shouldCapLimit() {
+        when(productGateway.search("pao", SearchProductsUseCase.MAX_LIMIT)).thenReturn(List.of());
+
+        searchProductsUseCase.execute("pao", 1000);
+
+        verify(productGateway, times(1)).search("pao", SearchProductsUseCase.MAX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o termo estiver vazio")
+    void shouldThrowWhenQueryIsBlank() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> searchProductsUseCase.execute("  ", 10));
+
+        assertEquals("O termo de busca deve ser informado", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> searchProductsUseCase.execute(null, 10));
+        verify(productGateway, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o limite for menor que um")
+    void shouldThrowWhenLimitIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> searchProductsUseCase.execute("pao", 0));
+
+        assertEquals("O limite de resultados deve ser maior que zero", exception.getMessage());
+        verify(productGateway, never()).search(anyString(), anyInt());
+    }
+}
@@ -2,6 +2,7 @@ package com.fiap.techChallenge.core.application.useCases.product;
 
 import com.fiap.techChallenge.core.domain.exceptions.EntityNotFoundException;
 import com.fiap.techChallenge.core.domain.exceptions.product.NameAlreadyRegisteredException;
+import com.fiap.techChallenge.core.domain.exceptions.product.ProductVersionConflictException;
 import com.fiap.techChallenge.core.application.dto.product.UpdateProductInputDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.Category;
@@ -40,12 +41,11 @@ class UpdateProductUseCaseTest {
         );
         UpdateProductInputDTO dto = new UpdateProductInputDTO(
                 productId, "New Name", "New Desc", new BigDecimal("20.0"),
-                Category.BEBIDA, ProductStatus.DISPONIVEL, "new.png"
+                Category.BEBIDA, ProductStatus.DISPONIVEL, "new.png", null
         );
 
         when(productGateway.findById(productId)).thenReturn(existingProduct);
-        when(productGateway.findByName(dto.name())).thenReturn(null);
-        when(productGateway.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productGateway.update(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Product result = updateProductUseCase.execute(dto);
 
@@ -54,8 +54,8 @@ class UpdateProductUseCaseTest {
         assertEquals(dto.description(), result.getDescription());
         assertEquals(dto.price(), result.getPrice());
         verify(productGateway, times(1)).findById(productId);
-        verify(productGateway, times(1)).findByName(dto.name());
-        verify(productGateway, times(1)).save(any(Product.class));
+        verify(productGateway, never()).findByName(anyString());
+        verify(productGateway, times(1)).update(any(Product.class));
     }
 
     @Test
@@ -68,11 +68,11 @@ class UpdateProductUseCaseTest {
         );
         UpdateProductInputDTO dto = new UpdateProductInputDTO(
                 productId, "Same Name", "New Desc", new BigDecimal("20.0"),
-                Category.LANCHE, ProductStatus.DISPONIVEL, "new.png"
+                Category.LANCHE, ProductStatus.DISPONIVEL, "new.png", null
         );
 
         when(productGateway.findById(productId)).thenReturn(existingProduct);
-        when(productGateway.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productGateway.update(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Product result = updateProductUseCase.execute(dto);
 
@@ -80,7 +80,7 @@ class UpdateProductUseCaseTest {
         assertEquals("New Desc", result.getDescription());
         verify(productGateway, times(1)).findById(productId);
         verify(productGateway, never()).findByName(anyString());
-        verify(productGateway, times(1)).save(any(Product.class));
+        verify(productGateway, times(1)).update(any(Product.class));
     }
 
     @Test
@@ -89,7 +89,7 @@ class UpdateProductUseCaseTest {
         UUID productId = UUID.randomUUID();
         UpdateProductInputDTO dto = new UpdateProductInputDTO(
                 productId, "Any Name", "Any Desc", new BigDecimal("10.0"),
-                Category.LANCHE, ProductStatus.DISPONIVEL, "any.png"
+                Category.LANCHE, ProductStatus.DISPONIVEL, "any.png", null
         );
 
         when(productGateway.findById(productId)).thenReturn(null);
@@ -98,7 +98,7 @@ class UpdateProductUseCaseTest {
 
         verify(productGateway, times(1)).findById(productId);
         verify(productGateway, never()).findByName(anyString());
-        verify(productGateway, never()).save(any(Product.class));
+        verify(productGateway, never()).update(any(Product.class));
     }
 
     @Test
@@ -109,22 +109,38 @@ class UpdateProductUseCaseTest {
                 productIdToUpdate, "Old Name", "Desc 1", new BigDecimal("10.0"),
                 Category.LANCHE, ProductStatus.DISPONIVEL, "img1.png"
         );
-        Product productWithSameName = Product.build(
-                UUID.randomUUID(), "New Name", "Desc 2", new BigDecimal("20.0"),
-                Category.SOBREMESA, ProductStatus.DISPONIVEL, "img2.png"
-        );
         UpdateProductInputDTO dto = new UpdateProductInputDTO(
                 productIdToUpdate, "New Name", "New Desc", new BigDecimal("30.0"),
-                Category.BEBIDA, ProductStatus.DISPONIVEL, "img3.png"
+                Category.BEBIDA, ProductStatus.DISPONIVEL, "img3.png", null
         );
 
         when(productGateway.findById(productIdToUpdate)).thenReturn(productToUpdate);
-        when(productGateway.findByName("New Name")).thenReturn(productWithSameName);
+        when(productGateway.update(any(Product.class))).thenThrow(new NameAlreadyRegisteredException("New Name"));
 
         assertThrows(NameAlreadyRegisteredException.class, () -> updateProductUseCase.execute(dto));
 
         verify(productGateway, times(1)).findById(productIdToUpdate);
-        verify(productGateway, times(1)).findByName("New Name");
-        verify(productGateway, never()).save(any(Product.class));
+        verify(productGateway, never()).findByName(anyString());
+        verify(productGateway, times(1)).update(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar ProductVersionConflictException quando a versão informada ficou para trás")
+    void shouldThrowConflictWhenVersionIsStale() {
+        UUID productId = UUID.randomUUID();
+        Product existingProduct = Product.build(
+                productId, "Name", "Desc", new BigDecimal("10.0"),
+                Category.LANCHE, ProductStatus.DISPONIVEL, "img.png", 3L
+        );
+        UpdateProductInputDTO dto = new UpdateProductInputDTO(
+                productId, "Name", "New Desc", new BigDecimal("10.0"),
+                Category.LANCHE, ProductStatus.DISPONIVEL, "img.png", 2L
+        );
+
+        when(productGateway.findById(productId)).thenReturn(existingProduct);
+
+        assertThrows(ProductVersionConflictException.class, () -> updateProductUseCase.execute(dto));
+
+        verify(productGateway, never()).update(any(Product.class));
     }
 }
@@ -0,0 +1,105 @@
+package com.fiap.techChallenge.core.application.useCases.product;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.techChallenge.core.application.dto.product.UpdateProductsAvailabilityInputDTO;
+import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductStatus;
+import com.fiap.techChallenge.core.gateways.product.ProductGateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para UpdateProductsAvailabilityUseCase")
+class UpdateProductsAvailabilityUseCaseTest {
+
+    @Mock
+    private ProductGateway gateway;
+
+    @InjectMocks
+    private UpdateProductsAvailabilityUseCase updateProductsAvailabilityUseCase;
+
+    @Test
+    @DisplayName("Deve alterar os IDs informados sem repetir nenhum")
+    void shouldUpdateDistinctIds() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(gateway.updateStatus(List.of(first, second), ProductStatus.INDISPONIVEL)).thenReturn(2);
+
+        // When
+        int updated = updateProductsAvailabilityUseCase.execute(UpdateProductsAvailabilityInputDTO.builder()
+                .ids(List.of(first, second, first))
+                .status(ProductStatus.INDISPONIVEL)
+                .build());
+
+        // Then
+        assertEquals(2, updated);
+        verify(gateway, never()).updateStatusByCategory(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve alterar a categoria inteira")
+    void shouldUpdateCategory() {
+        // Given
+        when(gateway.updateStatusByCategory(Category.BEBIDA, ProductStatus.INDISPONIVEL)).thenReturn(7);
+
+        // When
+        int updated = updateProductsAvailabilityUseCase.execute(UpdateProductsAvailabilityInputDTO.builder()
+                .category(Category.BEBIDA)
+                .status(ProductStatus.INDISPONIVEL)
+                .build());
+
+        // Then
+        assertEquals(7, updated);
+        verify(gateway, never()).updateStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve exigir IDs ou categoria, mas não os dois")
+    void shouldRequireIdsOrCategory() {
+        assertThrows(IllegalArgumentException.class, () -> updateProductsAvailabilityUseCase.execute(
+                UpdateProductsAvailabilityInputDTO.builder()
+                        .ids(List.of())
+                        .status(ProductStatus.DISPONIVEL)
+                        .build()));
+        assertThrows(IllegalArgumentException.class, () -> updateProductsAvailabilityUseCase.execute(
+                UpdateProductsAvailabilityInputDTO.builder()
+                        .ids(List.of(UUID.randomUUID()))
+                        .category(Category.LANCHE)
+                        .status(ProductStatus.DISPONIVEL)
+                        .build()));
+        verifyNoInteractions(gateway);
+    }
+
+    @Test
+    @DisplayName("Deve exigir o status e limitar a quantidade de IDs")
+    void shouldRejectMissingStatusAndTooManyIds() {
+        assertThrows(IllegalArgumentException.class, () -> updateProductsAvailabilityUseCase.execute(
+                UpdateProductsAvailabilityInputDTO.builder()
+                        .category(Category.LANCHE)
+                        .build()));
+
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(UpdateProductsAvailabilityUseCase.MAX_IDS + 1)
+                .toList();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> updateProductsAvailabilityUseCase.execute(UpdateProductsAvailabilityInputDTO.builder()
+                        .ids(ids)
+                        .status(ProductStatus.DISPONIVEL)
+                        .build()));
+
+        assertEquals("Informe no máximo 1000 IDs por alteração", exception.getMessage());
+        verifyNoInteractions(gateway);
+    }
+}
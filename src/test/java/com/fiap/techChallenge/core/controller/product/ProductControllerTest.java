@@ -1,12 +1,31 @@
 package com.fiap.techChallenge.core.controller.product;
 
+import com.fiap.techChallenge.core.application.useCases.product.SearchProductsUseCase;
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CartItemDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductBatchDTO;
 import com.fiap.techChallenge.core.application.dto.product.CreateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangeDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductPriceDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportReportDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductImportRowDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductTombstoneDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductsAvailabilityDTO;
+import com.fiap.techChallenge.core.application.dto.product.QuoteDTO;
 import com.fiap.techChallenge.core.application.dto.product.UpdateProductInputDTO;
+import com.fiap.techChallenge.core.application.dto.product.UpdateProductsAvailabilityInputDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.Category;
+import com.fiap.techChallenge.core.domain.enums.ProductChangeType;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
 import com.fiap.techChallenge.core.interfaces.CompositeDataSource;
+import com.fiap.techChallenge.core.interfaces.ProductChangePublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,11 +34,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,7 +82,6 @@ class ProductControllerTest {
                 .image("hamburger.png")
                 .build();
 
-        when(compositeDataSource.findProductByName(anyString())).thenReturn(null);
         when(compositeDataSource.saveProduct(any())).thenAnswer(invocation -> {
             var dto = invocation.getArgument(0, com.fiap.techChallenge.core.application.dto.product.ProductDTO.class);
             return com.fiap.techChallenge.core.application.dto.product.ProductDTO.builder()
@@ -108,7 +130,7 @@ class ProductControllerTest {
                         .build()
         );
 
-        when(compositeDataSource.saveProduct(any())).thenAnswer(invocation -> {
+        when(compositeDataSource.updateProduct(any())).thenAnswer(invocation -> {
             var dto = invocation.getArgument(0, com.fiap.techChallenge.core.application.dto.product.ProductDTO.class);
             return dto;
         });
@@ -121,6 +143,78 @@ class ProductControllerTest {
         assertEquals(productId, result.id());
     }
 
+    @Test
+    @DisplayName("Deve publicar as alterações feitas pelos fluxos de escrita")
+    void shouldPublishChangesFromWritePaths() {
+        // Given
+        List<ProductChangeDTO> changes = new ArrayList<>();
+        ProductController controller = ProductController.build(compositeDataSource, changes::add);
+        UUID productId = UUID.randomUUID();
+        ProductDTO stored = ProductDTO.builder()
+                .id(productId)
+                .name("Hambúrguer")
+                .description("Delicioso hambúrguer")
+                .price(new BigDecimal("25.50"))
+                .category(Category.LANCHE)
+                .status(ProductStatus.DISPONIVEL)
+                .image("hamburger.png")
+                .build();
+
+        when(compositeDataSource.findProductById(productId)).thenReturn(stored);
+        when(compositeDataSource.updateProduct(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(compositeDataSource.deleteProduct(productId)).thenReturn(1);
+
+        // When
+        controller.update(UpdateProductInputDTO.builder()
+                .id(productId)
+                .name("Hambúrguer")
+                .description("Delicioso hambúrguer")
+                .price(new BigDecimal("27.00"))
+                .category(Category.LANCHE)
+                .status(ProductStatus.DISPONIVEL)
+                .image("hamburger.png")
+                .build());
+        controller.update(UpdateProductInputDTO.builder()
+                .id(productId)
+                .name("Hambúrguer")
+                .description("Delicioso hambúrguer")
+                .price(new BigDecimal("25.50"))
+                .category(Category.LANCHE)
+                .status(ProductStatus.INDISPONIVEL)
+                .image("hamburger.png")
+                .build());
+        controller.delete(productId);
+        controller.deleteByCategory(Category.BEBIDA);
+
+        // Then
+        assertEquals(List.of(ProductChangeType.UPDATED, ProductChangeType.AVAILABILITY_CHANGED,
+                ProductChangeType.DELETED, ProductChangeType.CATEGORY_DELETED),
+                changes.stream().map(ProductChangeDTO::type).toList());
+        assertEquals("INDISPONIVEL", changes.get(1).product().status());
+        assertEquals(productId, changes.get(2).id());
+        assertEquals(Category.LANCHE, changes.get(2).category());
+        assertNull(changes.get(2).product());
+        assertEquals(Category.BEBIDA, changes.get(3).category());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 0 e não publicar nada ao deletar produto inexistente")
+    void shouldNotPublishWhenDeletingMissingProduct() {
+        // Given
+        List<ProductChangeDTO> changes = new ArrayList<>();
+        ProductController controller = ProductController.build(compositeDataSource, changes::add);
+        UUID productId = UUID.randomUUID();
+
+        when(compositeDataSource.deleteProduct(productId)).thenReturn(0);
+
+        // When
+        int deleted = controller.delete(productId);
+
+        // Then
+        assertEquals(0, deleted);
+        assertTrue(changes.isEmpty());
+    }
+
     @Test
     @DisplayName("Deve encontrar produto por ID")
     void shouldFindProductById() {
@@ -307,6 +401,34 @@ class ProductControllerTest {
         verify(compositeDataSource, times(1)).deleteProductByCategory(category);
     }
 
+    @Test
+    @DisplayName("Deve publicar um único aviso para a alteração de disponibilidade em massa")
+    void shouldPublishSingleChangeForBulkAvailability() {
+        // Given
+        List<ProductChangeDTO> changes = new ArrayList<>();
+        ProductController controller = ProductController.build(compositeDataSource, changes::add);
+        when(compositeDataSource.updateProductsStatusByCategory(Category.SOBREMESA, ProductStatus.INDISPONIVEL))
+                .thenReturn(12, 0);
+        UpdateProductsAvailabilityInputDTO dto = UpdateProductsAvailabilityInputDTO.builder()
+                .category(Category.SOBREMESA)
+                .status(ProductStatus.INDISPONIVEL)
+                .build();
+
+        // When
+        ProductsAvailabilityDTO first = controller.updateAvailability(dto);
+        ProductsAvailabilityDTO second = controller.updateAvailability(dto);
+
+        // Then
+        assertEquals(12, first.updated());
+        assertEquals(ProductStatus.INDISPONIVEL, first.status());
+        assertEquals(0, second.updated());
+        assertEquals(1, changes.size());
+        assertEquals(ProductChangeType.AVAILABILITY_CHANGED, changes.get(0).type());
+        assertEquals(Category.SOBREMESA, changes.get(0).category());
+        assertNull(changes.get(0).id());
+        assertNull(changes.get(0).product());
+    }
+
     @Test
     @DisplayName("Deve listar todas as categorias")
     void shouldListAllCategories() {
@@ -318,5 +440,198 @@ class ProductControllerTest {
         assertFalse(result.isEmpty());
         assertEquals(Category.values().length, result.size());
     }
+
+    @Test
+    @DisplayName("Deve retornar a versão do cardápio")
+    void shouldReturnCatalogVersion() {
+        // Given
+        CatalogVersionDTO version = new CatalogVersionDTO(1L, 3L, Instant.now());
+        when(compositeDataSource.productCatalogVersion()).thenReturn(version);
+
+        // When
+        CatalogVersionDTO result = productController.catalogVersion();
+
+        // Then
+        assertEquals(version, result);
+        verify(compositeDataSource, times(1)).productCatalogVersion();
+    }
+
+    @Test
+    @DisplayName("Deve listar uma página de produtos com o próximo cursor")
+    void shouldListPage() {
+        // Given
+        UUID id = UUID.randomUUID();
+        PageRequestDTO request = new PageRequestDTO(null, 1);
+        ProductDTO dto = new ProductDTO(id, "Batata", "Batata frita", new BigDecimal("12.00"), Category.ACOMPANHAMENTO, ProductStatus.DISPONIVEL, "b.png");
+        when(compositeDataSource.listProductsPage(request)).thenReturn(new PageDTO<>(List.of(dto), "next"));
+
+        // When
+        PageDTO<ProductResponseDTO> result = productController.listPage(request);
+
+        // Then
+        assertEquals(id, result.items().get(0).id());
+        assertEquals("ACOMPANHAMENTO", result.items().get(0).category());
+        assertEquals("next", result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve exportar os produtos já convertidos para resposta")
+    void shouldExportProducts() {
+        // Given
+        UUID id = UUID.randomUUID();
+        ProductDTO dto = new ProductDTO(id, "Pudim", "Pudim de leite", new BigDecimal("9.00"), Category.SOBREMESA, ProductStatus.INDISPONIVEL, "p.png");
+        doAnswer(invocation -> {
+            Consumer<ProductDTO> sink = invocation.getArgument(0);
+            sink.accept(dto);
+            return null;
+        }).when(compositeDataSource).forEachProduct(any());
+        List<ProductResponseDTO> exported = new ArrayList<>();
+
+        // When
+        productController.export(exported::add);
+
+        // Then
+        assertEquals(1, exported.size());
+        assertEquals(id, exported.get(0).id());
+        assertEquals("SOBREMESA", exported.get(0).category());
+    }
+
+    @Test
+    @DisplayName("Deve consultar vários produtos por ID separando disponíveis, indisponíveis e inexistentes")
+    void shouldFindBatch() {
+        // Given
+        UUID availableId = UUID.randomUUID();
+        UUID unavailableId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(availableId, unavailableId, missingId);
+        when(compositeDataSource.findProductsByIds(anyCollection())).thenReturn(List.of(
+                new ProductDTO(availableId, "X-Burger", "Hambúrguer", new BigDecimal("20.00"), Category.LANCHE, ProductStatus.DISPONIVEL, "x.png"),
+                new ProductDTO(unavailableId, "Suco", "Suco natural", new BigDecimal("8.00"), Category.BEBIDA, ProductStatus.INDISPONIVEL, "s.png")));
+
+        // When
+        ProductBatchDTO<ProductResponseDTO> result = productController.findBatch(ids);
+
+        // Then
+        assertEquals(1, result.found().size());
+        assertEquals("X-Burger", result.found().get(0).name());
+        assertEquals(List.of(unavailableId), result.unavailable());
+        assertEquals(List.of(missingId), result.missing());
+        verify(compositeDataSource, never()).findProductById(any());
+    }
+
+    @Test
+    @DisplayName("Deve importar em lote e avisar os quiosques uma vez por lote gravado")
+    void shouldImportProductsAndPublishOncePerChunk() {
+        // Given
+        ProductChangePublisher publisher = mock(ProductChangePublisher.class);
+        ProductController controller = ProductController.build(compositeDataSource, publisher);
+        ProductImportRowDTO row = ProductImportRowDTO.builder()
+                .row(1)
+                .name("X-Burger")
+                .product(CreateProductInputDTO.builder()
+                        .name("X-Burger")
+                        .description("Hambúrguer")
+                        .price(new BigDecimal("20.50"))
+                        .category(Category.LANCHE)
+                        .status(ProductStatus.DISPONIVEL)
+                        .image("x.png")
+                        .build())
+                .build();
+        when(compositeDataSource.upsertProductsByName(anyList())).thenAnswer(invocation -> {
+            List<ProductDTO> products = invocation.getArgument(0);
+            return products.stream().map(product -> ProductDTO.builder()
+                    .id(UUID.randomUUID())
+                    .name(product.name())
+                    .description(product.description())
+                    .price(product.price())
+                    .category(product.category())
+                    .status(product.status())
+                    .image(product.image())
+                    .build()).toList();
+        });
+
+        // When
+        ProductImportReportDTO report = controller.importProducts(List.of(row).iterator());
+
+        // Then
+        assertEquals(1, report.imported());
+        verify(compositeDataSource, times(1)).upsertProductsByName(anyList());
+        verify(compositeDataSource, never()).saveProduct(any());
+        verify(publisher, times(1)).publish(ProductChangeDTO.builder().type(ProductChangeType.IMPORTED).build());
+    }
+
+    @Test
+    @DisplayName("Deve orçar o carrinho a partir de uma única consulta ao data source")
+    void shouldQuoteCart() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(compositeDataSource.findProductPricesByIds(anyCollection())).thenReturn(List.of(
+                new ProductPriceDTO(id, "X-Burger", ProductStatus.DISPONIVEL, 2050)));
+
+        // When
+        QuoteDTO result = productController.quote(List.of(new CartItemDTO(id, 2), new CartItemDTO(id, 1)));
+
+        // Then
+        assertTrue(result.orderable());
+        assertEquals(2, result.lines().size());
+        assertEquals(new BigDecimal("61.50"), result.total());
+        verify(compositeDataSource, times(1)).findProductPricesByIds(anyCollection());
+        verify(compositeDataSource, never()).findProductById(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar produtos pelo nome limitando a quantidade de resultados")
+    void shouldSearchProducts() {
+        // Given
+        UUID id = UUID.randomUUID();
+        ProductDTO dto = new ProductDTO(id, "Açaí", "Açaí na tigela", new BigDecimal("15.00"), Category.SOBREMESA, ProductStatus.DISPONIVEL, "a.png");
+        when(compositeDataSource.searchProducts("aca", SearchProductsUseCase.MAX_LIMIT)).thenReturn(List.of(dto));
+
+        // When
+        List<ProductResponseDTO> result = productController.search("aca", 500);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(id, result.get(0).id());
+        assertEquals("Açaí", result.get(0).name());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar página com tamanho zero")
+    void shouldRejectEmptyPage() {
+        assertThrows(IllegalArgumentException.class, () -> productController.listPage(new PageRequestDTO(null, 0)));
+        verify(compositeDataSource, never()).listProductsPage(any());
+    }
+
+    @Test
+    @DisplayName("Deve listar as alterações do cardápio com produtos e tombstones")
+    void shouldListChangesSinceVersion() {
+        // Given
+        UUID updatedId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        ProductDTO updated = ProductDTO.builder()
+                .id(updatedId)
+                .name("X-Burger")
+                .description("Hambúrguer")
+                .price(new BigDecimal("20.00"))
+                .category(Category.LANCHE)
+                .status(ProductStatus.INDISPONIVEL)
+                .image("x.png")
+                .build();
+        ProductTombstoneDTO deleted = new ProductTombstoneDTO(deletedId, Category.BEBIDA, 6L);
+        when(compositeDataSource.listProductChangesSince(4L))
+                .thenReturn(new ProductChangesDTO(6L, false, List.of(updated), List.of(deleted)));
+
+        // When
+        ProductChangesResponseDTO result = productController.listChangesSince(4L);
+
+        // Then
+        assertEquals(6L, result.version());
+        assertFalse(result.resync());
+        assertEquals(1, result.upserted().size());
+        assertEquals(updatedId, result.upserted().get(0).id());
+        assertEquals("INDISPONIVEL", result.upserted().get(0).status());
+        assertEquals(List.of(deleted), result.deleted());
+    }
 }
 
@@ -91,7 +91,7 @@ class AttendantControllerTest {
         when(attendantDto.cpf()).thenReturn("111.222.333-44");
 
         when(compositeDataSource.findFirstAttendantById(attendantId)).thenReturn(attendantDto);
-        when(compositeDataSource.saveAttendant(any(AttendantDTO.class))).thenReturn(attendantDto);
+        when(compositeDataSource.updateAttendant(any(AttendantDTO.class), any(AttendantDTO.class))).thenReturn(attendantDto);
 
         AttendantInputDTO updatedInputDTO = new AttendantInputDTO(
                 "Carlos Oliveira Silva",
@@ -110,7 +110,7 @@ class AttendantControllerTest {
         assertEquals("111.222.333-44", result.cpf());
 
         verify(compositeDataSource, times(1)).findFirstAttendantById(attendantId);
-        verify(compositeDataSource, times(1)).saveAttendant(any(AttendantDTO.class));
+        verify(compositeDataSource, times(1)).updateAttendant(any(AttendantDTO.class), any(AttendantDTO.class));
     }
 
     @Test
@@ -1,5 +1,7 @@
 package com.fiap.techChallenge.core.controller.user;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerAnonymDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerInputDTO;
@@ -11,9 +13,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -126,7 +130,7 @@ class CustomerControllerTest {
         when(customerDTO.anonymous()).thenReturn(false);
 
         when(compositeDataSource.findFirstCustomerById(customerId)).thenReturn(customerDTO);
-        when(compositeDataSource.saveCustomer(any(CustomerFullDTO.class))).thenReturn(customerDTO);
+        when(compositeDataSource.updateCustomer(any(CustomerFullDTO.class), any(CustomerFullDTO.class))).thenReturn(customerDTO);
 
         // When
         CustomerFullDTO result = (CustomerFullDTO) customerController.update(customerId, customerInputDTO);
@@ -139,7 +143,7 @@ class CustomerControllerTest {
         assertEquals("123.456.789-01", result.cpf());
 
         verify(compositeDataSource, times(1)).findFirstCustomerById(customerId);
-        verify(compositeDataSource, times(1)).saveCustomer(any(CustomerFullDTO.class));
+        verify(compositeDataSource, times(1)).updateCustomer(any(CustomerFullDTO.class), any(CustomerFullDTO.class));
     }
 
     @Test
@@ -154,7 +158,7 @@ class CustomerControllerTest {
 
         UUID anonymousId = UUID.randomUUID();
         when(compositeDataSource.findFirstCustomerById(anonymousId)).thenReturn(anonymousCustomer);
-        when(compositeDataSource.saveCustomer(any(CustomerFullDTO.class))).thenReturn(anonymousCustomer);
+        when(compositeDataSource.updateCustomer(any(CustomerFullDTO.class), any(CustomerFullDTO.class))).thenReturn(anonymousCustomer);
 
         // When
         CustomerAnonymDTO result = (CustomerAnonymDTO) customerController.update(anonymousId, anonymousCustomerInputDTO);
@@ -164,7 +168,7 @@ class CustomerControllerTest {
         assertNotNull(result.id());
 
         verify(compositeDataSource, times(1)).findFirstCustomerById(anonymousId);
-        verify(compositeDataSource, times(1)).saveCustomer(any(CustomerFullDTO.class));
+        verify(compositeDataSource, times(1)).updateCustomer(any(CustomerFullDTO.class), any(CustomerFullDTO.class));
     }
 
     @Test
@@ -299,4 +303,42 @@ class CustomerControllerTest {
 
         verify(compositeDataSource, times(1)).findAllCustomerNotAnonym();
     }
+
+    @Test
+    @DisplayName("Deve listar uma página de clientes não anônimos com CPF formatado")
+    void shouldListNotAnonymPage() {
+        // Given
+        PageRequestDTO request = new PageRequestDTO(null, 1);
+        CustomerFullDTO stored = new CustomerFullDTO(customerId, "João Silva", "12345678901", "joao.silva@email.com", false);
+        when(compositeDataSource.findCustomersNotAnonymPage(request)).thenReturn(new PageDTO<>(List.of(stored), "next"));
+
+        // When
+        PageDTO<CustomerFullDTO> result = customerController.listNotAnonymPage(request);
+
+        // Then
+        assertEquals(1, result.items().size());
+        assertEquals(customerId, result.items().get(0).id());
+        assertEquals("123.456.789-01", result.items().get(0).cpf());
+        assertEquals("next", result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve exportar clientes não anônimos com CPF formatado")
+    void shouldExportNotAnonym() {
+        // Given
+        CustomerFullDTO stored = new CustomerFullDTO(customerId, "João Silva", "12345678901", "joao.silva@email.com", false);
+        doAnswer(invocation -> {
+            Consumer<CustomerFullDTO> sink = invocation.getArgument(0);
+            sink.accept(stored);
+            return null;
+        }).when(compositeDataSource).forEachCustomerNotAnonym(any());
+        List<CustomerFullDTO> exported = new ArrayList<>();
+
+        // When
+        customerController.exportNotAnonym(exported::add);
+
+        // Then
+        assertEquals(1, exported.size());
+        assertEquals("123.456.789-01", exported.get(0).cpf());
+    }
 }
@@ -66,6 +66,21 @@ class AttendantGatewayImplTest {
         verify(compositeDataSource, times(1)).saveAttendant(any(AttendantDTO.class));
     }
 
+    @Test
+    @DisplayName("Deve enviar ao DataSource o atendente lido e o alterado")
+    void updateShouldPassCurrentAndChangedDTOs() {
+        // Arrange
+        Attendant changed = Attendant.build(testId, testName, "novo@empresa.com", testCpf);
+
+        // Act
+        Attendant result = attendantGateway.update(testAttendant, changed);
+
+        // Assert
+        assertSame(changed, result);
+        verify(compositeDataSource).updateAttendant(testAttendantDTO,
+                new AttendantDTO(testId, testName, "novo@empresa.com", testCpf));
+    }
+
     @Test
     @DisplayName("Deve chamar o DataSource com o DTO correto")
     void saveShouldCallDataSourceWithCorrectDTO() {
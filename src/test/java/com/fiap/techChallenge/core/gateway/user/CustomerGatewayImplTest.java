@@ -1,5 +1,7 @@
 package com.fiap.techChallenge.core.gateway.user;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
 import com.fiap.techChallenge.core.application.dto.user.CustomerFullDTO;
 import com.fiap.techChallenge.core.domain.entities.user.customer.Customer;
 import com.fiap.techChallenge.core.gateways.user.CustomerGatewayImpl;
@@ -10,9 +12,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -69,6 +73,21 @@ class CustomerGatewayImplTest {
         verify(compositeDataSource, times(1)).saveCustomer(any(CustomerFullDTO.class));
     }
 
+    @Test
+    @DisplayName("Deve enviar ao DataSource o cliente lido e o alterado")
+    void updateShouldPassCurrentAndChangedDTOs() {
+        // Arrange
+        Customer changed = Customer.build(testId, "João Souza", testEmail, testCpf, testAnonymous);
+
+        // Act
+        Customer result = customerGateway.update(testCustomer, changed);
+
+        // Assert
+        assertSame(changed, result);
+        verify(compositeDataSource).updateCustomer(testCustomerDTO,
+                new CustomerFullDTO(testId, "João Souza", testCpf, testEmail, testAnonymous));
+    }
+
     @Test
     @DisplayName("Deve chamar o DataSource com o DTO correto")
     void saveShouldCallDataSourceWithCorrectDTO() {
@@ -190,6 +209,44 @@ class CustomerGatewayImplTest {
         verify(compositeDataSource, times(1)).findAllCustomerNotAnonym();
     }
 
+    @Test
+    @DisplayName("Deve converter a página de clientes não anônimos mantendo o cursor")
+    void findNotAnonymousPageShouldConvertCustomers() {
+        // Arrange
+        PageRequestDTO request = new PageRequestDTO("cursor", 1);
+        when(compositeDataSource.findCustomersNotAnonymPage(request)).thenReturn(new PageDTO<>(List.of(testCustomerDTO), "next"));
+
+        // Act
+        PageDTO<Customer> result = customerGateway.findNotAnonymousPage(request);
+
+        // Assert
+        assertEquals(1, result.items().size());
+        assertEquals(testId, result.items().get(0).getId());
+        assertEquals(testCpf, result.items().get(0).getUnformattedCpf());
+        assertEquals("next", result.nextCursor());
+        verify(compositeDataSource, times(1)).findCustomersNotAnonymPage(request);
+    }
+
+    @Test
+    @DisplayName("Deve converter cada cliente exportado para o domínio")
+    void forEachNotAnonymousShouldConvertCustomers() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<CustomerFullDTO> sink = invocation.getArgument(0);
+            sink.accept(testCustomerDTO);
+            return null;
+        }).when(compositeDataSource).forEachCustomerNotAnonym(any());
+        List<Customer> exported = new ArrayList<>();
+
+        // Act
+        customerGateway.forEachNotAnonymous(exported::add);
+
+        // Assert
+        assertEquals(1, exported.size());
+        assertEquals(testId, exported.get(0).getId());
+        assertEquals(testEmail, exported.get(0).getEmail());
+    }
+
     @Test
     @DisplayName("Deve retornar lista vazia quando não existirem clientes não anônimos")
     void findAllNotAnonymousShouldReturnEmptyListWhenNoCustomersExist() {
@@ -1,5 +1,9 @@
 package com.fiap.techChallenge.core.gateways.product;
 
+import com.fiap.techChallenge.core.application.dto.page.PageDTO;
+import com.fiap.techChallenge.core.application.dto.page.PageRequestDTO;
+import com.fiap.techChallenge.core.application.dto.product.CatalogVersionDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.Category;
@@ -13,12 +17,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -248,56 +257,129 @@ class ProductGatewayImplTest {
     }
 
     @Test
-    @DisplayName("Deve retornar true quando produto existe por nome")
-    void shouldReturnTrueWhenProductExistsByName() {
+    @DisplayName("Deve repassar a versão do cardápio")
+    void shouldReturnCatalogVersion() {
         // Given
-        String productName = "Hambúrguer";
-        when(compositeDataSource.findProductByName(productName)).thenReturn(testProductDTO);
+        CatalogVersionDTO version = new CatalogVersionDTO(1L, 2L, Instant.now());
+        when(compositeDataSource.productCatalogVersion()).thenReturn(version);
 
         // When
-        boolean exists = productGateway.existisByName(productName);
+        CatalogVersionDTO result = productGateway.catalogVersion();
 
         // Then
-        assertTrue(exists);
-        verify(compositeDataSource, times(1)).findProductByName(productName);
+        assertEquals(version, result);
     }
 
     @Test
-    @DisplayName("Deve retornar false quando produto não existe por nome")
-    void shouldReturnFalseWhenProductNotExistsByName() {
+    @DisplayName("Deve buscar vários produtos por ID em uma única chamada ao data source")
+    void shouldFindAllByIds() {
         // Given
-        String productName = "Inexistente";
-        when(compositeDataSource.findProductByName(productName)).thenReturn(null);
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(testProductDTO.id(), missingId);
+        when(compositeDataSource.findProductsByIds(ids)).thenReturn(List.of(testProductDTO));
 
         // When
-        boolean exists = productGateway.existisByName(productName);
+        List<Product> result = productGateway.findAllByIds(ids);
 
         // Then
-        assertFalse(exists);
-        verify(compositeDataSource, times(1)).findProductByName(productName);
+        assertEquals(1, result.size());
+        assertEquals(testProductDTO.id(), result.get(0).getId());
+        verify(compositeDataSource, never()).findProductById(any());
     }
 
     @Test
-    @DisplayName("Deve retornar false quando produto encontrado não tem ID")
-    void shouldReturnFalseWhenProductFoundHasNoId() {
+    @DisplayName("Deve gravar os produtos em lote e devolvê-los com os IDs atribuídos")
+    void shouldUpsertAllByName() {
         // Given
-        String productName = "Produto sem ID";
-        ProductDTO productWithoutId = new ProductDTO(
-                null,
-                productName,
-                "Descrição",
-                new BigDecimal("25.50"),
-                Category.LANCHE,
-                ProductStatus.DISPONIVEL,
-                "image.png"
-        );
-        when(compositeDataSource.findProductByName(productName)).thenReturn(productWithoutId);
+        Product product = Product.build(null, "Pão de Queijo", "Pão de queijo mineiro", new BigDecimal("6.00"),
+                Category.ACOMPANHAMENTO, ProductStatus.DISPONIVEL, "p.png");
+        UUID id = UUID.randomUUID();
+        when(compositeDataSource.upsertProductsByName(anyList())).thenAnswer(invocation -> {
+            List<ProductDTO> dtos = invocation.getArgument(0);
+            ProductDTO dto = dtos.get(0);
+            return List.of(new ProductDTO(id, dto.name(), dto.description(), dto.price(), dto.category(), dto.status(), dto.image()));
+        });
+
+        // When
+        List<Product> result = productGateway.upsertAllByName(List.of(product));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(id, result.get(0).getId());
+        assertEquals("Pão de Queijo", result.get(0).getName());
+        verify(compositeDataSource, never()).saveProduct(any());
+    }
+
+    @Test
+    @DisplayName("Deve converter os produtos encontrados na busca para o domínio")
+    void shouldSearchProducts() {
+        // Given
+        UUID id = UUID.randomUUID();
+        ProductDTO dto = new ProductDTO(id, "Pão de Queijo", "Pão de queijo mineiro", new BigDecimal("6.00"), Category.ACOMPANHAMENTO, ProductStatus.DISPONIVEL, "p.png");
+        when(compositeDataSource.searchProducts("pao", 10)).thenReturn(List.of(dto));
+
+        // When
+        List<Product> result = productGateway.search("pao", 10);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(id, result.get(0).getId());
+        assertEquals("Pão de Queijo", result.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Deve converter a página de produtos mantendo o cursor")
+    void shouldListPage() {
+        // Given
+        UUID id = UUID.randomUUID();
+        PageRequestDTO request = new PageRequestDTO(null, 1);
+        ProductDTO dto = new ProductDTO(id, "X-Burger", "Hambúrguer", new BigDecimal("20.00"), Category.LANCHE, ProductStatus.DISPONIVEL, "x.png");
+        when(compositeDataSource.listProductsPage(request)).thenReturn(new PageDTO<>(List.of(dto), "next"));
+
+        // When
+        PageDTO<Product> result = productGateway.listPage(request);
+
+        // Then
+        assertEquals(1, result.items().size());
+        assertEquals(id, result.items().get(0).getId());
+        assertEquals("X-Burger", result.items().get(0).getName());
+        assertEquals("next", result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve converter cada produto exportado para o domínio")
+    void shouldExportProducts() {
+        // Given
+        UUID id = UUID.randomUUID();
+        ProductDTO dto = new ProductDTO(id, "Suco", "Suco de laranja", new BigDecimal("8.00"), Category.BEBIDA, ProductStatus.DISPONIVEL, "s.png");
+        doAnswer(invocation -> {
+            Consumer<ProductDTO> sink = invocation.getArgument(0);
+            sink.accept(dto);
+            return null;
+        }).when(compositeDataSource).forEachProduct(any());
+        List<Product> exported = new ArrayList<>();
+
+        // When
+        productGateway.forEach(exported::add);
+
+        // Then
+        assertEquals(1, exported.size());
+        assertEquals(id, exported.get(0).getId());
+        assertEquals(Category.BEBIDA, exported.get(0).getCategory());
+    }
+
+    @Test
+    @DisplayName("Deve repassar as alterações do cardápio desde a versão informada")
+    void shouldReturnChangesSinceVersion() {
+        // Given
+        ProductChangesDTO changes = new ProductChangesDTO(4L, false, List.of(), List.of());
+        when(compositeDataSource.listProductChangesSince(2L)).thenReturn(changes);
 
         // When
-        boolean exists = productGateway.existisByName(productName);
+        ProductChangesDTO result = productGateway.listChangesSince(2L);
 
         // Then
-        assertFalse(exists);
+        assertEquals(changes, result);
     }
 }
 
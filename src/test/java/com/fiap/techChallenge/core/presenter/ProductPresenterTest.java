@@ -1,6 +1,10 @@
 package com.fiap.techChallenge.core.presenter;
 
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductChangesResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductDTO;
 import com.fiap.techChallenge.core.application.dto.product.ProductResponseDTO;
+import com.fiap.techChallenge.core.application.dto.product.ProductTombstoneDTO;
 import com.fiap.techChallenge.core.domain.entities.product.Product;
 import com.fiap.techChallenge.core.domain.enums.Category;
 import com.fiap.techChallenge.core.domain.enums.ProductStatus;
@@ -8,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,5 +48,33 @@ class ProductPresenterTest {
         assertEquals(ProductStatus.DISPONIVEL.toString(), dto.status());
         assertEquals("hamburger.png", dto.image());
     }
+
+    @Test
+    @DisplayName("Deve converter as alterações do cardápio mantendo versão, resync e tombstones")
+    void shouldConvertChangesToDTO() {
+        // Given
+        UUID productId = UUID.randomUUID();
+        ProductDTO product = ProductDTO.builder()
+                .id(productId)
+                .name("Suco")
+                .description("Suco de laranja")
+                .price(new BigDecimal("8.00"))
+                .category(Category.BEBIDA)
+                .status(ProductStatus.DISPONIVEL)
+                .image("suco.png")
+                .build();
+        ProductTombstoneDTO tombstone = new ProductTombstoneDTO(UUID.randomUUID(), Category.LANCHE, 9L);
+
+        // When
+        ProductChangesResponseDTO dto = ProductPresenter.toDTO(new ProductChangesDTO(9L, true, List.of(product), List.of(tombstone)));
+
+        // Then
+        assertEquals(9L, dto.version());
+        assertTrue(dto.resync());
+        assertEquals(productId, dto.upserted().get(0).id());
+        assertEquals(Category.BEBIDA.toString(), dto.upserted().get(0).category());
+        assertEquals(ProductStatus.DISPONIVEL.toString(), dto.upserted().get(0).status());
+        assertEquals(List.of(tombstone), dto.deleted());
+    }
 }
 
@@ -18,7 +18,7 @@ Funcionalidade: Criar Produto
     E o produto deve ter a categoria "LANCHE"
     E o produto deve ter o status "DISPONIVEL"
     E o produto deve ter a imagem "bacon_burger.png"
-    E o gateway deve verificar a unicidade do nome antes de salvar
+    E o gateway deve salvar sem consultar o nome antes
     E o gateway deve salvar o produto
 
   @falha
@@ -27,5 +27,5 @@ Funcionalidade: Criar Produto
     Quando eu tentar criar um produto com o nome "Hambúrguer de Bacon"
     Então deve ser lançada uma exceção do tipo NameAlreadyRegisteredException
     E a mensagem da exceção deve conter "Hambúrguer de Bacon"
-    E o produto não deve ser salvo
+    E o produto não deve ser criado
 